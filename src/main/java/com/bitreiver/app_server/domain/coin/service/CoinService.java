@@ -9,5 +9,11 @@ public interface CoinService {
     CoinResponse getCoinById(Integer id);
     List<CoinResponse> getCoinsByExchange(String exchange);
     List<CoinResponse> getAllCoinsByQuoteCurrency(String quoteCurrency);
+    /**
+     * 코인 목록 캐시 무효화
+     *
+     * @return 무효화 성공 여부 (Redis 오류 시 false)
+     */
+    boolean invalidateCoinCache();
 }
 
@@ -20,25 +20,25 @@ public class CoinServiceImpl implements CoinService {
     private final CoinRepository coinRepository;
     private final RedisCacheService redisCacheService;
 
-    private static final String ALL_COINS_CACHE_KEY = "all_coins";
-    private static final String EXCHANGE_PREFIX_CACHE_KEY = "coins:exchange:";
+    private static final String CACHE_NAMESPACE = "coins";
+    private static final String ALL_COINS_CACHE_KEY = "all";
+    private static final String EXCHANGE_PREFIX_CACHE_KEY = "exchange:";
+    private static final long CACHE_TTL_SECONDS = 86400; // 1일
     private static final TypeReference<List<CoinResponse>> COIN_LIST_TYPE = new TypeReference<List<CoinResponse>>() {};
 
     private String getCacheKey(String exchange) {
-        return exchange != null ? EXCHANGE_PREFIX_CACHE_KEY + exchange : ALL_COINS_CACHE_KEY;
+        // 코인 목록 변경 시 invalidateCoinCache로 전체 무효화되도록 세대 네임스페이스 사용
+        return redisCacheService.namespacedKey(CACHE_NAMESPACE,
+            exchange != null ? EXCHANGE_PREFIX_CACHE_KEY + exchange : ALL_COINS_CACHE_KEY);
     }
     
     @Override
     public List<CoinResponse> getAllCoins() {
         String cacheKey = getCacheKey(null);  // 모든 거래소 조회
 
-        return redisCacheService.get(cacheKey, COIN_LIST_TYPE)
-            .orElseGet(() -> {
-                List<Coin> coins = coinRepository.findAllByIsActive(true);
-                List<CoinResponse> coinResponses = coins.stream().map(CoinResponse::from).toList();
-                redisCacheService.set(cacheKey, coinResponses);
-                return coinResponses;
-            });
+        return redisCacheService.getOrLoad(cacheKey, COIN_LIST_TYPE, CACHE_TTL_SECONDS, () ->
+            coinRepository.findAllByIsActive(true).stream().map(CoinResponse::from).toList()
+        );
     }
     
     @Override
@@ -52,13 +52,9 @@ public class CoinServiceImpl implements CoinService {
     public List<CoinResponse> getCoinsByExchange(String exchange) {
         String cacheKey = getCacheKey(exchange);
 
-        return redisCacheService.get(cacheKey, COIN_LIST_TYPE)
-            .orElseGet(() -> {
-                List<Coin> coins = coinRepository.findByExchangeAndIsActive(exchange, true);
-                List<CoinResponse> coinResponses = coins.stream().map(CoinResponse::from).toList();
-                redisCacheService.set(cacheKey, coinResponses);
-                return coinResponses;
-            });
+        return redisCacheService.getOrLoad(cacheKey, COIN_LIST_TYPE, CACHE_TTL_SECONDS, () ->
+            coinRepository.findByExchangeAndIsActive(exchange, true).stream().map(CoinResponse::from).toList()
+        );
     }
 
     @Override
@@ -66,5 +62,9 @@ public class CoinServiceImpl implements CoinService {
         List<Coin> coins = coinRepository.findAllByQuoteCurrencyAndIsActive(quoteCurrency, true);
         return coins.stream().map(CoinResponse::from).toList();
     }
-}
 
+    @Override
+    public boolean invalidateCoinCache() {
+        return redisCacheService.invalidateNamespace(CACHE_NAMESPACE) >= 0;
+    }
+}
@@ -6,6 +6,7 @@ import com.bitreiver.app_server.domain.community.dto.CommunityCommentResponse;
 import com.bitreiver.app_server.domain.community.enums.ReactionType;
 import com.bitreiver.app_server.domain.community.service.CommunityCommentService;
 import com.bitreiver.app_server.domain.community.service.CommunityCommentReactionService;
+import com.bitreiver.app_server.global.common.dto.CursorResponse;
 import com.bitreiver.app_server.global.common.dto.PageResponse;
 import com.bitreiver.app_server.global.common.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -71,6 +72,29 @@ public class CommunityCommentController {
         return ApiResponse.success(response);
     }
     
+    @Operation(summary = "대댓글 목록 조회 (커서)", description = "댓글 목록에서 미리보기로 내려준 이후의 대댓글을 작성 순으로 이어서 조회합니다. (인증 불필요)")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "댓글을 찾을 수 없습니다.")
+    })
+    @GetMapping("/{id}/replies")
+    public ApiResponse<CursorResponse<CommunityCommentResponse>> getReplies(
+        @Parameter(description = "게시글 ID", required = true)
+        @PathVariable("communityId") Integer communityId,
+        @Parameter(description = "부모 댓글 ID", required = true)
+        @PathVariable("id") Long id,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @Parameter(description = "페이지 크기", example = "20")
+        @RequestParam(value = "size", defaultValue = "20") int size,
+        Authentication authentication
+    ) {
+        UUID userId = authentication != null ? UUID.fromString(authentication.getName()) : null;
+        CursorResponse<CommunityCommentResponse> response = communityCommentService.getReplies(communityId, id, userId, cursor, size);
+        return ApiResponse.success(response);
+    }
+    
     @Operation(summary = "댓글 수정", description = "댓글을 수정합니다.")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "수정 성공"),
@@ -6,12 +6,17 @@ import com.bitreiver.app_server.domain.community.dto.CommunityResponse;
 import com.bitreiver.app_server.domain.community.dto.CommunitySearchByHashtagRequest;
 import com.bitreiver.app_server.domain.community.dto.CommunitySearchRequest;
 import com.bitreiver.app_server.domain.community.dto.CommunityReactionRequest;
+import com.bitreiver.app_server.domain.community.dto.TrendingHashtagResponse;
 import com.bitreiver.app_server.domain.community.enums.Category;
 import com.bitreiver.app_server.domain.community.enums.ReactionType;
+import com.bitreiver.app_server.domain.community.enums.TrendWindow;
 import com.bitreiver.app_server.domain.community.service.CommunityService;
 import com.bitreiver.app_server.domain.community.service.CommunityServiceImpl;
 import com.bitreiver.app_server.domain.community.service.CommunityImageService;
 import com.bitreiver.app_server.domain.community.service.CommunityReactionService;
+import com.bitreiver.app_server.domain.community.service.CommunityHashtagTrendService;
+import com.bitreiver.app_server.domain.community.service.CommunityViewCounter;
+import com.bitreiver.app_server.global.common.dto.CursorResponse;
 import com.bitreiver.app_server.global.common.dto.PageResponse;
 import com.bitreiver.app_server.global.common.exception.CustomException;
 import com.bitreiver.app_server.global.common.exception.ErrorCode;
@@ -23,6 +28,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -46,6 +52,7 @@ public class CommunityController {
     private final CommunityService communityService;
     private final CommunityImageService communityImageService;
     private final CommunityReactionService communityReactionService;
+    private final CommunityHashtagTrendService communityHashtagTrendService;
     private final ObjectMapper objectMapper = new ObjectMapper();
     
     @Operation(summary = "게시글 작성", description = "새로운 커뮤니티 게시글을 작성합니다.")
@@ -83,10 +90,12 @@ public class CommunityController {
     public ApiResponse<CommunityResponse> getCommunityById(
         @Parameter(description = "게시글 ID", required = true)
         @PathVariable("id") Integer id,
-        Authentication authentication
+        Authentication authentication,
+        HttpServletRequest request
     ) {
         UUID userId = authentication != null ? UUID.fromString(authentication.getName()) : null;
-        CommunityResponse response = communityService.getCommunityById(id, userId);
+        String viewerKey = CommunityViewCounter.viewerKey(userId, clientIp(request), request.getHeader(HttpHeaders.USER_AGENT));
+        CommunityResponse response = communityService.viewCommunity(id, userId, viewerKey);
         return ApiResponse.success(response);
     }
     
@@ -125,6 +134,51 @@ public class CommunityController {
         }
     }
     
+    @Operation(summary = "게시글 인기순 목록 조회", description = "좋아요/댓글 수와 작성 후 경과 시간으로 계산한 인기순으로 최근 게시글을 조회합니다. (인증 불필요)")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
+    })
+    @GetMapping("/hot")
+    public ApiResponse<PageResponse<CommunityListResponse>> getHotCommunities(
+        @Parameter(description = "카테고리", example = "FREE")
+        @RequestParam(value = "category", required = false) String category,
+        @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
+        @RequestParam(value = "page", defaultValue = "0") int page,
+        @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+        @RequestParam(value = "size", defaultValue = "20") int size,
+        Authentication authentication
+    ) {
+        UUID userId = authentication != null ? UUID.fromString(authentication.getName()) : null;
+        Category categoryEnum = category != null ? Category.fromCode(category) : null;
+        PageResponse<CommunityListResponse> response = communityService.getHotCommunities(categoryEnum, page, size, userId);
+        return ApiResponse.success(response);
+    }
+    
+    @Operation(summary = "게시글 목록 커서 조회", description = "게시글 목록을 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청에 전달합니다. (인증 불필요)")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
+    })
+    @GetMapping("/cursor")
+    public ApiResponse<CursorResponse<CommunityListResponse>> getCommunitiesByCursor(
+        @Parameter(description = "카테고리", example = "FREE")
+        @RequestParam(value = "category", required = false) String category,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+        @RequestParam(value = "size", defaultValue = "20") int size,
+        @Parameter(description = "전체 개수 포함 여부")
+        @RequestParam(value = "includeTotal", defaultValue = "false") boolean includeTotal,
+        Authentication authentication
+    ) {
+        UUID userId = authentication != null ? UUID.fromString(authentication.getName()) : null;
+        Category categoryEnum = category != null ? Category.fromCode(category) : null;
+        CursorResponse<CommunityListResponse> response = communityService.getCommunitiesByCursor(
+            categoryEnum, cursor, size, includeTotal, userId
+        );
+        return ApiResponse.success(response);
+    }
+    
     @Operation(summary = "게시글 검색", description = "해시태그로 게시글을 검색합니다. (인증 불필요)")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "검색 성공")
@@ -154,6 +208,47 @@ public class CommunityController {
         return ApiResponse.success(response);
     }
     
+    @Operation(summary = "게시글 전문 검색", description = "제목과 본문 텍스트로 게시글을 검색합니다. 관련도 순으로 정렬되며, 응답의 nextCursor를 다음 요청에 전달합니다. (인증 불필요)")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "검색 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "검색어 필수 또는 유효하지 않은 커서")
+    })
+    @GetMapping("/search/text")
+    public ApiResponse<CursorResponse<CommunityListResponse>> searchCommunitiesByText(
+        @Parameter(description = "검색어", required = true, example = "비트코인 반감기")
+        @RequestParam(value = "q") String query,
+        @Parameter(description = "카테고리 (선택)", example = "FREE")
+        @RequestParam(value = "category", required = false) String category,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+        @RequestParam(value = "size", defaultValue = "20") int size,
+        Authentication authentication
+    ) {
+        UUID userId = authentication != null ? UUID.fromString(authentication.getName()) : null;
+        Category categoryEnum = category != null ? Category.fromCode(category) : null;
+        CursorResponse<CommunityListResponse> response = communityService.searchCommunitiesByText(
+            query, categoryEnum, cursor, size, userId
+        );
+        return ApiResponse.success(response);
+    }
+    
+    @Operation(summary = "인기 해시태그 조회", description = "최근 구간(1h, 24h, 7d)의 인기 해시태그를 조회합니다. 최근 게시글일수록 가중치가 큽니다. (인증 불필요)")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "지원하지 않는 집계 구간")
+    })
+    @GetMapping("/hashtags/trending")
+    public ApiResponse<List<TrendingHashtagResponse>> getTrendingHashtags(
+        @Parameter(description = "집계 구간 (1h, 24h, 7d)", example = "24h")
+        @RequestParam(value = "window", defaultValue = "24h") String window,
+        @Parameter(description = "조회 개수 (최대 50)", example = "10")
+        @RequestParam(value = "limit", defaultValue = "10") int limit
+    ) {
+        List<TrendingHashtagResponse> response = communityHashtagTrendService.getTrending(TrendWindow.fromCode(window), limit);
+        return ApiResponse.success(response);
+    }
+    
     @Operation(summary = "게시글 수정", description = "게시글을 수정합니다.")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "수정 성공"),
@@ -295,9 +390,13 @@ public class CommunityController {
         }
     }
     
-    @Operation(summary = "게시글 이미지 조회", description = "게시글의 이미지를 파일명으로 조회합니다. (인증 불필요)")
+    @Operation(summary = "게시글 이미지 조회", description = "게시글의 이미지를 파일명으로 조회합니다. (인증 불필요) " +
+        "설정에 따라 presigned URL로 리다이렉트(302)하거나 직접 응답하며, 직접 응답 시 ETag/Last-Modified 조건부 요청(304)과 Range 요청(206)을 지원합니다.")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "206", description = "부분 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "302", description = "presigned URL로 이동"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "게시글 또는 이미지를 찾을 수 없습니다.")
     })
     @GetMapping("/{id}/images/{filename}")
@@ -305,21 +404,10 @@ public class CommunityController {
         @Parameter(description = "게시글 ID", required = true)
         @PathVariable("id") Integer id,
         @Parameter(description = "이미지 파일명 (예: 1_20250113150000.jpg)", required = true)
-        @PathVariable("filename") String filename
+        @PathVariable("filename") String filename,
+        @RequestHeader HttpHeaders headers
     ) {
-        // content에서 해당 파일명이 존재하는지 확인 (보안 검증)
-        CommunityResponse community = communityService.getCommunityById(id, null);
-        String imagePath = String.format("@communityImage/%d/%s", id, filename);
-        if (!isImagePathInContent(community.getContent(), imagePath)) {
-            throw new CustomException(ErrorCode.NOT_FOUND);
-        }
-        
-        // MinIO에서 이미지 다운로드
-        Resource resource = communityImageService.downloadImage(id, imagePath);
-        
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_TYPE, "image/jpeg")
-                .body(resource);
+        return communityImageService.deliverImage(id, filename, headers);
     }
     
     @Operation(summary = "게시글 이미지 삭제", description = "게시글의 이미지를 파일명으로 삭제합니다.")
@@ -511,4 +599,12 @@ public class CommunityController {
             throw new CustomException(ErrorCode.INTERNAL_ERROR, "이미지 삭제에 실패했습니다.");
         }
     }
+    
+    /**
+     * 클라이언트 IP. 요청 헤더(X-Forwarded-For)는 위조할 수 있으므로 직접 읽지 않고,
+     * 신뢰하는 프록시 뒤에서는 server.forward-headers-strategy 설정으로 반영된 remoteAddr를 사용
+     */
+    private static String clientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
 }
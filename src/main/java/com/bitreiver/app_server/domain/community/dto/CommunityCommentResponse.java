@@ -2,6 +2,7 @@ package com.bitreiver.app_server.domain.community.dto;
 
 import com.bitreiver.app_server.domain.community.entity.CommunityComment;
 import com.bitreiver.app_server.domain.community.enums.ReactionType;
+import com.bitreiver.app_server.global.util.CursorUtil;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -49,9 +50,18 @@ public class CommunityCommentResponse {
     @Schema(description = "사용자의 반응 (LIKE, DISLIKE, null)", example = "LIKE")
     private String userReaction;
     
-    @Schema(description = "대댓글 목록")
+    @Schema(description = "대댓글 목록 (최상위 댓글은 미리보기 개수까지만 포함)")
     private List<CommunityCommentResponse> replies;
     
+    @Schema(description = "전체 대댓글 개수", example = "12")
+    private Long replyCount;
+    
+    @Schema(description = "replies에 포함되지 않은 대댓글이 더 있는지 여부", example = "true")
+    private Boolean hasMoreReplies;
+    
+    @Schema(description = "나머지 대댓글 조회 시 cursor로 전달할 값 (hasMoreReplies가 false이면 null, 미리보기가 없으면 cursor 없이 첫 페이지부터 조회)")
+    private String repliesNextCursor;
+    
     @Schema(description = "삭제 여부", example = "false")
     private Boolean deleted;
     
@@ -70,6 +80,28 @@ public class CommunityCommentResponse {
         ReactionType userReaction,
         List<CommunityCommentResponse> replies
     ) {
+        return from(comment, userNickname, userProfileUrl, likeCount, dislikeCount, userReaction, replies,
+            replies != null ? replies.size() : 0L);
+    }
+    
+    public static CommunityCommentResponse from(
+        CommunityComment comment,
+        String userNickname,
+        String userProfileUrl,
+        Long likeCount,
+        Long dislikeCount,
+        ReactionType userReaction,
+        List<CommunityCommentResponse> replies,
+        long replyCount
+    ) {
+        int includedReplies = replies != null ? replies.size() : 0;
+        boolean hasMoreReplies = replyCount > includedReplies;
+        // 미리보기는 (created_at, id) 오름차순이므로 마지막 대댓글 위치부터 이어서 조회
+        String repliesNextCursor = null;
+        if (hasMoreReplies && includedReplies > 0) {
+            CommunityCommentResponse lastReply = replies.get(includedReplies - 1);
+            repliesNextCursor = CursorUtil.encode(lastReply.getCreatedAt(), lastReply.getId());
+        }
         return CommunityCommentResponse.builder()
             .id(comment.getId())
             .communityId(comment.getCommunityId())
@@ -82,6 +114,9 @@ public class CommunityCommentResponse {
             .dislikeCount(dislikeCount != null ? dislikeCount : 0L)
             .userReaction(userReaction != null ? userReaction.getCode() : null)
             .replies(replies != null ? replies : List.of())
+            .replyCount(replyCount)
+            .hasMoreReplies(hasMoreReplies)
+            .repliesNextCursor(repliesNextCursor)
             .deleted(comment.getDeleted())
             .createdAt(comment.getCreatedAt())
             .updatedAt(comment.getUpdatedAt())
@@ -11,7 +11,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "커뮤니티 게시글 목록 응답")
@@ -47,6 +47,9 @@ public class CommunityListResponse {
     @Schema(description = "댓글 개수", example = "15")
     private Long commentCount;
     
+    @Schema(description = "고유 조회수 (근사값)", example = "120")
+    private Long viewCount;
+    
     @Schema(description = "사용자의 반응 (LIKE, DISLIKE, null)", example = "LIKE")
     private String userReaction;
     
@@ -0,0 +1,34 @@
+package com.bitreiver.app_server.domain.community.dto;
+
+import com.bitreiver.app_server.domain.community.enums.CommunityLiveEventType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "게시글 실시간 이벤트 (/topic/communities/{communityId})")
+public class CommunityLiveEvent {
+    
+    @Schema(description = "이벤트 종류 (COMMENT_CREATED, COMMENT_DELETED, REACTION_COUNTS)", example = "COMMENT_CREATED")
+    private CommunityLiveEventType type;
+    
+    @Schema(description = "게시글 ID", example = "1")
+    private Integer communityId;
+    
+    @Schema(description = "작성된 댓글 (COMMENT_CREATED)")
+    private CommunityCommentResponse comment;
+    
+    @Schema(description = "삭제된 댓글 ID (COMMENT_DELETED)", example = "10")
+    private Long commentId;
+    
+    @Schema(description = "좋아요 개수 변화량 (REACTION_COUNTS, 직전 이벤트 이후 합계)", example = "3")
+    private Long likeDelta;
+    
+    @Schema(description = "싫어요 개수 변화량 (REACTION_COUNTS, 직전 이벤트 이후 합계)", example = "-1")
+    private Long dislikeDelta;
+}
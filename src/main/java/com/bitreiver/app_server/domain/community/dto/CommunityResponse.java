@@ -13,7 +13,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "커뮤니티 게시글 응답")
@@ -49,6 +49,9 @@ public class CommunityResponse {
     @Schema(description = "싫어요 개수", example = "2")
     private Long dislikeCount;
     
+    @Schema(description = "고유 조회수 (근사값)", example = "120")
+    private Long viewCount;
+    
     @Schema(description = "사용자의 반응 (LIKE, DISLIKE, null)", example = "LIKE")
     private String userReaction;
     
@@ -70,6 +73,7 @@ public class CommunityResponse {
             .hashtags(community.getHashtags())
             .likeCount(likeCount != null ? likeCount : 0L)
             .dislikeCount(dislikeCount != null ? dislikeCount : 0L)
+            .viewCount(community.getViewCount() != null ? community.getViewCount() : 0L)
             .userReaction(userReaction != null ? userReaction.getCode() : null)
             .createdAt(community.getCreatedAt())
             .updatedAt(community.getUpdatedAt())
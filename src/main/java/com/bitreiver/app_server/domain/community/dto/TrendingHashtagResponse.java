@@ -0,0 +1,24 @@
+package com.bitreiver.app_server.domain.community.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "인기 해시태그 응답")
+public class TrendingHashtagResponse {
+    
+    @Schema(description = "순위 (1부터 시작)", example = "1")
+    private int rank;
+    
+    @Schema(description = "해시태그", example = "비트코인")
+    private String hashtag;
+    
+    @Schema(description = "감쇠 가중치가 적용된 게시글 수", example = "12.5")
+    private double score;
+}
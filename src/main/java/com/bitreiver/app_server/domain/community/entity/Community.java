@@ -52,6 +52,36 @@ public class Community {
     @Column(name = "hashtags", columnDefinition = "text[]")
     private List<String> hashtags;
     
+    // 반응/댓글 개수 (쓰기 시 원자적 증감, CommunityCounterReconciler가 주기적으로 보정)
+    // 엔티티 저장 시 덮어쓰지 않도록 insert/update 대상에서 제외
+    @Column(name = "like_count", insertable = false, updatable = false, columnDefinition = "bigint not null default 0")
+    private Long likeCount;
+    
+    @Column(name = "dislike_count", insertable = false, updatable = false, columnDefinition = "bigint not null default 0")
+    private Long dislikeCount;
+    
+    @Column(name = "comment_count", insertable = false, updatable = false, columnDefinition = "bigint not null default 0")
+    private Long commentCount;
+    
+    // 고유 조회수 (Redis HyperLogLog 근사값을 CommunityViewCounter가 주기적으로 반영)
+    @Column(name = "view_count", insertable = false, updatable = false, columnDefinition = "bigint not null default 0")
+    private Long viewCount;
+    
+    // 목록용 간추린 텍스트/썸네일 (작성·수정 시 content에서 추출, CommunityPreviewBackfill이 기존 데이터 채움)
+    @Column(name = "preview_text", length = 100)
+    private String previewText;
+    
+    @Column(name = "thumbnail_path", length = 500)
+    private String thumbnailPath;
+    
+    @Column(name = "preview_extracted", nullable = false, columnDefinition = "boolean not null default false")
+    @Builder.Default
+    private Boolean previewExtracted = false;
+    
+    // 전문 검색용 (제목 + 본문 텍스트 토큰, GIN 인덱스). 쓰기는 CommunityRepository.updateSearchVector(IfMissing)로만 한다.
+    @Column(name = "search_vector", insertable = false, updatable = false, columnDefinition = "tsvector")
+    private String searchVector;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -17,6 +17,7 @@ import java.util.UUID;
     @Index(name = "idx_community_comments_user_id", columnList = "user_id"),
     @Index(name = "idx_community_comments_created_at", columnList = "created_at"),
     @Index(name = "idx_community_comments_community_parent", columnList = "community_id, parent_id"),
+    @Index(name = "idx_community_comments_parent_created_at", columnList = "parent_id, created_at"),
     @Index(name = "idx_community_comments_user_created_at", columnList = "user_id, created_at")
 })
 @Getter
@@ -47,6 +48,14 @@ public class CommunityComment {
     @Builder.Default
     private Boolean deleted = false;
     
+    // 반응 개수 (쓰기 시 원자적 증감, CommunityCounterReconciler가 주기적으로 보정)
+    // 엔티티 저장 시 덮어쓰지 않도록 insert/update 대상에서 제외
+    @Column(name = "like_count", insertable = false, updatable = false, columnDefinition = "bigint not null default 0")
+    private Long likeCount;
+    
+    @Column(name = "dislike_count", insertable = false, updatable = false, columnDefinition = "bigint not null default 0")
+    private Long dislikeCount;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
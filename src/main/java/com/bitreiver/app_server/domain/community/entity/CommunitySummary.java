@@ -0,0 +1,63 @@
+package com.bitreiver.app_server.domain.community.entity;
+
+import com.bitreiver.app_server.domain.community.converter.CategoryConverter;
+import com.bitreiver.app_server.domain.community.enums.Category;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 게시글 목록 조회용 읽기 전용 매핑 (communities 테이블).
+ * content(jsonb)를 매핑하지 않아 목록 조회 시 본문을 읽거나 파싱하지 않는다.
+ * 쓰기는 항상 Community 엔티티로 한다.
+ */
+@Entity
+@Immutable
+@Table(name = "communities")
+@Getter
+@NoArgsConstructor
+public class CommunitySummary {
+
+    @Id
+    @Column(name = "id")
+    private Integer id;
+
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Convert(converter = CategoryConverter.class)
+    @Column(name = "category")
+    private Category category;
+
+    @Column(name = "title")
+    private String title;
+
+    @Column(name = "hashtags", columnDefinition = "text[]")
+    private List<String> hashtags;
+
+    @Column(name = "like_count", columnDefinition = "bigint not null default 0")
+    private Long likeCount;
+
+    @Column(name = "dislike_count", columnDefinition = "bigint not null default 0")
+    private Long dislikeCount;
+
+    @Column(name = "comment_count", columnDefinition = "bigint not null default 0")
+    private Long commentCount;
+
+    @Column(name = "view_count", columnDefinition = "bigint not null default 0")
+    private Long viewCount;
+
+    @Column(name = "preview_text", length = 100)
+    private String previewText;
+
+    @Column(name = "thumbnail_path", length = 500)
+    private String thumbnailPath;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,14 @@
+package com.bitreiver.app_server.domain.community.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum CommunityLiveEventType {
+    COMMENT_CREATED("댓글 작성"),
+    COMMENT_DELETED("댓글 삭제"),
+    REACTION_COUNTS("반응 개수 변경");
+    
+    private final String koreanName;
+}
@@ -0,0 +1,30 @@
+package com.bitreiver.app_server.domain.community.enums;
+
+import com.bitreiver.app_server.global.common.exception.CustomException;
+import com.bitreiver.app_server.global.common.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인기 해시태그 집계 구간. halfLifeHours마다 과거 시간 버킷의 가중치가 절반으로 줄어든다.
+ */
+@Getter
+@AllArgsConstructor
+public enum TrendWindow {
+    HOUR("1h", 1, 1),
+    DAY("24h", 24, 6),
+    WEEK("7d", 168, 48);
+    
+    private final String code;
+    private final int hours;
+    private final int halfLifeHours;
+    
+    public static TrendWindow fromCode(String code) {
+        for (TrendWindow window : values()) {
+            if (window.code.equalsIgnoreCase(code)) {
+                return window;
+            }
+        }
+        throw new CustomException(ErrorCode.BAD_REQUEST, "지원하지 않는 집계 구간입니다. (1h, 24h, 7d)");
+    }
+}
@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,6 +17,9 @@ public interface CommunityCommentReactionRepository extends JpaRepository<Commun
     
     Optional<CommunityCommentReaction> findByUserIdAndCommentId(UUID userId, Long commentId);
     
+    // 댓글 목록에 대한 사용자 반응 일괄 조회
+    List<CommunityCommentReaction> findByUserIdAndCommentIdIn(UUID userId, Collection<Long> commentIds);
+    
     long countByCommentIdAndReactionType(Long commentId, ReactionType reactionType);
     
     boolean existsByUserIdAndCommentId(UUID userId, Long commentId);
@@ -4,10 +4,13 @@ import com.bitreiver.app_server.domain.community.entity.CommunityComment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,6 +24,30 @@ public interface CommunityCommentRepository extends JpaRepository<CommunityComme
     // 대댓글 조회 (특정 부모 댓글의 대댓글)
     List<CommunityComment> findByParentIdOrderByCreatedAtAsc(Long parentId);
     
+    // 부모 댓글별 대댓글 미리보기 일괄 조회 (부모마다 오래된 순 최대 :limit개)
+    @Query(value = "SELECT c.* FROM community_comments c WHERE c.id IN (" +
+                   "  SELECT r.id FROM (" +
+                   "    SELECT id, ROW_NUMBER() OVER (PARTITION BY parent_id ORDER BY created_at ASC, id ASC) AS rn " +
+                   "    FROM community_comments WHERE parent_id IN (:parentIds)" +
+                   "  ) r WHERE r.rn <= :limit" +
+                   ") ORDER BY c.parent_id, c.created_at ASC, c.id ASC",
+           nativeQuery = true)
+    List<CommunityComment> findReplyPreviews(@Param("parentIds") Collection<Long> parentIds, @Param("limit") int limit);
+    
+    // 부모 댓글별 대댓글 개수 - [parentId, count]
+    @Query("SELECT c.parentId, COUNT(c) FROM CommunityComment c WHERE c.parentId IN :parentIds GROUP BY c.parentId")
+    List<Object[]> countRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds);
+    
+    // 대댓글 커서 조회 (created_at, id) 오름차순 - idx_community_comments_parent_created_at 사용
+    @Query(value = "SELECT * FROM community_comments WHERE parent_id = :parentId " +
+                   "AND (created_at, id) > (:createdAt, :id) " +
+                   "ORDER BY created_at ASC, id ASC LIMIT :limit",
+           nativeQuery = true)
+    List<CommunityComment> findRepliesAfter(@Param("parentId") Long parentId, @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") long id, @Param("limit") int limit);
+    
+    boolean existsByParentId(Long parentId);
+    
     // 작성자 확인용
     Optional<CommunityComment> findByIdAndUserId(Long id, UUID userId);
     
@@ -36,4 +63,22 @@ public interface CommunityCommentRepository extends JpaRepository<CommunityComme
     
     // 게시글별 모든 댓글 조회 (최상위 + 대댓글)
     List<CommunityComment> findByCommunityIdOrderByCreatedAtDesc(Integer communityId);
+    
+    // 반응 개수 원자적 증감
+    @Modifying
+    @Query("UPDATE CommunityComment c SET c.likeCount = c.likeCount + :likeDelta, c.dislikeCount = c.dislikeCount + :dislikeDelta WHERE c.id = :id")
+    int addReactionCounts(@Param("id") Long id, @Param("likeDelta") long likeDelta, @Param("dislikeDelta") long dislikeDelta);
+    
+    // 반응 개수 보정 (실제 개수와 다른 댓글만 갱신) - 보정된 댓글 수 반환
+    @Modifying
+    @Query(value = "UPDATE community_comments c SET like_count = s.like_count, dislike_count = s.dislike_count " +
+                   "FROM (SELECT c2.id, COALESCE(r.like_count, 0) AS like_count, COALESCE(r.dislike_count, 0) AS dislike_count " +
+                   "      FROM community_comments c2 " +
+                   "      LEFT JOIN (SELECT comment_id, " +
+                   "                        COUNT(*) FILTER (WHERE reaction_type = 'LIKE') AS like_count, " +
+                   "                        COUNT(*) FILTER (WHERE reaction_type = 'DISLIKE') AS dislike_count " +
+                   "                 FROM community_comment_reactions GROUP BY comment_id) r ON r.comment_id = c2.id) s " +
+                   "WHERE c.id = s.id AND (c.like_count <> s.like_count OR c.dislike_count <> s.dislike_count)",
+           nativeQuery = true)
+    int reconcileReactionCounters();
 }
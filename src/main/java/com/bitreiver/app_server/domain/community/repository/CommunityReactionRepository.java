@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,4 +25,43 @@ public interface CommunityReactionRepository extends JpaRepository<CommunityReac
     
     @Query("SELECT COUNT(cr) FROM CommunityReaction cr WHERE cr.communityId = :communityId AND cr.reactionType = :reactionType")
     long countReactionsByCommunityIdAndType(@Param("communityId") Integer communityId, @Param("reactionType") ReactionType reactionType);
+    
+    // 게시글 목록에 대한 사용자 반응 일괄 조회
+    List<CommunityReaction> findByUserIdAndCommunityIdIn(UUID userId, Collection<Integer> communityIds);
+    
+    /**
+     * 반응 상태 전이를 단일 문장으로 적용. 기존 행을 잠근 뒤 현재 상태(없음/LIKE/DISLIKE)에 따라
+     * 목표 상태(fromNone/fromLike/fromDislike, null이면 삭제)로 삭제/변경/추가한다.
+     * 반환: [게시글 존재 여부, 이전 반응 코드, 적용 후 반응 코드] 1행
+     * 동시 최초 추가로 충돌하면 먼저 들어간 행을 유지하고 이 요청은 변경 없음(이전 = 이후 = null)으로 반환한다.
+     */
+    @Query(value = "WITH old AS (" +
+                   "  SELECT id, reaction_type FROM community_reactions " +
+                   "  WHERE user_id = :userId AND community_id = :communityId FOR UPDATE" +
+                   "), target AS (" +
+                   "  SELECT CASE (SELECT reaction_type FROM old) " +
+                   "    WHEN 'LIKE' THEN CAST(:fromLike AS varchar) " +
+                   "    WHEN 'DISLIKE' THEN CAST(:fromDislike AS varchar) " +
+                   "    ELSE CAST(:fromNone AS varchar) END AS reaction_type" +
+                   "), removed AS (" +
+                   "  DELETE FROM community_reactions r USING old, target " +
+                   "  WHERE r.id = old.id AND target.reaction_type IS NULL RETURNING r.id" +
+                   "), changed AS (" +
+                   "  UPDATE community_reactions r SET reaction_type = target.reaction_type, created_at = now() " +
+                   "  FROM old, target WHERE r.id = old.id AND target.reaction_type <> old.reaction_type RETURNING r.id" +
+                   "), inserted AS (" +
+                   "  INSERT INTO community_reactions (user_id, community_id, reaction_type, created_at) " +
+                   "  SELECT :userId, :communityId, target.reaction_type, now() FROM target " +
+                   "  WHERE target.reaction_type IS NOT NULL AND NOT EXISTS (SELECT 1 FROM old) " +
+                   "  AND EXISTS (SELECT 1 FROM communities WHERE id = :communityId) " +
+                   "  ON CONFLICT (user_id, community_id) DO NOTHING RETURNING reaction_type" +
+                   ") " +
+                   "SELECT EXISTS (SELECT 1 FROM communities WHERE id = :communityId), " +
+                   "(SELECT reaction_type FROM old), " +
+                   "CASE WHEN EXISTS (SELECT 1 FROM old) THEN (SELECT reaction_type FROM target) " +
+                   "ELSE (SELECT reaction_type FROM inserted) END",
+           nativeQuery = true)
+    List<Object[]> applyTransition(@Param("userId") UUID userId, @Param("communityId") Integer communityId,
+                                   @Param("fromNone") String fromNone, @Param("fromLike") String fromLike,
+                                   @Param("fromDislike") String fromDislike);
 }
@@ -1,10 +1,8 @@
 package com.bitreiver.app_server.domain.community.repository;
 
 import com.bitreiver.app_server.domain.community.entity.Community;
-import com.bitreiver.app_server.domain.community.enums.Category;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,36 +14,80 @@ import java.util.UUID;
 @Repository
 public interface CommunityRepository extends JpaRepository<Community, Integer> {
     
-    Page<Community> findByCategoryOrderByCreatedAtDesc(Category category, Pageable pageable);
+    Optional<Community> findByIdAndUserId(Integer id, UUID userId);
     
-    // 단일 해시태그 검색
-    @Query(value = "SELECT * FROM communities WHERE :hashtag = ANY(hashtags) ORDER BY created_at DESC", nativeQuery = true)
-    Page<Community> findByHashtagsContaining(@Param("hashtag") String hashtag, Pageable pageable);
+    // 목록용 간추린 텍스트/썸네일 미추출 게시글 (id 순 배치)
+    List<Community> findTop100ByPreviewExtractedFalseAndIdGreaterThanOrderByIdAsc(Integer id);
     
-    // 다중 해시태그 AND 검색 (모든 해시태그 포함)
-    @Query(value = "SELECT * FROM communities WHERE hashtags @> CAST(:hashtags AS text[]) ORDER BY created_at DESC", nativeQuery = true)
-    Page<Community> findByHashtagsContainingAll(@Param("hashtags") List<String> hashtags, Pageable pageable);
+    // 백필용 간추린 텍스트/썸네일 저장 (읽은 뒤 수정 API가 먼저 새 값을 저장했다면 덮어쓰지 않음)
+    @Modifying
+    @Query("UPDATE Community c SET c.previewText = :previewText, c.thumbnailPath = :thumbnailPath, c.previewExtracted = true " +
+           "WHERE c.id = :id AND c.previewExtracted = false")
+    int updatePreviewIfNotExtracted(@Param("id") Integer id, @Param("previewText") String previewText, @Param("thumbnailPath") String thumbnailPath);
     
-    // 다중 해시태그 OR 검색 (하나 이상의 해시태그 포함)
-    @Query(value = "SELECT * FROM communities WHERE hashtags && CAST(:hashtags AS text[]) ORDER BY created_at DESC", nativeQuery = true)
-    Page<Community> findByHashtagsContainingAny(@Param("hashtags") List<String> hashtags, Pageable pageable);
+    // 전문 검색 벡터 저장 (제목 토큰은 가중치 A, 본문 토큰은 기본 가중치 D)
+    @Modifying
+    @Query(value = "UPDATE communities SET search_vector = " +
+                   "setweight(to_tsvector('simple', :titleTokens), 'A') || to_tsvector('simple', :bodyTokens) " +
+                   "WHERE id = :id",
+           nativeQuery = true)
+    int updateSearchVector(@Param("id") Integer id, @Param("titleTokens") String titleTokens, @Param("bodyTokens") String bodyTokens);
     
-    // 카테고리 + 단일 해시태그
-    @Query(value = "SELECT * FROM communities WHERE category = :category AND :hashtag = ANY(hashtags) ORDER BY created_at DESC", nativeQuery = true)
-    Page<Community> findByCategoryAndHashtag(@Param("category") String category, @Param("hashtag") String hashtag, Pageable pageable);
+    // 백필용 전문 검색 벡터 저장 (읽은 뒤 수정 API가 먼저 새 벡터를 저장했다면 덮어쓰지 않음)
+    @Modifying
+    @Query(value = "UPDATE communities SET search_vector = " +
+                   "setweight(to_tsvector('simple', :titleTokens), 'A') || to_tsvector('simple', :bodyTokens) " +
+                   "WHERE id = :id AND search_vector IS NULL",
+           nativeQuery = true)
+    int updateSearchVectorIfMissing(@Param("id") Integer id, @Param("titleTokens") String titleTokens, @Param("bodyTokens") String bodyTokens);
     
-    // 카테고리 + 다중 해시태그 AND
-    @Query(value = "SELECT * FROM communities WHERE category = :category AND hashtags @> CAST(:hashtags AS text[]) ORDER BY created_at DESC", nativeQuery = true)
-    Page<Community> findByCategoryAndHashtagsAll(@Param("category") String category, @Param("hashtags") List<String> hashtags, Pageable pageable);
+    // 전문 검색 벡터 미생성 게시글 (id 순 배치)
+    @Query(value = "SELECT * FROM communities WHERE search_vector IS NULL AND id > :id ORDER BY id LIMIT 100", nativeQuery = true)
+    List<Community> findTop100SearchUnindexedAfter(@Param("id") Integer id);
     
-    // 카테고리 + 다중 해시태그 OR
-    @Query(value = "SELECT * FROM communities WHERE category = :category AND hashtags && CAST(:hashtags AS text[]) ORDER BY created_at DESC", nativeQuery = true)
-    Page<Community> findByCategoryAndHashtagsAny(@Param("category") String category, @Param("hashtags") List<String> hashtags, Pageable pageable);
+    // 전문 검색 GIN 인덱스 (JPA @Index로는 인덱스 방식을 지정할 수 없음)
+    @Modifying
+    @Query(value = "CREATE INDEX IF NOT EXISTS idx_communities_search_vector ON communities USING gin (search_vector)", nativeQuery = true)
+    void createSearchIndex();
     
-    Optional<Community> findByIdAndUserId(Integer id, UUID userId);
+    // 게시글 content에 해당 이미지 블록이 있는지 (jsonb 포함 연산으로 확인, 엔티티를 읽지 않음)
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM communities WHERE id = :id " +
+                   "AND content -> 'blocks' @> jsonb_build_array(jsonb_build_object('type', 'image', 'path', CAST(:path AS text))))",
+           nativeQuery = true)
+    boolean existsImage(@Param("id") Integer id, @Param("path") String path);
+    
+    // 반응 개수 원자적 증감
+    @Modifying
+    @Query("UPDATE Community c SET c.likeCount = c.likeCount + :likeDelta, c.dislikeCount = c.dislikeCount + :dislikeDelta WHERE c.id = :id")
+    int addReactionCounts(@Param("id") Integer id, @Param("likeDelta") long likeDelta, @Param("dislikeDelta") long dislikeDelta);
+    
+    // 고유 조회수 반영 (HyperLogLog 근사값이 일시적으로 줄어도 이전 값보다 작아지지 않도록 GREATEST)
+    @Modifying
+    @Query(value = "UPDATE communities SET view_count = GREATEST(view_count, :viewCount) WHERE id = :id", nativeQuery = true)
+    int updateViewCount(@Param("id") Integer id, @Param("viewCount") long viewCount);
+    
+    // 댓글 개수 원자적 증감
+    @Modifying
+    @Query("UPDATE Community c SET c.commentCount = c.commentCount + :delta WHERE c.id = :id")
+    int addCommentCount(@Param("id") Integer id, @Param("delta") long delta);
     
-    Page<Community> findByUserIdOrderByCreatedAtDesc(UUID userId, Pageable pageable);
+    // 트랜잭션 범위 advisory lock 시도 (이미 다른 세션이 잡고 있으면 false, 커밋/롤백 시 자동 해제)
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryXactLock(@Param("key") long key);
     
-    // 전체 목록 조회 (최신순)
-    Page<Community> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    // 반응/댓글 개수 보정 (실제 개수와 다른 게시글만 갱신) - 보정된 게시글 수 반환
+    @Modifying
+    @Query(value = "UPDATE communities c SET like_count = s.like_count, dislike_count = s.dislike_count, comment_count = s.comment_count " +
+                   "FROM (SELECT c2.id, COALESCE(r.like_count, 0) AS like_count, COALESCE(r.dislike_count, 0) AS dislike_count, " +
+                   "             COALESCE(cm.comment_count, 0) AS comment_count " +
+                   "      FROM communities c2 " +
+                   "      LEFT JOIN (SELECT community_id, " +
+                   "                        COUNT(*) FILTER (WHERE reaction_type = 'LIKE') AS like_count, " +
+                   "                        COUNT(*) FILTER (WHERE reaction_type = 'DISLIKE') AS dislike_count " +
+                   "                 FROM community_reactions GROUP BY community_id) r ON r.community_id = c2.id " +
+                   "      LEFT JOIN (SELECT community_id, COUNT(*) AS comment_count " +
+                   "                 FROM community_comments WHERE deleted = false GROUP BY community_id) cm ON cm.community_id = c2.id) s " +
+                   "WHERE c.id = s.id AND (c.like_count <> s.like_count OR c.dislike_count <> s.dislike_count OR c.comment_count <> s.comment_count)",
+           nativeQuery = true)
+    int reconcileCounters();
 }
@@ -0,0 +1,101 @@
+package com.bitreiver.app_server.domain.community.repository;
+
+import com.bitreiver.app_server.domain.community.entity.CommunitySummary;
+import com.bitreiver.app_server.domain.community.enums.Category;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 게시글 목록 조회 (content 제외)
+ */
+@Repository
+public interface CommunitySummaryRepository extends JpaRepository<CommunitySummary, Integer> {
+
+    String LIST_COLUMNS = "id, user_id, category, title, hashtags, like_count, dislike_count, comment_count, view_count, " +
+                          "preview_text, thumbnail_path, created_at";
+
+    Page<CommunitySummary> findByCategoryOrderByCreatedAtDesc(Category category, Pageable pageable);
+
+    Page<CommunitySummary> findByUserIdOrderByCreatedAtDesc(UUID userId, Pageable pageable);
+
+    // 전체 목록 조회 (최신순)
+    Page<CommunitySummary> findAllByOrderByCreatedAtDesc(Pageable pageable);
+
+    long countByCategory(Category category);
+
+    // 커서 기반 전체 목록 (created_at, id) 역순 - idx_communities_created_at 사용, count 없음
+    @Query(value = "SELECT " + LIST_COLUMNS + " FROM communities " +
+                   "WHERE (created_at, id) < (:createdAt, :id) " +
+                   "ORDER BY created_at DESC, id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<CommunitySummary> findPageBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") long id, @Param("limit") int limit);
+
+    // 커서 기반 카테고리 목록 - idx_communities_category_created_at 사용
+    @Query(value = "SELECT " + LIST_COLUMNS + " FROM communities " +
+                   "WHERE category = :category AND (created_at, id) < (:createdAt, :id) " +
+                   "ORDER BY created_at DESC, id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<CommunitySummary> findPageByCategoryBefore(@Param("category") String category, @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") long id, @Param("limit") int limit);
+
+    // 인기순 점수 계산용 최근 게시글 - [id, category, like_count, dislike_count, comment_count, created_at], idx_communities_created_at 사용
+    @Query(value = "SELECT id, category, like_count, dislike_count, comment_count, created_at FROM communities " +
+                   "WHERE created_at >= :since",
+           nativeQuery = true)
+    List<Object[]> findScoreRowsCreatedSince(@Param("since") LocalDateTime since);
+
+    // 전문 검색 (관련도, id) 역순 커서 조회 - [id, rank] 반환, search_vector GIN 인덱스 사용
+    @Query(value = "SELECT c.id, ts_rank(c.search_vector, q.query) AS rank " +
+                   "FROM communities c, plainto_tsquery('simple', :query) AS q(query) " +
+                   "WHERE c.search_vector @@ q.query " +
+                   "AND (CAST(:category AS varchar) IS NULL OR c.category = CAST(:category AS varchar)) " +
+                   "AND (ts_rank(c.search_vector, q.query), c.id) < (:rank, :id) " +
+                   "ORDER BY rank DESC, c.id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Object[]> searchByText(@Param("query") String query, @Param("category") String category,
+                                @Param("rank") float rank, @Param("id") long id, @Param("limit") int limit);
+
+    // 단일 해시태그 검색
+    @Query(value = "SELECT " + LIST_COLUMNS + " FROM communities WHERE :hashtag = ANY(hashtags) ORDER BY created_at DESC",
+           countQuery = "SELECT COUNT(*) FROM communities WHERE :hashtag = ANY(hashtags)",
+           nativeQuery = true)
+    Page<CommunitySummary> findByHashtagsContaining(@Param("hashtag") String hashtag, Pageable pageable);
+
+    // 다중 해시태그 AND 검색 (모든 해시태그 포함)
+    @Query(value = "SELECT " + LIST_COLUMNS + " FROM communities WHERE hashtags @> CAST(:hashtags AS text[]) ORDER BY created_at DESC",
+           countQuery = "SELECT COUNT(*) FROM communities WHERE hashtags @> CAST(:hashtags AS text[])",
+           nativeQuery = true)
+    Page<CommunitySummary> findByHashtagsContainingAll(@Param("hashtags") List<String> hashtags, Pageable pageable);
+
+    // 다중 해시태그 OR 검색 (하나 이상의 해시태그 포함)
+    @Query(value = "SELECT " + LIST_COLUMNS + " FROM communities WHERE hashtags && CAST(:hashtags AS text[]) ORDER BY created_at DESC",
+           countQuery = "SELECT COUNT(*) FROM communities WHERE hashtags && CAST(:hashtags AS text[])",
+           nativeQuery = true)
+    Page<CommunitySummary> findByHashtagsContainingAny(@Param("hashtags") List<String> hashtags, Pageable pageable);
+
+    // 카테고리 + 단일 해시태그
+    @Query(value = "SELECT " + LIST_COLUMNS + " FROM communities WHERE category = :category AND :hashtag = ANY(hashtags) ORDER BY created_at DESC",
+           countQuery = "SELECT COUNT(*) FROM communities WHERE category = :category AND :hashtag = ANY(hashtags)",
+           nativeQuery = true)
+    Page<CommunitySummary> findByCategoryAndHashtag(@Param("category") String category, @Param("hashtag") String hashtag, Pageable pageable);
+
+    // 카테고리 + 다중 해시태그 AND
+    @Query(value = "SELECT " + LIST_COLUMNS + " FROM communities WHERE category = :category AND hashtags @> CAST(:hashtags AS text[]) ORDER BY created_at DESC",
+           countQuery = "SELECT COUNT(*) FROM communities WHERE category = :category AND hashtags @> CAST(:hashtags AS text[])",
+           nativeQuery = true)
+    Page<CommunitySummary> findByCategoryAndHashtagsAll(@Param("category") String category, @Param("hashtags") List<String> hashtags, Pageable pageable);
+
+    // 카테고리 + 다중 해시태그 OR
+    @Query(value = "SELECT " + LIST_COLUMNS + " FROM communities WHERE category = :category AND hashtags && CAST(:hashtags AS text[]) ORDER BY created_at DESC",
+           countQuery = "SELECT COUNT(*) FROM communities WHERE category = :category AND hashtags && CAST(:hashtags AS text[])",
+           nativeQuery = true)
+    Page<CommunitySummary> findByCategoryAndHashtagsAny(@Param("category") String category, @Param("hashtags") List<String> hashtags, Pageable pageable);
+}
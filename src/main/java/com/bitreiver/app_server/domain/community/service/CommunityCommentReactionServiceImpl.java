@@ -1,5 +1,6 @@
 package com.bitreiver.app_server.domain.community.service;
 
+import com.bitreiver.app_server.domain.community.entity.CommunityComment;
 import com.bitreiver.app_server.domain.community.entity.CommunityCommentReaction;
 import com.bitreiver.app_server.domain.community.enums.ReactionType;
 import com.bitreiver.app_server.domain.community.repository.CommunityCommentReactionRepository;
@@ -39,9 +40,12 @@ public class CommunityCommentReactionServiceImpl implements CommunityCommentReac
             // 같은 타입이면 삭제 (토글)
             if (existingReaction.getReactionType() == reactionType) {
                 communityCommentReactionRepository.delete(existingReaction);
+                applyCountDelta(commentId, reactionType, -1);
                 log.info("댓글 반응 삭제: userId={}, commentId={}, reactionType={}", userId, commentId, reactionType);
             } else {
                 // 다른 타입이면 변경
+                applyCountDelta(commentId, existingReaction.getReactionType(), -1);
+                applyCountDelta(commentId, reactionType, 1);
                 existingReaction.setReactionType(reactionType);
                 existingReaction.setCreatedAt(LocalDateTime.now());
                 communityCommentReactionRepository.save(existingReaction);
@@ -58,6 +62,7 @@ public class CommunityCommentReactionServiceImpl implements CommunityCommentReac
                 .build();
             
             communityCommentReactionRepository.save(reaction);
+            applyCountDelta(commentId, reactionType, 1);
             log.info("댓글 반응 추가: userId={}, commentId={}, reactionType={}", userId, commentId, reactionType);
         }
     }
@@ -70,16 +75,21 @@ public class CommunityCommentReactionServiceImpl implements CommunityCommentReac
             .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "반응을 찾을 수 없습니다."));
         
         communityCommentReactionRepository.delete(reaction);
+        applyCountDelta(commentId, reaction.getReactionType(), -1);
     }
     
     @Override
     public long getLikeCount(Long commentId) {
-        return communityCommentReactionRepository.countByCommentIdAndReactionType(commentId, ReactionType.LIKE);
+        return communityCommentRepository.findById(commentId)
+            .map(CommunityComment::getLikeCount)
+            .orElse(0L);
     }
     
     @Override
     public long getDislikeCount(Long commentId) {
-        return communityCommentReactionRepository.countByCommentIdAndReactionType(commentId, ReactionType.DISLIKE);
+        return communityCommentRepository.findById(commentId)
+            .map(CommunityComment::getDislikeCount)
+            .orElse(0L);
     }
     
     @Override
@@ -89,4 +99,15 @@ public class CommunityCommentReactionServiceImpl implements CommunityCommentReac
             .map(CommunityCommentReaction::getReactionType)
             .orElse(null);
     }
+    
+    /**
+     * 반응 개수 컬럼 원자적 증감
+     */
+    private void applyCountDelta(Long commentId, ReactionType reactionType, long delta) {
+        communityCommentRepository.addReactionCounts(
+            commentId,
+            reactionType == ReactionType.LIKE ? delta : 0L,
+            reactionType == ReactionType.DISLIKE ? delta : 0L
+        );
+    }
 }
@@ -2,15 +2,17 @@ package com.bitreiver.app_server.domain.community.service;
 
 import com.bitreiver.app_server.domain.community.dto.CommunityCommentRequest;
 import com.bitreiver.app_server.domain.community.dto.CommunityCommentResponse;
+import com.bitreiver.app_server.domain.community.entity.Community;
 import com.bitreiver.app_server.domain.community.entity.CommunityComment;
-import com.bitreiver.app_server.domain.community.enums.ReactionType;
 import com.bitreiver.app_server.domain.community.repository.CommunityCommentRepository;
 import com.bitreiver.app_server.domain.community.repository.CommunityRepository;
 import com.bitreiver.app_server.domain.user.entity.User;
 import com.bitreiver.app_server.domain.user.repository.UserRepository;
+import com.bitreiver.app_server.global.common.dto.CursorResponse;
 import com.bitreiver.app_server.global.common.dto.PageResponse;
 import com.bitreiver.app_server.global.common.exception.CustomException;
 import com.bitreiver.app_server.global.common.exception.ErrorCode;
+import com.bitreiver.app_server.global.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -21,9 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -32,8 +32,11 @@ public class CommunityCommentServiceImpl implements CommunityCommentService {
     
     private final CommunityCommentRepository communityCommentRepository;
     private final CommunityRepository communityRepository;
+    private final CommunityFeedCache communityFeedCache;
+    private final CommunityHotRanking communityHotRanking;
+    private final CommunityLiveEventPublisher communityLiveEventPublisher;
     private final UserRepository userRepository;
-    private final CommunityCommentReactionService communityCommentReactionService;
+    private final CommunityCommentTreeAssembler communityCommentTreeAssembler;
     
     @Override
     @Transactional
@@ -72,11 +75,16 @@ public class CommunityCommentServiceImpl implements CommunityCommentService {
             .build();
         
         communityCommentRepository.save(comment);
+        communityRepository.addCommentCount(communityId, 1L);
+        communityFeedCache.evictItem(communityId);
+        communityHotRanking.onCountsChanged(communityId);
         
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
         
-        return CommunityCommentResponse.from(comment, user.getNickname(), user.getProfileUrl(), 0L, 0L, null, List.of());
+        CommunityCommentResponse response = CommunityCommentResponse.from(comment, user.getNickname(), user.getProfileUrl(), 0L, 0L, null, List.of());
+        communityLiveEventPublisher.commentCreated(communityId, response);
+        return response;
     }
     
     @Override
@@ -90,64 +98,7 @@ public class CommunityCommentServiceImpl implements CommunityCommentService {
         Page<CommunityComment> topLevelComments = communityCommentRepository
             .findByCommunityIdAndParentIdIsNullOrderByCreatedAtDesc(communityId, pageable);
         
-        // 최상위 댓글 ID 목록
-        List<Long> topLevelCommentIds = topLevelComments.getContent().stream()
-            .map(CommunityComment::getId)
-            .collect(Collectors.toList());
-        
-        // 모든 대댓글 조회
-        Map<Long, List<CommunityComment>> repliesMap = topLevelCommentIds.stream()
-            .collect(Collectors.toMap(
-                parentId -> parentId,
-                parentId -> communityCommentRepository.findByParentIdOrderByCreatedAtAsc(parentId)
-            ));
-        
-        // 사용자 정보 조회 (최상위 댓글 + 대댓글 작성자)
-        List<UUID> allUserIds = topLevelComments.getContent().stream()
-            .map(CommunityComment::getUserId)
-            .collect(Collectors.toList());
-        repliesMap.values().forEach(replies -> 
-            replies.forEach(reply -> allUserIds.add(reply.getUserId()))
-        );
-        
-        Map<UUID, User> userMap = userRepository.findAllById(allUserIds).stream()
-            .collect(Collectors.toMap(User::getId, user -> user));
-        
-        // 최상위 댓글을 응답으로 변환
-        List<CommunityCommentResponse> content = topLevelComments.getContent().stream()
-            .map(comment -> {
-                User commentUser = userMap.get(comment.getUserId());
-                long likeCount = communityCommentReactionService.getLikeCount(comment.getId());
-                long dislikeCount = communityCommentReactionService.getDislikeCount(comment.getId());
-                ReactionType userReaction = userId != null ? 
-                    communityCommentReactionService.getUserReaction(userId, comment.getId()) : null;
-                
-                // 대댓글 변환
-                List<CommunityCommentResponse> replies = repliesMap.getOrDefault(comment.getId(), List.of()).stream()
-                    .map(reply -> {
-                        User replyUser = userMap.get(reply.getUserId());
-                        long replyLikeCount = communityCommentReactionService.getLikeCount(reply.getId());
-                        long replyDislikeCount = communityCommentReactionService.getDislikeCount(reply.getId());
-                        ReactionType replyUserReaction = userId != null ? 
-                            communityCommentReactionService.getUserReaction(userId, reply.getId()) : null;
-                        
-                        return CommunityCommentResponse.from(
-                            reply, 
-                            replyUser != null ? replyUser.getNickname() : null,
-                            replyUser != null ? replyUser.getProfileUrl() : null,
-                            replyLikeCount, replyDislikeCount, replyUserReaction, List.of()
-                        );
-                    })
-                    .collect(Collectors.toList());
-                
-                return CommunityCommentResponse.from(
-                    comment, 
-                    commentUser != null ? commentUser.getNickname() : null,
-                    commentUser != null ? commentUser.getProfileUrl() : null,
-                    likeCount, dislikeCount, userReaction, replies
-                );
-            })
-            .collect(Collectors.toList());
+        List<CommunityCommentResponse> content = communityCommentTreeAssembler.assembleTree(topLevelComments.getContent(), userId);
         
         return PageResponse.of(content, page, size, topLevelComments.getTotalElements());
     }
@@ -169,35 +120,29 @@ public class CommunityCommentServiceImpl implements CommunityCommentService {
         comment.setUpdatedAt(LocalDateTime.now());
         communityCommentRepository.save(comment);
         
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        return communityCommentTreeAssembler.assembleTree(List.of(comment), userId).get(0);
+    }
+    
+    @Override
+    public CursorResponse<CommunityCommentResponse> getReplies(Integer communityId, Long parentId, UUID userId, String cursor, int size) {
+        if (!communityCommentRepository.existsByIdAndCommunityId(parentId, communityId)) {
+            throw new CustomException(ErrorCode.NOT_FOUND, "댓글을 찾을 수 없습니다.");
+        }
+        CursorUtil.Position position = CursorUtil.decodeAscending(cursor);
+        int pageSize = CursorUtil.clampSize(size);
+        
+        List<CommunityComment> rows = communityCommentRepository.findRepliesAfter(
+            parentId, position.getTime(), position.getId(), pageSize + 1
+        );
         
-        long likeCount = communityCommentReactionService.getLikeCount(id);
-        long dislikeCount = communityCommentReactionService.getDislikeCount(id);
-        ReactionType userReaction = communityCommentReactionService.getUserReaction(userId, id);
-        
-        // 대댓글 조회
-        List<CommunityComment> replies = communityCommentRepository.findByParentIdOrderByCreatedAtAsc(id);
-        List<CommunityCommentResponse> replyResponses = replies.stream()
-            .map(reply -> {
-                User replyUser = userRepository.findById(reply.getUserId()).orElse(null);
-                long replyLikeCount = communityCommentReactionService.getLikeCount(reply.getId());
-                long replyDislikeCount = communityCommentReactionService.getDislikeCount(reply.getId());
-                ReactionType replyUserReaction = communityCommentReactionService.getUserReaction(userId, reply.getId());
-                
-                return CommunityCommentResponse.from(
-                    reply,
-                    replyUser != null ? replyUser.getNickname() : null,
-                    replyUser != null ? replyUser.getProfileUrl() : null,
-                    replyLikeCount,
-                    replyDislikeCount,
-                    replyUserReaction,
-                    List.of()
-                );
-            })
-            .collect(Collectors.toList());
-        
-        return CommunityCommentResponse.from(comment, user.getNickname(), user.getProfileUrl(), likeCount, dislikeCount, userReaction, replyResponses);
+        return CursorResponse.of(
+            rows,
+            pageSize,
+            CommunityComment::getCreatedAt,
+            CommunityComment::getId,
+            page -> communityCommentTreeAssembler.assembleFlat(page, userId),
+            null
+        );
     }
     
     @Override
@@ -206,10 +151,14 @@ public class CommunityCommentServiceImpl implements CommunityCommentService {
         CommunityComment comment = communityCommentRepository.findByIdAndUserId(id, userId)
             .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "댓글을 찾을 수 없습니다."));
         
-        // 대댓글이 있는지 확인
-        List<CommunityComment> replies = communityCommentRepository.findByParentIdOrderByCreatedAtAsc(id);
+        // 이미 soft delete된 댓글은 개수에서 빠져 있음
+        if (!Boolean.TRUE.equals(comment.getDeleted())) {
+            communityRepository.addCommentCount(comment.getCommunityId(), -1L);
+            communityFeedCache.evictItem(comment.getCommunityId());
+            communityHotRanking.onCountsChanged(comment.getCommunityId());
+        }
         
-        if (!replies.isEmpty()) {
+        if (communityCommentRepository.existsByParentId(id)) {
             // 대댓글이 있으면 soft delete
             comment.setDeleted(true);
             comment.setUpdatedAt(LocalDateTime.now());
@@ -218,10 +167,13 @@ public class CommunityCommentServiceImpl implements CommunityCommentService {
             // 대댓글이 없으면 hard delete
             communityCommentRepository.delete(comment);
         }
+        communityLiveEventPublisher.commentDeleted(comment.getCommunityId(), id);
     }
     
     @Override
     public long getCommentCount(Integer communityId) {
-        return communityCommentRepository.countByCommunityId(communityId);
+        return communityRepository.findById(communityId)
+            .map(Community::getCommentCount)
+            .orElse(0L);
     }
 }
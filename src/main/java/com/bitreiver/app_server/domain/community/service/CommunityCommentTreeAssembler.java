@@ -0,0 +1,131 @@
+package com.bitreiver.app_server.domain.community.service;
+
+import com.bitreiver.app_server.domain.community.dto.CommunityCommentResponse;
+import com.bitreiver.app_server.domain.community.entity.CommunityComment;
+import com.bitreiver.app_server.domain.community.entity.CommunityCommentReaction;
+import com.bitreiver.app_server.domain.community.enums.ReactionType;
+import com.bitreiver.app_server.domain.community.repository.CommunityCommentReactionRepository;
+import com.bitreiver.app_server.domain.community.repository.CommunityCommentRepository;
+import com.bitreiver.app_server.domain.user.entity.User;
+import com.bitreiver.app_server.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 응답 조립.
+ * 대댓글 미리보기(부모별 최대 replyPreviewSize개), 대댓글 개수, 작성자, 조회자 반응을 각각 IN 쿼리 1회로 일괄 조회하므로
+ * 댓글/대댓글 수와 관계없이 페이지당 쿼리 수가 일정하다. 반응 개수는 댓글 컬럼을 그대로 사용한다.
+ * 나머지 대댓글은 대댓글 커서 조회로 이어서 불러온다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommunityCommentTreeAssembler {
+
+    private final CommunityCommentRepository communityCommentRepository;
+    private final CommunityCommentReactionRepository communityCommentReactionRepository;
+    private final UserRepository userRepository;
+
+    @Value("${community.comment.reply-preview-size:3}")
+    private int replyPreviewSize;
+
+    /**
+     * 최상위 댓글 + 대댓글 미리보기
+     *
+     * @param viewerId 조회자 ID (비로그인이면 null - 사용자 반응 조회 생략)
+     */
+    public List<CommunityCommentResponse> assembleTree(List<CommunityComment> topLevelComments, UUID viewerId) {
+        if (topLevelComments.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> parentIds = topLevelComments.stream()
+            .map(CommunityComment::getId)
+            .collect(Collectors.toList());
+        Map<Long, List<CommunityComment>> repliesMap = communityCommentRepository.findReplyPreviews(parentIds, replyPreviewSize).stream()
+            .collect(Collectors.groupingBy(CommunityComment::getParentId));
+        Map<Long, Long> replyCounts = communityCommentRepository.countRepliesByParentIds(parentIds).stream()
+            .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Number) row[1]).longValue()));
+
+        List<CommunityComment> allComments = new ArrayList<>(topLevelComments);
+        repliesMap.values().forEach(allComments::addAll);
+        Context context = loadContext(allComments, viewerId);
+
+        return topLevelComments.stream()
+            .map(comment -> {
+                List<CommunityCommentResponse> replies = repliesMap.getOrDefault(comment.getId(), List.of()).stream()
+                    .map(reply -> toResponse(reply, context, List.of(), 0L))
+                    .collect(Collectors.toList());
+                return toResponse(comment, context, replies, replyCounts.getOrDefault(comment.getId(), 0L));
+            })
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 대댓글 목록 (하위 댓글 없음)
+     */
+    public List<CommunityCommentResponse> assembleFlat(List<CommunityComment> comments, UUID viewerId) {
+        if (comments.isEmpty()) {
+            return List.of();
+        }
+        Context context = loadContext(comments, viewerId);
+        return comments.stream()
+            .map(comment -> toResponse(comment, context, List.of(), 0L))
+            .collect(Collectors.toList());
+    }
+
+    private Context loadContext(List<CommunityComment> comments, UUID viewerId) {
+        Set<UUID> authorIds = comments.stream()
+            .map(CommunityComment::getUserId)
+            .collect(Collectors.toSet());
+        Map<UUID, User> userMap = userRepository.findAllById(authorIds).stream()
+            .collect(Collectors.toMap(User::getId, user -> user));
+
+        Map<Long, ReactionType> viewerReactions = Collections.emptyMap();
+        if (viewerId != null) {
+            List<Long> commentIds = comments.stream()
+                .map(CommunityComment::getId)
+                .collect(Collectors.toList());
+            viewerReactions = communityCommentReactionRepository.findByUserIdAndCommentIdIn(viewerId, commentIds).stream()
+                .collect(Collectors.toMap(CommunityCommentReaction::getCommentId, CommunityCommentReaction::getReactionType));
+        }
+        return new Context(userMap, viewerReactions);
+    }
+
+    private static CommunityCommentResponse toResponse(CommunityComment comment, Context context,
+                                                       List<CommunityCommentResponse> replies, long replyCount) {
+        User user = context.userMap.get(comment.getUserId());
+        return CommunityCommentResponse.from(
+            comment,
+            user != null ? user.getNickname() : null,
+            user != null ? user.getProfileUrl() : null,
+            countOf(comment.getLikeCount()),
+            countOf(comment.getDislikeCount()),
+            context.viewerReactions.get(comment.getId()),
+            replies,
+            Math.max(replyCount, replies.size())
+        );
+    }
+
+    private static long countOf(Long count) {
+        return count != null ? count : 0L;
+    }
+
+    private static class Context {
+        private final Map<UUID, User> userMap;
+        private final Map<Long, ReactionType> viewerReactions;
+
+        private Context(Map<UUID, User> userMap, Map<Long, ReactionType> viewerReactions) {
+            this.userMap = userMap;
+            this.viewerReactions = viewerReactions;
+        }
+    }
+}
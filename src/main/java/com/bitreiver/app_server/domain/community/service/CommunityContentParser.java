@@ -0,0 +1,92 @@
+package com.bitreiver.app_server.domain.community.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 content(JSONB blocks) 파서.
+ * content를 한 번만 파싱하여 이미지 경로 목록, 썸네일(첫 이미지), 간추린 텍스트(첫 텍스트 블록), 검색용 본문 텍스트(전체 텍스트 블록)를 함께 추출한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommunityContentParser {
+
+    private static final int PREVIEW_MAX_LENGTH = 60;
+
+    private final ObjectMapper objectMapper;
+
+    public ContentSummary parse(String content) {
+        List<String> imagePaths = new ArrayList<>();
+        String previewText = null;
+        StringBuilder plainText = new StringBuilder();
+
+        if (content == null || content.trim().isEmpty()) {
+            return new ContentSummary(imagePaths, null, "");
+        }
+
+        try {
+            JsonNode blocks = objectMapper.readTree(content).path("blocks");
+            for (JsonNode block : blocks) {
+                String type = block.path("type").asText(null);
+                if ("image".equals(type)) {
+                    String path = block.path("path").asText(null);
+                    if (path != null) {
+                        imagePaths.add(path);
+                    }
+                } else if ("text".equals(type)) {
+                    String text = block.path("content").asText(null);
+                    if (previewText == null) {
+                        previewText = toPreview(text);
+                    }
+                    if (text != null && !text.isBlank()) {
+                        plainText.append(text).append('\n');
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("게시글 content 파싱 실패", e);
+        }
+
+        return new ContentSummary(imagePaths, previewText, plainText.toString());
+    }
+
+    private static String toPreview(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return null;
+        }
+        // 줄바꿈을 공백으로 변환
+        String trimmed = text.trim().replaceAll("\\s+", " ");
+        // 60자로 제한
+        if (trimmed.length() > PREVIEW_MAX_LENGTH) {
+            return trimmed.substring(0, PREVIEW_MAX_LENGTH) + "...";
+        }
+        return trimmed;
+    }
+
+    @Getter
+    public static class ContentSummary {
+        private final List<String> imagePaths;
+        private final String previewText;
+        /** 전체 텍스트 블록 (검색 색인용) */
+        private final String plainText;
+
+        private ContentSummary(List<String> imagePaths, String previewText, String plainText) {
+            this.imagePaths = imagePaths;
+            this.previewText = previewText;
+            this.plainText = plainText;
+        }
+
+        /** 썸네일 이미지 경로 (첫 번째 이미지) */
+        public String getThumbnailPath() {
+            return imagePaths.isEmpty() ? null : imagePaths.get(0);
+        }
+    }
+}
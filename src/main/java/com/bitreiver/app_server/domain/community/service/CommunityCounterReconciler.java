@@ -0,0 +1,66 @@
+package com.bitreiver.app_server.domain.community.service;
+
+import com.bitreiver.app_server.domain.community.repository.CommunityCommentRepository;
+import com.bitreiver.app_server.domain.community.repository.CommunityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글/댓글 반응·댓글 개수 컬럼 보정 작업.
+ * 개수는 쓰기 시점에 증감되므로, 실패한 트랜잭션이나 직접 수정된 데이터로 생긴 차이를
+ * 실제 행 수(COUNT) 기준으로 주기적으로 맞춘다.
+ * - REPEATABLE READ로 실행해, 보정 중 반응/댓글이 커밋되어 같은 행이 바뀌면 이전 COUNT로 덮어쓰지 않고 중단한다 (다음 주기에 재시도).
+ * - advisory lock으로 한 노드만 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommunityCounterReconciler {
+
+    private static final long LOCK_KEY = 0x636F756E74657273L; // "counters"
+
+    private final CommunityRepository communityRepository;
+    private final CommunityCommentRepository communityCommentRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 기동 시 1회 실행 (개수 컬럼 추가 직후 기존 데이터 채우기 포함)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "${community.counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!communityRepository.tryAdvisoryXactLock(LOCK_KEY)) {
+                    log.info("커뮤니티 개수 컬럼 보정 - 다른 노드에서 실행 중");
+                    return;
+                }
+                int communities = communityRepository.reconcileCounters();
+                int comments = communityCommentRepository.reconcileReactionCounters();
+                if (communities > 0 || comments > 0) {
+                    log.warn("커뮤니티 개수 컬럼 보정 완료 - 게시글: {}건, 댓글: {}건", communities, comments);
+                } else {
+                    log.info("커뮤니티 개수 컬럼 보정 - 차이 없음");
+                }
+            });
+        } catch (ConcurrencyFailureException e) {
+            log.warn("커뮤니티 개수 컬럼 보정 중단 (보정 중 개수 변경) - 다음 주기에 재시도: {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("커뮤니티 개수 컬럼 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.bitreiver.app_server.domain.community.service;
+
+import com.bitreiver.app_server.domain.community.dto.CommunityListResponse;
+import com.bitreiver.app_server.domain.community.entity.CommunitySummary;
+import com.bitreiver.app_server.domain.community.entity.CommunityReaction;
+import com.bitreiver.app_server.domain.community.enums.ReactionType;
+import com.bitreiver.app_server.domain.community.repository.CommunityReactionRepository;
+import com.bitreiver.app_server.domain.user.entity.User;
+import com.bitreiver.app_server.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록 응답 조립.
+ * 본문(content) 없이 목록용 컬럼(CommunitySummary)만 사용한다.
+ * 반응/댓글 개수, 간추린 텍스트, 썸네일은 게시글 컬럼을 그대로 사용하고, 작성자와 조회자 반응은 각각 IN 쿼리 1회로 일괄 조회하므로
+ * 게시글 수와 관계없이 페이지당 쿼리 수가 일정하다. (최대 2회)
+ */
+@Component
+@RequiredArgsConstructor
+public class CommunityFeedAssembler {
+
+    private final UserRepository userRepository;
+    private final CommunityReactionRepository communityReactionRepository;
+
+    /**
+     * @param viewerId 조회자 ID (비로그인이면 null - 사용자 반응 조회 생략)
+     */
+    public List<CommunityListResponse> assemble(List<CommunitySummary> communities, UUID viewerId) {
+        if (communities.isEmpty()) {
+            return List.of();
+        }
+
+        List<Integer> communityIds = communities.stream()
+            .map(CommunitySummary::getId)
+            .collect(Collectors.toList());
+        Set<UUID> authorIds = communities.stream()
+            .map(CommunitySummary::getUserId)
+            .collect(Collectors.toSet());
+
+        Map<UUID, User> userMap = userRepository.findAllById(authorIds).stream()
+            .collect(Collectors.toMap(User::getId, user -> user));
+        Map<Integer, ReactionType> viewerReactions = loadViewerReactions(viewerId, communityIds);
+
+        return communities.stream()
+            .map(community -> {
+                User user = userMap.get(community.getUserId());
+                ReactionType userReaction = viewerReactions.get(community.getId());
+
+                return CommunityListResponse.builder()
+                    .id(community.getId())
+                    .userId(community.getUserId())
+                    .userNickname(user != null ? user.getNickname() : null)
+                    .userProfileUrl(user != null ? user.getProfileUrl() : null)
+                    .category(community.getCategory() != null ? community.getCategory().getCode() : null)
+                    .title(community.getTitle())
+                    .hashtags(community.getHashtags())
+                    .likeCount(countOf(community.getLikeCount()))
+                    .dislikeCount(countOf(community.getDislikeCount()))
+                    .commentCount(countOf(community.getCommentCount()))
+                    .viewCount(countOf(community.getViewCount()))
+                    .userReaction(userReaction != null ? userReaction.getCode() : null)
+                    .thumbnailImageUrl(community.getThumbnailPath())
+                    .previewText(community.getPreviewText())
+                    .createdAt(community.getCreatedAt())
+                    .build();
+            })
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 캐시된(조회자 무관) 목록 항목에 조회자 반응만 IN 쿼리 1회로 덧붙인다.
+     */
+    public List<CommunityListResponse> withViewerReactions(List<CommunityListResponse> items, UUID viewerId) {
+        if (viewerId == null || items.isEmpty()) {
+            return items;
+        }
+        List<Integer> communityIds = items.stream()
+            .map(CommunityListResponse::getId)
+            .collect(Collectors.toList());
+        Map<Integer, ReactionType> viewerReactions = loadViewerReactions(viewerId, communityIds);
+
+        return items.stream()
+            .map(item -> {
+                ReactionType userReaction = viewerReactions.get(item.getId());
+                return item.toBuilder()
+                    .userReaction(userReaction != null ? userReaction.getCode() : null)
+                    .build();
+            })
+            .collect(Collectors.toList());
+    }
+
+    private Map<Integer, ReactionType> loadViewerReactions(UUID viewerId, List<Integer> communityIds) {
+        if (viewerId == null) {
+            return Collections.emptyMap();
+        }
+        return communityReactionRepository.findByUserIdAndCommunityIdIn(viewerId, communityIds).stream()
+            .collect(Collectors.toMap(CommunityReaction::getCommunityId, CommunityReaction::getReactionType));
+    }
+
+    private static long countOf(Long count) {
+        return count != null ? count : 0L;
+    }
+}
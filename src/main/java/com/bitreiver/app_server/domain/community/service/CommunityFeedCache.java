@@ -0,0 +1,228 @@
+package com.bitreiver.app_server.domain.community.service;
+
+import com.bitreiver.app_server.domain.community.dto.CommunityListResponse;
+import com.bitreiver.app_server.domain.community.entity.CommunitySummary;
+import com.bitreiver.app_server.domain.community.enums.Category;
+import com.bitreiver.app_server.domain.community.repository.CommunitySummaryRepository;
+import com.bitreiver.app_server.global.cache.RedisCacheService;
+import com.bitreiver.app_server.global.common.dto.PageResponse;
+import com.bitreiver.app_server.global.util.CursorUtil;
+import com.bitreiver.app_server.global.util.TransactionUtil;
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 커뮤니티 목록 첫 페이지들(hot 구간) 캐시.
+ * - community:feed:{all|카테고리} : 최신 hotSize개 게시글 id ZSET (score = created_at epoch ms)
+ * - community:item:{id}          : 조회자와 무관한 목록 항목 (userReaction 제외)
+ * - community:feed-recent:{all|카테고리} : 최근 작성된 게시글 id ZSET (짧은 TTL). 피드가 없어 재구성 중일 때 커밋된 게시글을
+ *   재구성 결과에 합치기 위해 사용한다.
+ * hot 구간 조회는 ZREVRANGE 1회 + MGET 1회로 처리하고, 없는 항목만 DB에서 IN 조회로 채운다.
+ * 게시글 작성/수정/삭제 및 반응/댓글 개수 변경 시 커밋 이후 갱신한다.
+ * 재구성은 노드 내/노드 간 한 번만 실행하고, 결과는 RENAME 대신 기존 키와 최근 게시글 ZSET에 합쳐 저장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommunityFeedCache {
+
+    private static final String FEED_KEY_PREFIX = "community:feed:";
+    private static final String ITEM_KEY_PREFIX = "community:item:";
+    private static final String COUNT_KEY_PREFIX = "community:feed-count:";
+    private static final String RECENT_KEY_PREFIX = "community:feed-recent:";
+    /** 재구성(DB 조회 ~ 저장) 소요 시간보다 충분히 길게 */
+    private static final long RECENT_TTL_SECONDS = 120L;
+    private static final String ALL_FEED = "all";
+    private static final TypeReference<Long> COUNT_TYPE = new TypeReference<>() {};
+
+    private final RedisCacheService redisCacheService;
+    private final CommunitySummaryRepository communitySummaryRepository;
+    private final CommunityFeedAssembler communityFeedAssembler;
+
+    @Value("${community.feed.hot-size:200}")
+    private int hotSize;
+
+    @Value("${community.feed.ttl-seconds:600}")
+    private long feedTtlSeconds;
+
+    @Value("${community.feed.item-ttl-seconds:600}")
+    private long itemTtlSeconds;
+
+    @Value("${community.feed.count-ttl-seconds:60}")
+    private long countTtlSeconds;
+
+    /**
+     * hot 구간 페이지 조회. 요청 범위가 hot 구간을 벗어나면 empty를 반환하므로 호출 측에서 DB로 조회한다.
+     *
+     * @param category null이면 전체 목록
+     * @param viewerId 조회자 ID (비로그인이면 null)
+     */
+    public Optional<PageResponse<CommunityListResponse>> getPage(Category category, int page, int size, UUID viewerId) {
+        if (page < 0 || size <= 0 || (long) (page + 1) * size > hotSize) {
+            return Optional.empty();
+        }
+
+        String feedKey = feedKey(category);
+        long start = (long) page * size;
+        List<Integer> ids = redisCacheService.zRevRange(feedKey, start, start + size - 1, Integer.class);
+        List<CommunityListResponse> items;
+        if (ids.isEmpty() && redisCacheService.zCard(feedKey) == 0) {
+            Optional<List<CommunityListResponse>> rebuilt = redisCacheService.runExclusive(feedKey, () -> rebuild(category, feedKey));
+            if (rebuilt.isEmpty()) {
+                // 다른 노드가 재구성 중 - 이번 요청은 DB에서 조회
+                return Optional.empty();
+            }
+            items = slice(rebuilt.get(), start, size);
+        } else {
+            items = loadItems(ids);
+        }
+
+        long total = redisCacheService.getOrLoad(countKey(category), COUNT_TYPE, countTtlSeconds,
+            () -> category != null ? communitySummaryRepository.countByCategory(category) : communitySummaryRepository.count());
+
+        return Optional.of(PageResponse.of(communityFeedAssembler.withViewerReactions(items, viewerId), page, size, total));
+    }
+
+    /**
+     * 새 게시글을 피드 ZSET에 추가 (커밋 이후). ZSET이 아직 없으면 다음 조회 시 DB에서 재구성하며,
+     * 재구성 중에 커밋된 게시글도 빠지지 않도록 최근 게시글 ZSET에는 항상 추가한다.
+     */
+    public void onCreated(Integer id, Category category, LocalDateTime createdAt) {
+        TransactionUtil.afterCommit(() -> {
+            double score = scoreOf(createdAt);
+            redisCacheService.zAddIfExists(feedKey(null), id, score, hotSize);
+            redisCacheService.zAddIfExists(feedKey(category), id, score, hotSize);
+            redisCacheService.zAdd(recentKey(null), id, score, hotSize, RECENT_TTL_SECONDS);
+            redisCacheService.zAdd(recentKey(category), id, score, hotSize, RECENT_TTL_SECONDS);
+            redisCacheService.delete(countKey(null));
+            redisCacheService.delete(countKey(category));
+        });
+    }
+
+    /**
+     * 게시글 수정 (커밋 이후). 카테고리가 바뀌면 두 카테고리 피드를 재구성 대상으로 비운다.
+     */
+    public void onUpdated(Integer id, Category previousCategory, Category category) {
+        TransactionUtil.afterCommit(() -> {
+            redisCacheService.delete(itemKey(id));
+            if (previousCategory != category) {
+                redisCacheService.zRemove(recentKey(previousCategory), id);
+                evictFeed(previousCategory);
+                evictFeed(category);
+            }
+        });
+    }
+
+    /**
+     * 게시글 삭제 (커밋 이후). ZSET에서 멤버만 빼면 hot 구간 끝이 비므로 피드를 비우고 다음 조회 시 재구성한다.
+     */
+    public void onDeleted(Integer id, Category category) {
+        TransactionUtil.afterCommit(() -> {
+            redisCacheService.delete(itemKey(id));
+            redisCacheService.zRemove(recentKey(null), id);
+            redisCacheService.zRemove(recentKey(category), id);
+            evictFeed(null);
+            evictFeed(category);
+        });
+    }
+
+    /**
+     * 반응/댓글 개수 변경 (커밋 이후) - 목록 항목만 무효화
+     */
+    public void evictItem(Integer id) {
+        TransactionUtil.afterCommit(() -> redisCacheService.delete(itemKey(id)));
+    }
+
+    private List<CommunityListResponse> rebuild(Category category, String feedKey) {
+        CursorUtil.Position first = CursorUtil.decode(null);
+        List<CommunitySummary> recent = category != null
+            ? communitySummaryRepository.findPageByCategoryBefore(category.getCode(), first.getTime(), first.getId(), hotSize)
+            : communitySummaryRepository.findPageBefore(first.getTime(), first.getId(), hotSize);
+
+        List<CommunityListResponse> items = communityFeedAssembler.assemble(recent, null);
+        items.forEach(item -> redisCacheService.set(itemKey(item.getId()), item, itemTtlSeconds));
+        Map<Integer, Double> scores = items.stream()
+            .collect(Collectors.toMap(CommunityListResponse::getId, item -> scoreOf(item.getCreatedAt())));
+        redisCacheService.zMergeAll(feedKey, new ArrayList<>(scores.keySet()), scores::get,
+            List.of(recentKey(category)), hotSize, feedTtlSeconds);
+        log.debug("커뮤니티 피드 재구성 - key: {}, count: {}", feedKey, items.size());
+        return items;
+    }
+
+    /**
+     * id 순서대로 항목 조회 (userReaction 제외). 캐시에 없는 항목만 DB에서 한 번에 읽어 채운다.
+     * 인기순 목록처럼 id 순서를 따로 관리하는 목록도 같은 항목 캐시를 사용한다.
+     */
+    public List<CommunityListResponse> loadItems(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<String> keys = ids.stream().map(CommunityFeedCache::itemKey).toList();
+        Map<String, CommunityListResponse> cached = redisCacheService.multiGet(keys, CommunityListResponse.class);
+
+        List<Integer> missingIds = ids.stream()
+            .filter(id -> !cached.containsKey(itemKey(id)))
+            .toList();
+        Map<Integer, CommunityListResponse> loaded = Map.of();
+        if (!missingIds.isEmpty()) {
+            loaded = communityFeedAssembler.assemble(communitySummaryRepository.findAllById(missingIds), null).stream()
+                .collect(Collectors.toMap(CommunityListResponse::getId, Function.identity()));
+            loaded.values().forEach(item -> redisCacheService.set(itemKey(item.getId()), item, itemTtlSeconds));
+        }
+
+        List<CommunityListResponse> items = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            CommunityListResponse item = cached.getOrDefault(itemKey(id), loaded.get(id));
+            // 피드 반영 전 삭제된 게시글은 건너뜀
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    private void evictFeed(Category category) {
+        redisCacheService.delete(feedKey(category));
+        redisCacheService.delete(countKey(category));
+    }
+
+    private static List<CommunityListResponse> slice(List<CommunityListResponse> items, long start, int size) {
+        if (start >= items.size()) {
+            return List.of();
+        }
+        return items.subList((int) start, (int) Math.min(items.size(), start + size));
+    }
+
+    private static double scoreOf(LocalDateTime createdAt) {
+        return createdAt != null ? createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0d;
+    }
+
+    private static String feedKey(Category category) {
+        return FEED_KEY_PREFIX + (category != null ? category.getCode() : ALL_FEED);
+    }
+
+    private static String recentKey(Category category) {
+        return RECENT_KEY_PREFIX + (category != null ? category.getCode() : ALL_FEED);
+    }
+
+    private static String countKey(Category category) {
+        return COUNT_KEY_PREFIX + (category != null ? category.getCode() : ALL_FEED);
+    }
+
+    private static String itemKey(Integer id) {
+        return ITEM_KEY_PREFIX + id;
+    }
+}
@@ -0,0 +1,14 @@
+package com.bitreiver.app_server.domain.community.service;
+
+import com.bitreiver.app_server.domain.community.dto.TrendingHashtagResponse;
+import com.bitreiver.app_server.domain.community.enums.TrendWindow;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CommunityHashtagTrendService {
+    void recordCreated(List<String> hashtags, LocalDateTime createdAt);
+    void recordUpdated(List<String> previousHashtags, List<String> hashtags, LocalDateTime createdAt);
+    void recordDeleted(List<String> hashtags, LocalDateTime createdAt);
+    List<TrendingHashtagResponse> getTrending(TrendWindow window, int limit);
+}
@@ -0,0 +1,159 @@
+package com.bitreiver.app_server.domain.community.service;
+
+import com.bitreiver.app_server.domain.community.dto.TrendingHashtagResponse;
+import com.bitreiver.app_server.domain.community.enums.TrendWindow;
+import com.bitreiver.app_server.global.cache.RedisCacheService;
+import com.bitreiver.app_server.global.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 인기 해시태그 집계.
+ * 게시글 작성/수정/삭제 시 작성 시각의 시간 버킷 ZSET(community:hashtag:bucket:{yyyyMMddHH})에서 해시태그 점수를 증감하고,
+ * 조회 시 구간 내 버킷들을 ZUNIONSTORE로 감쇠 가중 합산한 결과를 짧게 캐시한다(빈 결과 포함). communities 테이블은 조회하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommunityHashtagTrendServiceImpl implements CommunityHashtagTrendService {
+
+    private static final String BUCKET_KEY_PREFIX = "community:hashtag:bucket:";
+    private static final String TRENDING_KEY_PREFIX = "community:hashtag:trending:";
+    /** 합산 결과가 비어 ZUNIONSTORE가 키를 만들지 않아도 캐시 기간 동안 재합산하지 않도록 남기는 표시 */
+    private static final String MERGED_KEY_PREFIX = "community:hashtag:merged:";
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final int MAX_LIMIT = 50;
+    /** 가장 긴 구간 + 구간 경계에 걸친 버킷 1개 */
+    private static final long BUCKET_RETENTION_HOURS = TrendWindow.WEEK.getHours() + 1L;
+
+    private final RedisCacheService redisCacheService;
+
+    @Value("${community.trending.cache-ttl-seconds:60}")
+    private long trendingTtlSeconds;
+
+    @Override
+    public void recordCreated(List<String> hashtags, LocalDateTime createdAt) {
+        TransactionUtil.afterCommit(() -> adjust(normalize(hashtags), createdAt, 1));
+    }
+
+    @Override
+    public void recordUpdated(List<String> previousHashtags, List<String> hashtags, LocalDateTime createdAt) {
+        Set<String> previous = normalize(previousHashtags);
+        Set<String> current = normalize(hashtags);
+
+        Set<String> removed = new LinkedHashSet<>(previous);
+        removed.removeAll(current);
+        Set<String> added = new LinkedHashSet<>(current);
+        added.removeAll(previous);
+
+        TransactionUtil.afterCommit(() -> {
+            adjust(removed, createdAt, -1);
+            adjust(added, createdAt, 1);
+        });
+    }
+
+    @Override
+    public void recordDeleted(List<String> hashtags, LocalDateTime createdAt) {
+        TransactionUtil.afterCommit(() -> adjust(normalize(hashtags), createdAt, -1));
+    }
+
+    @Override
+    public List<TrendingHashtagResponse> getTrending(TrendWindow window, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        String trendingKey = TRENDING_KEY_PREFIX + window.getCode();
+
+        String mergedKey = MERGED_KEY_PREFIX + window.getCode();
+
+        Map<String, Double> top = redisCacheService.zRevRangeWithScores(trendingKey, 0, MAX_LIMIT - 1, String.class);
+        if (top.isEmpty() && !redisCacheService.exists(mergedKey)) {
+            mergeBuckets(window, trendingKey);
+            redisCacheService.set(mergedKey, LocalDateTime.now().toString(), trendingTtlSeconds);
+            top = redisCacheService.zRevRangeWithScores(trendingKey, 0, MAX_LIMIT - 1, String.class);
+        }
+
+        List<TrendingHashtagResponse> result = new ArrayList<>(size);
+        for (Map.Entry<String, Double> entry : top.entrySet()) {
+            // 삭제로 0 이하가 된 해시태그 제외
+            if (result.size() >= size || entry.getValue() == null || entry.getValue() <= 0) {
+                break;
+            }
+            result.add(TrendingHashtagResponse.builder()
+                .rank(result.size() + 1)
+                .hashtag(entry.getKey())
+                .score(Math.round(entry.getValue() * 100) / 100.0)
+                .build());
+        }
+        return result;
+    }
+
+    /**
+     * 구간 내 시간 버킷을 감쇠 가중치로 합산. 가중치는 버킷 나이에 따라 halfLifeHours마다 절반이 되며,
+     * 구간 시작 경계에 걸친 가장 오래된 버킷은 구간 안에 남은 비율만큼만 반영한다.
+     */
+    private void mergeBuckets(TrendWindow window, String trendingKey) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime currentBucket = now.truncatedTo(ChronoUnit.HOURS);
+        double elapsedInHour = Duration.between(currentBucket, now).toSeconds() / 3600.0;
+
+        List<String> keys = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        for (int age = 0; age <= window.getHours(); age++) {
+            double weight = Math.pow(0.5, (double) age / window.getHalfLifeHours());
+            if (age == window.getHours()) {
+                weight *= 1 - elapsedInHour;
+            }
+            if (weight <= 0) {
+                continue;
+            }
+            keys.add(bucketKey(currentBucket.minusHours(age)));
+            weights.add(weight);
+        }
+        redisCacheService.zUnionStore(trendingKey, keys, weights, trendingTtlSeconds);
+        log.debug("인기 해시태그 합산 - window: {}, buckets: {}", window.getCode(), keys.size());
+    }
+
+    /**
+     * 게시글 작성 시각의 버킷에서 증감. 이미 보관 기간이 지난 버킷은 건드리지 않는다.
+     */
+    private void adjust(Collection<String> hashtags, LocalDateTime createdAt, double delta) {
+        if (hashtags.isEmpty() || createdAt == null) {
+            return;
+        }
+        LocalDateTime bucket = createdAt.truncatedTo(ChronoUnit.HOURS);
+        long ttlSeconds = Duration.between(LocalDateTime.now(), bucket.plusHours(BUCKET_RETENTION_HOURS)).toSeconds();
+        if (ttlSeconds <= 0) {
+            return;
+        }
+        redisCacheService.zIncrementAll(bucketKey(bucket), hashtags, delta, ttlSeconds);
+    }
+
+    private static Set<String> normalize(List<String> hashtags) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (hashtags == null) {
+            return normalized;
+        }
+        for (String hashtag : hashtags) {
+            if (hashtag != null && !hashtag.isBlank()) {
+                normalized.add(hashtag.trim());
+            }
+        }
+        return normalized;
+    }
+
+    private static String bucketKey(LocalDateTime bucket) {
+        return BUCKET_KEY_PREFIX + bucket.format(BUCKET_FORMAT);
+    }
+}
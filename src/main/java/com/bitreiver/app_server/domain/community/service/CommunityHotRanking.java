@@ -0,0 +1,236 @@
+package com.bitreiver.app_server.domain.community.service;
+
+import com.bitreiver.app_server.domain.community.dto.CommunityListResponse;
+import com.bitreiver.app_server.domain.community.entity.CommunitySummary;
+import com.bitreiver.app_server.domain.community.enums.Category;
+import com.bitreiver.app_server.domain.community.repository.CommunitySummaryRepository;
+import com.bitreiver.app_server.global.cache.RedisCacheService;
+import com.bitreiver.app_server.global.common.dto.PageResponse;
+import com.bitreiver.app_server.global.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 게시글 인기순(hot) 랭킹.
+ * - community:hot:{all|카테고리} : 점수 상위 hotSize개 게시글 id ZSET
+ * 점수 = (좋아요 - 싫어요 + 댓글 x commentWeight + 1) / (경과 시간 + 2)^gravity (HN 방식 시간 감쇠).
+ * 반응/댓글 개수가 바뀌면 해당 게시글 점수만 커밋 이후 다시 넣고, 시간 감쇠는 rescore 주기마다 최근 windowHours 게시글 전체를
+ * 다시 계산해 ZSET을 통째로 교체(RENAME)해 반영한다. 조회는 ZREVRANGE 1회 + 목록 항목 캐시(MGET)로 처리한다.
+ * 개별 갱신도 현재 시각이 아닌 마지막 재계산 시각(community:hot:rescored) 기준으로 점수를 매겨, 같은 ZSET의 다른 점수와 같은 기준으로 비교되게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommunityHotRanking {
+
+    private static final String HOT_KEY_PREFIX = "community:hot:";
+    private static final String RESCORED_KEY = "community:hot:rescored";
+    private static final String RESCORE_LOCK_KEY = "community:hot:rescore";
+    private static final String ALL_FEED = "all";
+
+    private final RedisCacheService redisCacheService;
+    private final CommunitySummaryRepository communitySummaryRepository;
+    private final CommunityFeedCache communityFeedCache;
+    private final CommunityFeedAssembler communityFeedAssembler;
+
+    @Value("${community.hot.size:500}")
+    private int hotSize;
+
+    @Value("${community.hot.window-hours:72}")
+    private long windowHours;
+
+    @Value("${community.hot.gravity:1.8}")
+    private double gravity;
+
+    @Value("${community.hot.comment-weight:2.0}")
+    private double commentWeight;
+
+    @Value("${community.hot.rescore-interval-ms:600000}")
+    private long rescoreIntervalMs;
+
+    /**
+     * 인기순 페이지 조회. hot 구간 밖의 페이지는 빈 목록을 반환한다.
+     *
+     * @param category null이면 전체 목록
+     * @param viewerId 조회자 ID (비로그인이면 null)
+     */
+    public PageResponse<CommunityListResponse> getPage(Category category, int page, int size, UUID viewerId) {
+        String hotKey = hotKey(category);
+        long start = (long) page * size;
+        List<Integer> ids = redisCacheService.zRevRange(hotKey, start, start + size - 1, Integer.class);
+        // 재계산 이력이 없을 때만 즉시 계산 (최근 게시글이 없는 카테고리는 빈 ZSET이 저장되지 않으므로)
+        // 동시 요청이 모두 전체 재계산을 하지 않도록 노드 내/노드 간 한 번만 실행 (다른 노드가 계산 중이면 이번 요청은 빈 목록)
+        if (ids.isEmpty() && !redisCacheService.exists(RESCORED_KEY)) {
+            redisCacheService.runExclusive(RESCORE_LOCK_KEY, () -> {
+                rescore();
+                return Boolean.TRUE;
+            });
+            ids = redisCacheService.zRevRange(hotKey, start, start + size - 1, Integer.class);
+        }
+
+        List<CommunityListResponse> items = communityFeedAssembler.withViewerReactions(communityFeedCache.loadItems(ids), viewerId);
+        return PageResponse.of(items, page, size, redisCacheService.zCard(hotKey));
+    }
+
+    /**
+     * 새 게시글 (커밋 이후). 점수가 hot 구간에 들면 ZSET에 남는다.
+     */
+    public void onCreated(Integer id, Category category, LocalDateTime createdAt) {
+        TransactionUtil.afterCommit(() -> lastRescoredAt().ifPresent(rescoredAt ->
+            addIfRanked(id, category, scoreOf(0L, 0L, 0L, createdAt, rescoredAt))));
+    }
+
+    /**
+     * 반응/댓글 개수 변경 (커밋 이후) - 해당 게시글 점수만 갱신
+     */
+    public void onCountsChanged(Integer id) {
+        TransactionUtil.afterCommit(() -> refresh(id));
+    }
+
+    /**
+     * 게시글 수정 (커밋 이후). 카테고리가 바뀌면 이전 카테고리 ZSET에서 빼고 새 카테고리 기준으로 다시 넣는다.
+     */
+    public void onUpdated(Integer id, Category previousCategory, Category category) {
+        if (previousCategory == category) {
+            return;
+        }
+        TransactionUtil.afterCommit(() -> {
+            redisCacheService.zRemove(hotKey(previousCategory), id);
+            refresh(id);
+        });
+    }
+
+    public void onDeleted(Integer id, Category category) {
+        TransactionUtil.afterCommit(() -> {
+            redisCacheService.zRemove(hotKey(null), id);
+            redisCacheService.zRemove(hotKey(category), id);
+        });
+    }
+
+    /**
+     * 최근 windowHours 게시글 점수를 다시 계산해 전체/카테고리별 ZSET을 교체 (시간 감쇠 반영).
+     * 결과가 같은 멱등 작업이므로 여러 노드에서 실행되어도 무방하다.
+     */
+    @Scheduled(fixedDelayString = "${community.hot.rescore-interval-ms:600000}", initialDelay = 60000)
+    public void rescore() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows;
+        try {
+            rows = communitySummaryRepository.findScoreRowsCreatedSince(now.minusHours(windowHours));
+        } catch (Exception e) {
+            log.error("게시글 인기순 점수 계산 실패: {}", e.getMessage(), e);
+            return;
+        }
+
+        Map<String, Map<Integer, Double>> scoresByKey = new HashMap<>();
+        for (Object[] row : rows) {
+            Integer id = ((Number) row[0]).intValue();
+            double score = scoreOf(countOf(row[2]), countOf(row[3]), countOf(row[4]), timeOf(row[5]), now);
+            scoresByKey.computeIfAbsent(hotKey(null), key -> new HashMap<>()).put(id, score);
+            if (row[1] != null) {
+                String categoryKey = HOT_KEY_PREFIX + row[1];
+                scoresByKey.computeIfAbsent(categoryKey, key -> new HashMap<>()).put(id, score);
+            }
+        }
+
+        // 다음 재계산 전에 만료되지 않도록 주기의 2배로 설정
+        long ttlSeconds = Math.max(60L, rescoreIntervalMs / 1000 * 2);
+        List<String> keys = new ArrayList<>();
+        keys.add(hotKey(null));
+        for (Category category : Category.values()) {
+            keys.add(hotKey(category));
+        }
+        for (String key : keys) {
+            Map<Integer, Double> scores = scoresByKey.getOrDefault(key, Map.of());
+            if (scores.isEmpty()) {
+                redisCacheService.delete(key);
+                continue;
+            }
+            List<Integer> top = scores.keySet().stream()
+                .sorted(Comparator.comparing(scores::get).reversed())
+                .limit(hotSize)
+                .toList();
+            redisCacheService.zAddAll(key, top, scores::get, ttlSeconds);
+        }
+        redisCacheService.set(RESCORED_KEY, now.toString(), ttlSeconds);
+        log.debug("게시글 인기순 점수 재계산 - 대상: {}건", rows.size());
+    }
+
+    private void refresh(Integer id) {
+        CommunitySummary community = communitySummaryRepository.findById(id).orElse(null);
+        if (community == null) {
+            return;
+        }
+        // 재계산 이력이 없으면 ZSET도 없으므로 넣을 곳이 없음
+        Optional<LocalDateTime> rescoredAt = lastRescoredAt();
+        if (rescoredAt.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = rescoredAt.get();
+        if (community.getCreatedAt() == null || community.getCreatedAt().isBefore(now.minusHours(windowHours))) {
+            return;
+        }
+        double score = scoreOf(
+            countOf(community.getLikeCount()),
+            countOf(community.getDislikeCount()),
+            countOf(community.getCommentCount()),
+            community.getCreatedAt(),
+            now
+        );
+        addIfRanked(id, community.getCategory(), score);
+    }
+
+    private Optional<LocalDateTime> lastRescoredAt() {
+        try {
+            return redisCacheService.get(RESCORED_KEY, String.class).map(LocalDateTime::parse);
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 이미 있는 ZSET에만 넣고 상위 hotSize개로 자른다. ZSET이 없으면 다음 조회/재계산 때 전체가 계산된다.
+     */
+    private void addIfRanked(Integer id, Category category, double score) {
+        redisCacheService.zAddIfExists(hotKey(null), id, score, hotSize);
+        if (category != null) {
+            redisCacheService.zAddIfExists(hotKey(category), id, score, hotSize);
+        }
+    }
+
+    private double scoreOf(long likeCount, long dislikeCount, long commentCount, LocalDateTime createdAt, LocalDateTime now) {
+        double points = likeCount - dislikeCount + commentCount * commentWeight + 1;
+        double ageHours = createdAt != null ? Math.max(0, Duration.between(createdAt, now).toSeconds() / 3600.0) : windowHours;
+        return points / Math.pow(ageHours + 2, gravity);
+    }
+
+    private static long countOf(Object count) {
+        return count instanceof Number number ? number.longValue() : 0L;
+    }
+
+    private static LocalDateTime timeOf(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return value instanceof LocalDateTime time ? time : null;
+    }
+
+    private static String hotKey(Category category) {
+        return HOT_KEY_PREFIX + (category != null ? category.getCode() : ALL_FEED);
+    }
+}
@@ -1,17 +1,19 @@
 package com.bitreiver.app_server.domain.community.service;
 
+import com.bitreiver.app_server.domain.community.repository.CommunityRepository;
 import com.bitreiver.app_server.global.common.exception.CustomException;
 import com.bitreiver.app_server.global.common.exception.ErrorCode;
+import com.bitreiver.app_server.global.storage.MinioObjectDelivery;
 import io.minio.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.UUID;
@@ -22,6 +24,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CommunityImageServiceImpl implements CommunityImageService {
     private final MinioClient minioClient;
+    private final CommunityRepository communityRepository;
+    private final MinioObjectDelivery minioObjectDelivery;
     
     @Value("${minio.bucket-name}")
     private String bucketName;
@@ -72,26 +76,19 @@ public class CommunityImageServiceImpl implements CommunityImageService {
         }
     }
     
+    /**
+     * 게시글 이미지 응답. content에 포함된 이미지만 허용하며 게시글 이미지는 공개이므로 공유 캐시를 허용한다.
+     */
     @Override
-    public Resource downloadImage(Integer communityId, String imagePath) {
-        // imagePath 형식: @communityImage/{communityId}/{filename}
-        String filename = extractFilename(imagePath);
-        String objectKey = String.format("community-images/%d/%s", communityId, filename);
-        
-        try {
-            InputStream stream = minioClient.getObject(
-                    GetObjectArgs.builder()
-                            .bucket(bucketName)
-                            .object(objectKey)
-                            .build()
-            );
-            
-            return new InputStreamResource(stream);
-            
-        } catch (Exception e) {
-            log.error("이미지 다운로드 실패: communityId={}, objectKey={}", communityId, objectKey, e);
-            throw new CustomException(ErrorCode.INTERNAL_ERROR, "이미지 다운로드에 실패했습니다: " + e.getMessage());
+    public ResponseEntity<Resource> deliverImage(Integer communityId, String filename, HttpHeaders requestHeaders) {
+        // content에서 해당 파일명이 존재하는지 확인 (보안 검증)
+        String imagePath = String.format("@communityImage/%d/%s", communityId, filename);
+        if (!communityRepository.existsImage(communityId, imagePath)) {
+            throw new CustomException(ErrorCode.NOT_FOUND);
         }
+        
+        String objectKey = String.format("community-images/%d/%s", communityId, filename);
+        return minioObjectDelivery.deliver(objectKey, requestHeaders, true);
     }
     
     @Override
@@ -0,0 +1,152 @@
+package com.bitreiver.app_server.domain.community.service;
+
+import com.bitreiver.app_server.domain.community.dto.CommunityCommentResponse;
+import com.bitreiver.app_server.domain.community.dto.CommunityLiveEvent;
+import com.bitreiver.app_server.domain.community.enums.CommunityLiveEventType;
+import com.bitreiver.app_server.global.util.TransactionUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 실시간 이벤트 (STOMP /topic/communities/{id}).
+ * 커밋 이후 Redis pub/sub(community:live)으로 발행하고, 모든 노드가 구독해 각자 연결된 클라이언트에게 전달한다.
+ * (메모리 브로커는 노드별이므로 다른 노드에서 생긴 변경도 받기 위함)
+ * - 댓글 작성/삭제: 즉시 전달
+ * - 반응 개수: 노드별로 게시글마다 변화량을 모아 reaction-interval-ms(기본 1초)마다 최대 1건 전달
+ */
+@Slf4j
+@Component
+public class CommunityLiveEventPublisher implements MessageListener {
+
+    public static final String CHANNEL = "community:live";
+    private static final String TOPIC_PREFIX = "/topic/communities/";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    /** communityId -> [좋아요 변화량, 싫어요 변화량] */
+    private final Map<Integer, long[]> pendingReactionDeltas = new ConcurrentHashMap<>();
+
+    public CommunityLiveEventPublisher(
+            @Qualifier("stringRedisTemplate") StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            SimpMessagingTemplate messagingTemplate,
+            ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public void commentCreated(Integer communityId, CommunityCommentResponse comment) {
+        publishAfterCommit(CommunityLiveEvent.builder()
+            .type(CommunityLiveEventType.COMMENT_CREATED)
+            .communityId(communityId)
+            .comment(comment)
+            .build());
+    }
+
+    public void commentDeleted(Integer communityId, Long commentId) {
+        publishAfterCommit(CommunityLiveEvent.builder()
+            .type(CommunityLiveEventType.COMMENT_DELETED)
+            .communityId(communityId)
+            .commentId(commentId)
+            .build());
+    }
+
+    public void reactionCountsChanged(Integer communityId, long likeDelta, long dislikeDelta) {
+        if (likeDelta == 0 && dislikeDelta == 0) {
+            return;
+        }
+        publishAfterCommit(CommunityLiveEvent.builder()
+            .type(CommunityLiveEventType.REACTION_COUNTS)
+            .communityId(communityId)
+            .likeDelta(likeDelta)
+            .dislikeDelta(dislikeDelta)
+            .build());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CommunityLiveEvent event = objectMapper.readValue(
+                new String(message.getBody(), StandardCharsets.UTF_8), CommunityLiveEvent.class);
+            dispatch(event);
+        } catch (Exception e) {
+            log.warn("게시글 실시간 이벤트 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 모아 둔 반응 개수 변화량 전달
+     */
+    @Scheduled(fixedDelayString = "${community.live.reaction-interval-ms:1000}")
+    public void flushReactionCounts() {
+        if (pendingReactionDeltas.isEmpty()) {
+            return;
+        }
+        for (Integer communityId : new ArrayList<>(pendingReactionDeltas.keySet())) {
+            long[] delta = pendingReactionDeltas.remove(communityId);
+            if (delta == null || (delta[0] == 0 && delta[1] == 0)) {
+                continue;
+            }
+            send(CommunityLiveEvent.builder()
+                .type(CommunityLiveEventType.REACTION_COUNTS)
+                .communityId(communityId)
+                .likeDelta(delta[0])
+                .dislikeDelta(delta[1])
+                .build());
+        }
+    }
+
+    private void publishAfterCommit(CommunityLiveEvent event) {
+        TransactionUtil.afterCommit(() -> {
+            try {
+                stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+            } catch (Exception e) {
+                // Redis 장애 시 이 노드의 구독자에게만이라도 전달
+                log.warn("게시글 실시간 이벤트 발행 실패 - communityId: {}, error: {}", event.getCommunityId(), e.getMessage());
+                dispatch(event);
+            }
+        });
+    }
+
+    private void dispatch(CommunityLiveEvent event) {
+        if (event.getType() == CommunityLiveEventType.REACTION_COUNTS) {
+            pendingReactionDeltas.compute(event.getCommunityId(), (id, delta) -> {
+                long[] merged = delta != null ? delta : new long[2];
+                merged[0] += event.getLikeDelta() != null ? event.getLikeDelta() : 0L;
+                merged[1] += event.getDislikeDelta() != null ? event.getDislikeDelta() : 0L;
+                return merged;
+            });
+            return;
+        }
+        send(event);
+    }
+
+    private void send(CommunityLiveEvent event) {
+        messagingTemplate.convertAndSend(TOPIC_PREFIX + event.getCommunityId(), event);
+    }
+}
@@ -0,0 +1,60 @@
+package com.bitreiver.app_server.domain.community.service;
+
+import com.bitreiver.app_server.domain.community.entity.Community;
+import com.bitreiver.app_server.domain.community.repository.CommunityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 목록용 간추린 텍스트/썸네일 컬럼이 채워지지 않은 기존 게시글 백필.
+ * 기동 시 preview_extracted = false 인 게시글을 id 순으로 100건씩 처리하며, 배치마다 별도 트랜잭션으로 커밋한다.
+ * 이미 추출된 게시글은 건너뛰므로 여러 노드에서 동시에 실행되어도 결과는 같다.
+ * 조회 후 게시글이 수정되어 새 값이 저장된 경우에는 갱신 조건(preview_extracted = false)에 걸려 덮어쓰지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommunityPreviewBackfill {
+
+    private final CommunityRepository communityRepository;
+    private final CommunityContentParser communityContentParser;
+    private final PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int lastId = 0;
+        int total = 0;
+        try {
+            while (true) {
+                final int afterId = lastId;
+                List<Integer> processedIds = transactionTemplate.execute(status -> {
+                    List<Community> batch = communityRepository.findTop100ByPreviewExtractedFalseAndIdGreaterThanOrderByIdAsc(afterId);
+                    for (Community community : batch) {
+                        CommunityContentParser.ContentSummary summary = communityContentParser.parse(community.getContent());
+                        communityRepository.updatePreviewIfNotExtracted(community.getId(), summary.getPreviewText(), summary.getThumbnailPath());
+                    }
+                    return batch.stream().map(Community::getId).toList();
+                });
+                if (processedIds == null || processedIds.isEmpty()) {
+                    break;
+                }
+                total += processedIds.size();
+                lastId = processedIds.get(processedIds.size() - 1);
+            }
+        } catch (Exception e) {
+            log.error("게시글 간추린 텍스트/썸네일 백필 실패 - lastId: {}, error: {}", lastId, e.getMessage(), e);
+            return;
+        }
+        if (total > 0) {
+            log.info("게시글 간추린 텍스트/썸네일 백필 완료 - {}건", total);
+        }
+    }
+}
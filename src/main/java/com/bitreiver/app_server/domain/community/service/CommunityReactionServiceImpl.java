@@ -1,9 +1,12 @@
 package com.bitreiver.app_server.domain.community.service;
 
+import com.bitreiver.app_server.domain.community.entity.Community;
 import com.bitreiver.app_server.domain.community.entity.CommunityReaction;
 import com.bitreiver.app_server.domain.community.enums.ReactionType;
 import com.bitreiver.app_server.domain.community.repository.CommunityReactionRepository;
 import com.bitreiver.app_server.domain.community.repository.CommunityRepository;
+import com.bitreiver.app_server.domain.community.service.CommunityReactionWriter.Result;
+import com.bitreiver.app_server.domain.community.service.CommunityReactionWriter.Transition;
 import com.bitreiver.app_server.global.common.exception.CustomException;
 import com.bitreiver.app_server.global.common.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -11,7 +14,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Slf4j
@@ -21,68 +23,74 @@ public class CommunityReactionServiceImpl implements CommunityReactionService {
     
     private final CommunityReactionRepository communityReactionRepository;
     private final CommunityRepository communityRepository;
+    private final CommunityReactionWriter communityReactionWriter;
+    private final CommunityReactionWriteBuffer communityReactionWriteBuffer;
     
+    /**
+     * 반응 토글. 조회 없이 단일 문장으로 적용하므로 연타해도 행/개수가 어긋나지 않는다.
+     * write-behind 버퍼가 켜져 있으면 게시글 존재만 확인하고 버퍼에 합친다.
+     */
     @Override
     @Transactional
     public void addReaction(UUID userId, Integer communityId, ReactionType reactionType) {
-        // 게시글 존재 확인
-        if (!communityRepository.existsById(communityId)) {
-            throw new CustomException(ErrorCode.NOT_FOUND, "게시글을 찾을 수 없습니다.");
+        Transition transition = Transition.toggle(reactionType);
+        if (communityReactionWriteBuffer.isEnabled()) {
+            if (!communityRepository.existsById(communityId)) {
+                throw new CustomException(ErrorCode.NOT_FOUND, "게시글을 찾을 수 없습니다.");
+            }
+            communityReactionWriteBuffer.enqueue(userId, communityId, transition);
+            return;
         }
         
-        // 기존 반응 조회
-        CommunityReaction existingReaction = communityReactionRepository
-            .findByUserIdAndCommunityId(userId, communityId)
-            .orElse(null);
-        
-        if (existingReaction != null) {
-            // 같은 타입이면 삭제 (토글)
-            if (existingReaction.getReactionType() == reactionType) {
-                communityReactionRepository.delete(existingReaction);
-            } else {
-                // 다른 타입이면 변경
-                existingReaction.setReactionType(reactionType);
-                existingReaction.setCreatedAt(LocalDateTime.now());
-                communityReactionRepository.save(existingReaction);
-            }
-        } else {
-            // 새 반응 추가
-            CommunityReaction reaction = CommunityReaction.builder()
-                .userId(userId)
-                .communityId(communityId)
-                .reactionType(reactionType)
-                .createdAt(LocalDateTime.now())
-                .build();
-            
-            communityReactionRepository.save(reaction);
+        Result result = communityReactionWriter.apply(userId, communityId, transition);
+        if (!result.isCommunityExists()) {
+            throw new CustomException(ErrorCode.NOT_FOUND, "게시글을 찾을 수 없습니다.");
         }
+        communityReactionWriter.addCounts(communityId, result.getLikeDelta(), result.getDislikeDelta());
     }
     
     @Override
     @Transactional
     public void removeReaction(UUID userId, Integer communityId) {
-        CommunityReaction reaction = communityReactionRepository
-            .findByUserIdAndCommunityId(userId, communityId)
-            .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "반응을 찾을 수 없습니다."));
+        if (communityReactionWriteBuffer.isEnabled()) {
+            if (getUserReaction(userId, communityId) == null) {
+                throw new CustomException(ErrorCode.NOT_FOUND, "반응을 찾을 수 없습니다.");
+            }
+            communityReactionWriteBuffer.enqueue(userId, communityId, Transition.remove());
+            return;
+        }
         
-        communityReactionRepository.delete(reaction);
+        Result result = communityReactionWriter.apply(userId, communityId, Transition.remove());
+        if (result.getPrevious() == null) {
+            throw new CustomException(ErrorCode.NOT_FOUND, "반응을 찾을 수 없습니다.");
+        }
+        communityReactionWriter.addCounts(communityId, result.getLikeDelta(), result.getDislikeDelta());
     }
     
     @Override
     public long getLikeCount(Integer communityId) {
-        return communityReactionRepository.countByCommunityIdAndReactionType(communityId, ReactionType.LIKE);
+        return communityRepository.findById(communityId)
+            .map(Community::getLikeCount)
+            .orElse(0L);
     }
     
     @Override
     public long getDislikeCount(Integer communityId) {
-        return communityReactionRepository.countByCommunityIdAndReactionType(communityId, ReactionType.DISLIKE);
+        return communityRepository.findById(communityId)
+            .map(Community::getDislikeCount)
+            .orElse(0L);
     }
     
+    /**
+     * 사용자 반응 (write-behind 버퍼에 아직 반영되지 않은 변경 포함)
+     */
     @Override
     public ReactionType getUserReaction(UUID userId, Integer communityId) {
-        return communityReactionRepository
+        ReactionType stored = communityReactionRepository
             .findByUserIdAndCommunityId(userId, communityId)
             .map(CommunityReaction::getReactionType)
             .orElse(null);
+        Transition pendingTransition = communityReactionWriteBuffer.pendingOf(userId, communityId);
+        return pendingTransition != null ? pendingTransition.from(stored) : stored;
     }
 }
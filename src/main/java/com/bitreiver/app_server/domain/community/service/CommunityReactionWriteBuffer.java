@@ -0,0 +1,115 @@
+package com.bitreiver.app_server.domain.community.service;
+
+import com.bitreiver.app_server.domain.community.service.CommunityReactionWriter.Result;
+import com.bitreiver.app_server.domain.community.service.CommunityReactionWriter.Transition;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 반응 write-behind 버퍼 (community.reaction.write-behind.enabled=true 일 때만 사용).
+ * (사용자, 게시글)별 요청을 전이 하나로 합쳐 두었다가 주기적으로 batchSize개씩 한 트랜잭션에 반영한다.
+ * 연타한 토글은 합쳐져 최종 상태만 쓰이고, 인기 게시글의 개수 컬럼은 배치당 1회만 갱신된다.
+ * 전이는 반영 시점의 DB 상태를 기준으로 적용되므로 여러 노드가 각자 버퍼를 가져도 결과가 어긋나지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommunityReactionWriteBuffer {
+
+    private final CommunityReactionWriter communityReactionWriter;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<Key, Transition> pending = new ConcurrentHashMap<>();
+
+    @Value("${community.reaction.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${community.reaction.write-behind.batch-size:500}")
+    private int batchSize;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void enqueue(UUID userId, Integer communityId, Transition transition) {
+        pending.merge(new Key(userId, communityId), transition, Transition::then);
+    }
+
+    /**
+     * 아직 반영되지 않은 전이 (없으면 null)
+     */
+    public Transition pendingOf(UUID userId, Integer communityId) {
+        return pending.get(new Key(userId, communityId));
+    }
+
+    @Scheduled(fixedDelayString = "${community.reaction.write-behind.flush-interval-ms:500}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<Key, Transition> batch = new HashMap<>();
+        for (Key key : new ArrayList<>(pending.keySet())) {
+            Transition transition = pending.remove(key);
+            if (transition == null || transition.isIdentity()) {
+                continue;
+            }
+            batch.put(key, transition);
+            if (batch.size() >= batchSize) {
+                write(batch);
+                batch = new HashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void write(Map<Key, Transition> batch) {
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                Map<Integer, long[]> deltas = new HashMap<>();
+                for (Map.Entry<Key, Transition> entry : batch.entrySet()) {
+                    Key key = entry.getKey();
+                    Result result = communityReactionWriter.apply(key.getUserId(), key.getCommunityId(), entry.getValue());
+                    long[] delta = deltas.computeIfAbsent(key.getCommunityId(), id -> new long[2]);
+                    delta[0] += result.getLikeDelta();
+                    delta[1] += result.getDislikeDelta();
+                }
+                deltas.forEach((communityId, delta) -> communityReactionWriter.addCounts(communityId, delta[0], delta[1]));
+            });
+        } catch (Exception e) {
+            // 실패한 전이를 그 사이 들어온 전이 앞에 다시 합쳐 다음 주기에 재시도
+            batch.forEach((key, failed) -> pending.merge(key, failed, (newer, older) -> older.then(newer)));
+            log.error("게시글 반응 일괄 반영 실패 - {}건, error: {}", batch.size(), e.getMessage(), e);
+        }
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static final class Key {
+        private final UUID userId;
+        private final Integer communityId;
+    }
+}
@@ -0,0 +1,143 @@
+package com.bitreiver.app_server.domain.community.service;
+
+import com.bitreiver.app_server.domain.community.enums.ReactionType;
+import com.bitreiver.app_server.domain.community.repository.CommunityReactionRepository;
+import com.bitreiver.app_server.domain.community.repository.CommunityRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 게시글 반응 쓰기.
+ * 반응 변경을 "현재 상태 -> 목표 상태" 전이(Transition)로 표현해 단일 SQL 문장으로 적용하고,
+ * 결과로 받은 이전/이후 상태 차이만큼 개수 컬럼을 증감한다. 트랜잭션 안에서 호출해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommunityReactionWriter {
+
+    private final CommunityReactionRepository communityReactionRepository;
+    private final CommunityRepository communityRepository;
+    private final CommunityFeedCache communityFeedCache;
+    private final CommunityHotRanking communityHotRanking;
+    private final CommunityLiveEventPublisher communityLiveEventPublisher;
+
+    /**
+     * 전이 적용 (개수 컬럼은 갱신하지 않음)
+     */
+    public Result apply(UUID userId, Integer communityId, Transition transition) {
+        List<Object[]> rows = communityReactionRepository.applyTransition(
+            userId,
+            communityId,
+            codeOf(transition.from(null)),
+            codeOf(transition.from(ReactionType.LIKE)),
+            codeOf(transition.from(ReactionType.DISLIKE))
+        );
+        Object[] row = rows.get(0);
+        return new Result(Boolean.TRUE.equals(row[0]), typeOf(row[1]), typeOf(row[2]));
+    }
+
+    /**
+     * 반응 개수 컬럼 원자적 증감 + 목록 캐시 항목 무효화/인기순 점수 갱신/실시간 이벤트 발행 (커밋 이후)
+     */
+    public void addCounts(Integer communityId, long likeDelta, long dislikeDelta) {
+        if (likeDelta == 0 && dislikeDelta == 0) {
+            return;
+        }
+        communityRepository.addReactionCounts(communityId, likeDelta, dislikeDelta);
+        communityFeedCache.evictItem(communityId);
+        communityHotRanking.onCountsChanged(communityId);
+        communityLiveEventPublisher.reactionCountsChanged(communityId, likeDelta, dislikeDelta);
+    }
+
+    private static String codeOf(ReactionType reactionType) {
+        return reactionType != null ? reactionType.getCode() : null;
+    }
+
+    private static ReactionType typeOf(Object code) {
+        return code != null ? ReactionType.fromCode(code.toString()) : null;
+    }
+
+    /**
+     * 반응 상태 전이. 상태(없음=null/LIKE/DISLIKE)별 목표 상태를 가지며, 연속된 전이는 then()으로 하나로 합칠 수 있다.
+     */
+    public static final class Transition {
+
+        private static final Transition REMOVE = new Transition(null, null, null);
+
+        private final ReactionType fromNone;
+        private final ReactionType fromLike;
+        private final ReactionType fromDislike;
+
+        private Transition(ReactionType fromNone, ReactionType fromLike, ReactionType fromDislike) {
+            this.fromNone = fromNone;
+            this.fromLike = fromLike;
+            this.fromDislike = fromDislike;
+        }
+
+        /**
+         * 같은 반응이면 취소, 없거나 다른 반응이면 해당 반응으로 변경
+         */
+        public static Transition toggle(ReactionType reactionType) {
+            return new Transition(
+                reactionType,
+                reactionType == ReactionType.LIKE ? null : reactionType,
+                reactionType == ReactionType.DISLIKE ? null : reactionType
+            );
+        }
+
+        public static Transition remove() {
+            return REMOVE;
+        }
+
+        public ReactionType from(ReactionType current) {
+            if (current == null) {
+                return fromNone;
+            }
+            return current == ReactionType.LIKE ? fromLike : fromDislike;
+        }
+
+        /**
+         * 이 전이 다음에 next를 적용한 것과 같은 전이
+         */
+        public Transition then(Transition next) {
+            return new Transition(next.from(fromNone), next.from(fromLike), next.from(fromDislike));
+        }
+
+        /**
+         * 어떤 상태에서도 변화가 없는 전이 (예: 같은 반응 두 번 토글)
+         */
+        public boolean isIdentity() {
+            return fromNone == null && fromLike == ReactionType.LIKE && fromDislike == ReactionType.DISLIKE;
+        }
+    }
+
+    @Getter
+    public static final class Result {
+
+        private final boolean communityExists;
+        private final ReactionType previous;
+        private final ReactionType current;
+
+        private Result(boolean communityExists, ReactionType previous, ReactionType current) {
+            this.communityExists = communityExists;
+            this.previous = previous;
+            this.current = current;
+        }
+
+        public long getLikeDelta() {
+            return deltaOf(ReactionType.LIKE);
+        }
+
+        public long getDislikeDelta() {
+            return deltaOf(ReactionType.DISLIKE);
+        }
+
+        private long deltaOf(ReactionType reactionType) {
+            return (current == reactionType ? 1L : 0L) - (previous == reactionType ? 1L : 0L);
+        }
+    }
+}
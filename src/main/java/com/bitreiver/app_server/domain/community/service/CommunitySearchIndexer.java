@@ -0,0 +1,71 @@
+package com.bitreiver.app_server.domain.community.service;
+
+import com.bitreiver.app_server.domain.community.entity.Community;
+import com.bitreiver.app_server.domain.community.repository.CommunityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 전문 검색 준비 작업.
+ * 기동 시 search_vector GIN 인덱스를 만들고, 검색 벡터가 없는 기존 게시글을 id 순으로 100건씩 색인한다.
+ * 배치마다 별도 트랜잭션으로 커밋하며, 이미 색인된 게시글은 건너뛰므로 여러 노드에서 동시에 실행되어도 결과는 같다.
+ * 조회 후 게시글이 수정되어 새 벡터가 저장된 경우에는 갱신 조건(search_vector IS NULL)에 걸려 덮어쓰지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommunitySearchIndexer {
+
+    private final CommunityRepository communityRepository;
+    private final CommunityContentParser communityContentParser;
+    private final CommunitySearchTokenizer communitySearchTokenizer;
+    private final PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void indexOnStartup() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            transactionTemplate.executeWithoutResult(status -> communityRepository.createSearchIndex());
+        } catch (Exception e) {
+            log.error("게시글 전문 검색 인덱스 생성 실패: {}", e.getMessage(), e);
+        }
+
+        int lastId = 0;
+        int total = 0;
+        try {
+            while (true) {
+                final int afterId = lastId;
+                List<Integer> indexedIds = transactionTemplate.execute(status -> {
+                    List<Community> batch = communityRepository.findTop100SearchUnindexedAfter(afterId);
+                    for (Community community : batch) {
+                        String plainText = communityContentParser.parse(community.getContent()).getPlainText();
+                        communityRepository.updateSearchVectorIfMissing(
+                            community.getId(),
+                            communitySearchTokenizer.tokenize(community.getTitle()),
+                            communitySearchTokenizer.tokenize(plainText)
+                        );
+                    }
+                    return batch.stream().map(Community::getId).toList();
+                });
+                if (indexedIds == null || indexedIds.isEmpty()) {
+                    break;
+                }
+                total += indexedIds.size();
+                lastId = indexedIds.get(indexedIds.size() - 1);
+            }
+        } catch (Exception e) {
+            log.error("게시글 전문 검색 색인 실패 - lastId: {}, error: {}", lastId, e.getMessage(), e);
+            return;
+        }
+        if (total > 0) {
+            log.info("게시글 전문 검색 색인 완료 - {}건", total);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.bitreiver.app_server.domain.community.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 전문 검색용 토큰 생성.
+ * Postgres 기본 파서는 한국어 형태소를 나누지 못하므로, 색인/검색 양쪽에서 같은 규칙으로 토큰을 만든 뒤 'simple' 설정으로 넣는다.
+ * - 한글/한자/가나 연속 구간: 글자 2-gram (한 글자 단어는 그대로)
+ * - 그 외 문자/숫자 연속 구간: 소문자 단어 그대로
+ * 예) "비트코인 BTC가격" -> "비트 트코 코인 btc 가격"
+ */
+@Component
+public class CommunitySearchTokenizer {
+
+    private static final int MAX_TOKEN_LENGTH = 100;
+    private static final int MAX_QUERY_TOKENS = 32;
+
+    /**
+     * 색인용 토큰 문자열 (공백 구분, 빈도 유지)
+     */
+    public String tokenize(String text) {
+        return String.join(" ", tokens(text));
+    }
+
+    /**
+     * 검색어 토큰 문자열 (중복 제거, 공백 구분). plainto_tsquery에 넣으면 모든 토큰을 AND로 찾는다.
+     * 토큰은 문자/숫자만 포함하므로 tsquery 연산자로 해석될 일이 없다.
+     */
+    public String toQuery(String query) {
+        LinkedHashSet<String> distinct = new LinkedHashSet<>(tokens(query));
+        return String.join(" ", distinct.stream().limit(MAX_QUERY_TOKENS).toList());
+    }
+
+    private static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder run = new StringBuilder();
+        boolean runIsCjk = false;
+
+        for (int i = 0; i < lower.length(); ) {
+            int codePoint = lower.codePointAt(i);
+            i += Character.charCount(codePoint);
+
+            if (!Character.isLetterOrDigit(codePoint)) {
+                flush(run, runIsCjk, tokens);
+                continue;
+            }
+            boolean cjk = isCjk(codePoint);
+            if (run.length() > 0 && cjk != runIsCjk) {
+                flush(run, runIsCjk, tokens);
+            }
+            runIsCjk = cjk;
+            run.appendCodePoint(codePoint);
+        }
+        flush(run, runIsCjk, tokens);
+        return tokens;
+    }
+
+    private static void flush(StringBuilder run, boolean cjk, List<String> tokens) {
+        if (run.length() == 0) {
+            return;
+        }
+        String word = run.toString();
+        run.setLength(0);
+
+        if (!cjk) {
+            if (word.length() <= MAX_TOKEN_LENGTH) {
+                tokens.add(word);
+            }
+            return;
+        }
+        int[] codePoints = word.codePoints().toArray();
+        if (codePoints.length == 1) {
+            tokens.add(word);
+            return;
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+            || script == Character.UnicodeScript.HAN
+            || script == Character.UnicodeScript.HIRAGANA
+            || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -6,6 +6,7 @@ import com.bitreiver.app_server.domain.community.dto.CommunityListResponse;
 import com.bitreiver.app_server.domain.community.dto.CommunitySearchByHashtagRequest;
 import com.bitreiver.app_server.domain.community.dto.CommunitySearchRequest;
 import com.bitreiver.app_server.domain.community.enums.Category;
+import com.bitreiver.app_server.global.common.dto.CursorResponse;
 import com.bitreiver.app_server.global.common.dto.PageResponse;
 
 import java.util.List;
@@ -15,6 +16,7 @@ public interface CommunityService {
     CommunityResponse createCommunity(UUID userId, CommunityRequest request);
     CommunityResponse getCommunityById(Integer id, UUID userId);
     CommunityResponse getCommunityByIdWithReactions(Integer id, UUID userId);
+    CommunityResponse viewCommunity(Integer id, UUID userId, String viewerKey);
     PageResponse<CommunityListResponse> getCommunitiesByCategory(Category category, int page, int size);
     PageResponse<CommunityListResponse> searchCommunities(CommunitySearchRequest request, UUID userId);
     PageResponse<CommunityListResponse> searchCommunitiesByHashtag(CommunitySearchByHashtagRequest request, UUID userId);
@@ -23,5 +25,8 @@ public interface CommunityService {
     void deleteCommunity(UUID userId, Integer id);
     PageResponse<CommunityListResponse> getMyCommunities(UUID userId, int page, int size);
     PageResponse<CommunityListResponse> getAllCommunities(int page, int size);
+    CursorResponse<CommunityListResponse> searchCommunitiesByText(String query, Category category, String cursor, int size, UUID userId);
+    PageResponse<CommunityListResponse> getHotCommunities(Category category, int page, int size, UUID userId);
+    CursorResponse<CommunityListResponse> getCommunitiesByCursor(Category category, String cursor, int size, boolean includeTotal, UUID userId);
     List<String> extractAllImagePaths(String content);
 }
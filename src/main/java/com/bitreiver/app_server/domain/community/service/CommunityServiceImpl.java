@@ -6,14 +6,18 @@ import com.bitreiver.app_server.domain.community.dto.CommunityResponse;
 import com.bitreiver.app_server.domain.community.dto.CommunitySearchByHashtagRequest;
 import com.bitreiver.app_server.domain.community.dto.CommunitySearchRequest;
 import com.bitreiver.app_server.domain.community.entity.Community;
+import com.bitreiver.app_server.domain.community.entity.CommunitySummary;
 import com.bitreiver.app_server.domain.community.enums.Category;
 import com.bitreiver.app_server.domain.community.enums.ReactionType;
 import com.bitreiver.app_server.domain.community.repository.CommunityRepository;
+import com.bitreiver.app_server.domain.community.repository.CommunitySummaryRepository;
 import com.bitreiver.app_server.domain.user.entity.User;
 import com.bitreiver.app_server.domain.user.repository.UserRepository;
+import com.bitreiver.app_server.global.common.dto.CursorResponse;
 import com.bitreiver.app_server.global.common.dto.PageResponse;
 import com.bitreiver.app_server.global.common.exception.CustomException;
 import com.bitreiver.app_server.global.common.exception.ErrorCode;
+import com.bitreiver.app_server.global.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -24,6 +28,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -36,7 +43,14 @@ public class CommunityServiceImpl implements CommunityService {
     private final UserRepository userRepository;
     private final CommunityReactionService communityReactionService;
     private final CommunityImageService communityImageService;
-    private final CommunityCommentService communityCommentService;
+    private final CommunityFeedAssembler communityFeedAssembler;
+    private final CommunitySummaryRepository communitySummaryRepository;
+    private final CommunityContentParser communityContentParser;
+    private final CommunityFeedCache communityFeedCache;
+    private final CommunityHotRanking communityHotRanking;
+    private final CommunityViewCounter communityViewCounter;
+    private final CommunityHashtagTrendService communityHashtagTrendService;
+    private final CommunitySearchTokenizer communitySearchTokenizer;
     
     @Override
     @Transactional
@@ -54,17 +68,26 @@ public class CommunityServiceImpl implements CommunityService {
             throw new CustomException(ErrorCode.BAD_REQUEST, "유효하지 않은 카테고리입니다.");
         }
         
+        CommunityContentParser.ContentSummary summary = communityContentParser.parse(request.getContent());
+        
         Community community = Community.builder()
             .userId(userId)
             .category(category)
             .title(request.getTitle())
             .content(request.getContent())
             .hashtags(request.getHashtags())
+            .previewText(summary.getPreviewText())
+            .thumbnailPath(summary.getThumbnailPath())
+            .previewExtracted(true)
             .createdAt(LocalDateTime.now())
             .updatedAt(LocalDateTime.now())
             .build();
         
         communityRepository.save(community);
+        updateSearchVector(community, summary);
+        communityFeedCache.onCreated(community.getId(), category, community.getCreatedAt());
+        communityHotRanking.onCreated(community.getId(), category, community.getCreatedAt());
+        communityHashtagTrendService.recordCreated(community.getHashtags(), community.getCreatedAt());
         
         return CommunityResponse.from(community, null, null, 0L, 0L, null);
     }
@@ -77,8 +100,8 @@ public class CommunityServiceImpl implements CommunityService {
         User user = userRepository.findById(community.getUserId())
             .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
         
-        long likeCount = communityReactionService.getLikeCount(id);
-        long dislikeCount = communityReactionService.getDislikeCount(id);
+        long likeCount = community.getLikeCount() != null ? community.getLikeCount() : 0L;
+        long dislikeCount = community.getDislikeCount() != null ? community.getDislikeCount() : 0L;
         ReactionType userReaction = userId != null ? communityReactionService.getUserReaction(userId, id) : null;
         
         return CommunityResponse.from(community, user.getNickname(), user.getProfileUrl(), likeCount, dislikeCount, userReaction);
@@ -89,47 +112,34 @@ public class CommunityServiceImpl implements CommunityService {
         return getCommunityById(id, userId);
     }
     
+    /**
+     * 게시글 상세 조회 + 고유 조회 기록. 조회수는 Redis 근사값과 DB 반영값 중 큰 값
+     */
+    @Override
+    public CommunityResponse viewCommunity(Integer id, UUID userId, String viewerKey) {
+        CommunityResponse response = getCommunityById(id, userId);
+        long storedViewCount = response.getViewCount() != null ? response.getViewCount() : 0L;
+        long viewCount = communityViewCounter.recordView(id, viewerKey)
+            .map(count -> Math.max(count, storedViewCount))
+            .orElse(storedViewCount);
+        return response.toBuilder().viewCount(viewCount).build();
+    }
+    
     @Override
     public PageResponse<CommunityListResponse> getCommunitiesByCategory(Category category, int page, int size) {
         return getCommunitiesByCategory(category, page, size, null);
     }
     
     public PageResponse<CommunityListResponse> getCommunitiesByCategory(Category category, int page, int size, UUID userId) {
+        Optional<PageResponse<CommunityListResponse>> hotPage = communityFeedCache.getPage(category, page, size, userId);
+        if (hotPage.isPresent()) {
+            return hotPage.get();
+        }
+        
         Pageable pageable = PageRequest.of(page, size);
-        Page<Community> communities = communityRepository.findByCategoryOrderByCreatedAtDesc(category, pageable);
-        
-        List<CommunityListResponse> content = communities.getContent().stream()
-            .map(community -> {
-                User user = userRepository.findById(community.getUserId())
-                    .orElse(null);
-                long likeCount = communityReactionService.getLikeCount(community.getId());
-                long dislikeCount = communityReactionService.getDislikeCount(community.getId());
-                long commentCount = communityCommentService.getCommentCount(community.getId());
-                com.bitreiver.app_server.domain.community.enums.ReactionType userReaction = userId != null ? 
-                    communityReactionService.getUserReaction(userId, community.getId()) : null;
-                
-                // content에서 썸네일 이미지와 간추린 텍스트 추출
-                String thumbnailImageUrl = extractFirstImagePath(community.getContent());
-                String previewText = extractFirstTextPreview(community.getContent());
-                
-                return CommunityListResponse.builder()
-                    .id(community.getId())
-                    .userId(community.getUserId())
-                    .userNickname(user != null ? user.getNickname() : null)
-                    .userProfileUrl(user != null ? user.getProfileUrl() : null)
-                    .category(community.getCategory() != null ? community.getCategory().getCode() : null)
-                    .title(community.getTitle())
-                    .hashtags(community.getHashtags())
-                    .likeCount(likeCount)
-                    .dislikeCount(dislikeCount)
-                    .commentCount(commentCount)
-                    .userReaction(userReaction != null ? userReaction.getCode() : null)
-                    .thumbnailImageUrl(thumbnailImageUrl)
-                    .previewText(previewText)
-                    .createdAt(community.getCreatedAt())
-                    .build();
-            })
-            .collect(Collectors.toList());
+        Page<CommunitySummary> communities = communitySummaryRepository.findByCategoryOrderByCreatedAtDesc(category, pageable);
+        
+        List<CommunityListResponse> content = communityFeedAssembler.assemble(communities.getContent(), userId);
         
         return PageResponse.of(content, page, size, communities.getTotalElements());
     }
@@ -137,7 +147,7 @@ public class CommunityServiceImpl implements CommunityService {
     @Override
     public PageResponse<CommunityListResponse> searchCommunities(CommunitySearchRequest request, UUID userId) {
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
-        Page<Community> communities;
+        Page<CommunitySummary> communities;
         
         Category category = request.getCategory() != null ? Category.fromCode(request.getCategory()) : null;
         List<String> hashtags = request.getHashtags();
@@ -145,9 +155,9 @@ public class CommunityServiceImpl implements CommunityService {
         if (hashtags == null || hashtags.isEmpty()) {
             // 해시태그 없이 카테고리만 검색
             if (category != null) {
-                communities = communityRepository.findByCategoryOrderByCreatedAtDesc(category, pageable);
+                communities = communitySummaryRepository.findByCategoryOrderByCreatedAtDesc(category, pageable);
             } else {
-                communities = communityRepository.findAllByOrderByCreatedAtDesc(pageable);
+                communities = communitySummaryRepository.findAllByOrderByCreatedAtDesc(pageable);
             }
         } else {
             // 해시태그 검색
@@ -159,60 +169,29 @@ public class CommunityServiceImpl implements CommunityService {
                 // 단일 해시태그
                 String hashtag = hashtags.get(0);
                 if (category != null) {
-                    communities = communityRepository.findByCategoryAndHashtag(category.getCode(), hashtag, pageable);
+                    communities = communitySummaryRepository.findByCategoryAndHashtag(category.getCode(), hashtag, pageable);
                 } else {
-                    communities = communityRepository.findByHashtagsContaining(hashtag, pageable);
+                    communities = communitySummaryRepository.findByHashtagsContaining(hashtag, pageable);
                 }
             } else {
                 // 다중 해시태그
                 if (searchType == CommunitySearchRequest.SearchType.MULTIPLE_AND) {
                     if (category != null) {
-                        communities = communityRepository.findByCategoryAndHashtagsAll(category.getCode(), hashtags, pageable);
+                        communities = communitySummaryRepository.findByCategoryAndHashtagsAll(category.getCode(), hashtags, pageable);
                     } else {
-                        communities = communityRepository.findByHashtagsContainingAll(hashtags, pageable);
+                        communities = communitySummaryRepository.findByHashtagsContainingAll(hashtags, pageable);
                     }
                 } else {
                     if (category != null) {
-                        communities = communityRepository.findByCategoryAndHashtagsAny(category.getCode(), hashtags, pageable);
+                        communities = communitySummaryRepository.findByCategoryAndHashtagsAny(category.getCode(), hashtags, pageable);
                     } else {
-                        communities = communityRepository.findByHashtagsContainingAny(hashtags, pageable);
+                        communities = communitySummaryRepository.findByHashtagsContainingAny(hashtags, pageable);
                     }
                 }
             }
         }
         
-        List<CommunityListResponse> content = communities.getContent().stream()
-            .map(community -> {
-                User user = userRepository.findById(community.getUserId())
-                    .orElse(null);
-                long likeCount = communityReactionService.getLikeCount(community.getId());
-                long dislikeCount = communityReactionService.getDislikeCount(community.getId());
-                long commentCount = communityCommentService.getCommentCount(community.getId());
-                com.bitreiver.app_server.domain.community.enums.ReactionType userReaction = userId != null ? 
-                    communityReactionService.getUserReaction(userId, community.getId()) : null;
-                
-                // content에서 썸네일 이미지와 간추린 텍스트 추출
-                String thumbnailImageUrl = extractFirstImagePath(community.getContent());
-                String previewText = extractFirstTextPreview(community.getContent());
-                
-                return CommunityListResponse.builder()
-                    .id(community.getId())
-                    .userId(community.getUserId())
-                    .userNickname(user != null ? user.getNickname() : null)
-                    .userProfileUrl(user != null ? user.getProfileUrl() : null)
-                    .category(community.getCategory() != null ? community.getCategory().getCode() : null)
-                    .title(community.getTitle())
-                    .hashtags(community.getHashtags())
-                    .likeCount(likeCount)
-                    .dislikeCount(dislikeCount)
-                    .commentCount(commentCount)
-                    .userReaction(userReaction != null ? userReaction.getCode() : null)
-                    .thumbnailImageUrl(thumbnailImageUrl)
-                    .previewText(previewText)
-                    .createdAt(community.getCreatedAt())
-                    .build();
-            })
-            .collect(Collectors.toList());
+        List<CommunityListResponse> content = communityFeedAssembler.assemble(communities.getContent(), userId);
         
         return PageResponse.of(content, request.getPage(), request.getSize(), communities.getTotalElements());
     }
@@ -224,43 +203,14 @@ public class CommunityServiceImpl implements CommunityService {
             throw new CustomException(ErrorCode.BAD_REQUEST, "해시태그를 입력해주세요.");
         }
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
-        Page<Community> communities;
+        Page<CommunitySummary> communities;
         if (request.getCategory() != null && !request.getCategory().isBlank()) {
             Category category = Category.fromCode(request.getCategory());
-            communities = communityRepository.findByCategoryAndHashtag(category.getCode(), hashtag, pageable);
+            communities = communitySummaryRepository.findByCategoryAndHashtag(category.getCode(), hashtag, pageable);
         } else {
-            communities = communityRepository.findByHashtagsContaining(hashtag, pageable);
+            communities = communitySummaryRepository.findByHashtagsContaining(hashtag, pageable);
         }
-        List<CommunityListResponse> content = communities.getContent().stream()
-            .map(community -> {
-                User user = userRepository.findById(community.getUserId())
-                    .orElse(null);
-                long likeCount = communityReactionService.getLikeCount(community.getId());
-                long dislikeCount = communityReactionService.getDislikeCount(community.getId());
-                long commentCount = communityCommentService.getCommentCount(community.getId());
-                ReactionType userReaction = userId != null
-                    ? communityReactionService.getUserReaction(userId, community.getId())
-                    : null;
-                String thumbnailImageUrl = extractFirstImagePath(community.getContent());
-                String previewText = extractFirstTextPreview(community.getContent());
-                return CommunityListResponse.builder()
-                    .id(community.getId())
-                    .userId(community.getUserId())
-                    .userNickname(user != null ? user.getNickname() : null)
-                    .userProfileUrl(user != null ? user.getProfileUrl() : null)
-                    .category(community.getCategory() != null ? community.getCategory().getCode() : null)
-                    .title(community.getTitle())
-                    .hashtags(community.getHashtags())
-                    .likeCount(likeCount)
-                    .dislikeCount(dislikeCount)
-                    .commentCount(commentCount)
-                    .userReaction(userReaction != null ? userReaction.getCode() : null)
-                    .thumbnailImageUrl(thumbnailImageUrl)
-                    .previewText(previewText)
-                    .createdAt(community.getCreatedAt())
-                    .build();
-            })
-            .collect(Collectors.toList());
+        List<CommunityListResponse> content = communityFeedAssembler.assemble(communities.getContent(), userId);
         return PageResponse.of(content, request.getPage(), request.getSize(), communities.getTotalElements());
     }
     
@@ -276,6 +226,7 @@ public class CommunityServiceImpl implements CommunityService {
         }
         Community community = communityRepository.findByIdAndUserId(id, userId)
             .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "게시글을 찾을 수 없습니다."));
+        Category previousCategory = community.getCategory();
         
         if (request.getCategoryAsEnum() != null) {
             community.setCategory(request.getCategoryAsEnum());
@@ -285,22 +236,38 @@ public class CommunityServiceImpl implements CommunityService {
             community.setTitle(request.getTitle());
         }
         
+        CommunityContentParser.ContentSummary summary = null;
         if (request.getContent() != null) {
+            summary = communityContentParser.parse(request.getContent());
             community.setContent(request.getContent());
+            community.setPreviewText(summary.getPreviewText());
+            community.setThumbnailPath(summary.getThumbnailPath());
+            community.setPreviewExtracted(true);
         }
         
         if (request.getHashtags() != null) {
+            communityHashtagTrendService.recordUpdated(community.getHashtags(), request.getHashtags(), community.getCreatedAt());
             community.setHashtags(request.getHashtags());
         }
         
         community.setUpdatedAt(LocalDateTime.now());
         communityRepository.save(community);
         
+        // 제목 또는 본문이 바뀌면 검색 벡터 재생성
+        if (summary == null && request.getTitle() != null) {
+            summary = communityContentParser.parse(community.getContent());
+        }
+        if (summary != null) {
+            updateSearchVector(community, summary);
+        }
+        communityFeedCache.onUpdated(id, previousCategory, community.getCategory());
+        communityHotRanking.onUpdated(id, previousCategory, community.getCategory());
+        
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
         
-        long likeCount = communityReactionService.getLikeCount(id);
-        long dislikeCount = communityReactionService.getDislikeCount(id);
+        long likeCount = community.getLikeCount() != null ? community.getLikeCount() : 0L;
+        long dislikeCount = community.getDislikeCount() != null ? community.getDislikeCount() : 0L;
         ReactionType userReaction = communityReactionService.getUserReaction(userId, id);
         
         return CommunityResponse.from(community, user.getNickname(), user.getProfileUrl(), likeCount, dislikeCount, userReaction);
@@ -361,46 +328,18 @@ public class CommunityServiceImpl implements CommunityService {
         }
         
         communityRepository.delete(community);
+        communityFeedCache.onDeleted(id, community.getCategory());
+        communityHotRanking.onDeleted(id, community.getCategory());
+        communityViewCounter.onDeleted(id);
+        communityHashtagTrendService.recordDeleted(community.getHashtags(), community.getCreatedAt());
     }
     
     @Override
     public PageResponse<CommunityListResponse> getMyCommunities(UUID userId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Community> communities = communityRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
+        Page<CommunitySummary> communities = communitySummaryRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
         
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-        
-        List<CommunityListResponse> content = communities.getContent().stream()
-            .map(community -> {
-                long likeCount = communityReactionService.getLikeCount(community.getId());
-                long dislikeCount = communityReactionService.getDislikeCount(community.getId());
-                long commentCount = communityCommentService.getCommentCount(community.getId());
-                com.bitreiver.app_server.domain.community.enums.ReactionType userReaction = 
-                    communityReactionService.getUserReaction(userId, community.getId());
-                
-                // content에서 썸네일 이미지와 간추린 텍스트 추출
-                String thumbnailImageUrl = extractFirstImagePath(community.getContent());
-                String previewText = extractFirstTextPreview(community.getContent());
-                
-                return CommunityListResponse.builder()
-                    .id(community.getId())
-                    .userId(community.getUserId())
-                    .userNickname(user.getNickname())
-                    .userProfileUrl(user.getProfileUrl())
-                    .category(community.getCategory() != null ? community.getCategory().getCode() : null)
-                    .title(community.getTitle())
-                    .hashtags(community.getHashtags())
-                    .likeCount(likeCount)
-                    .dislikeCount(dislikeCount)
-                    .commentCount(commentCount)
-                    .userReaction(userReaction != null ? userReaction.getCode() : null)
-                    .thumbnailImageUrl(thumbnailImageUrl)
-                    .previewText(previewText)
-                    .createdAt(community.getCreatedAt())
-                    .build();
-            })
-            .collect(Collectors.toList());
+        List<CommunityListResponse> content = communityFeedAssembler.assemble(communities.getContent(), userId);
         
         return PageResponse.of(content, page, size, communities.getTotalElements());
     }
@@ -411,135 +350,103 @@ public class CommunityServiceImpl implements CommunityService {
     }
     
     public PageResponse<CommunityListResponse> getAllCommunities(int page, int size, UUID userId) {
+        Optional<PageResponse<CommunityListResponse>> hotPage = communityFeedCache.getPage(null, page, size, userId);
+        if (hotPage.isPresent()) {
+            return hotPage.get();
+        }
+        
         Pageable pageable = PageRequest.of(page, size);
-        Page<Community> communities = communityRepository.findAllByOrderByCreatedAtDesc(pageable);
-        
-        List<CommunityListResponse> content = communities.getContent().stream()
-            .map(community -> {
-                User user = userRepository.findById(community.getUserId())
-                    .orElse(null);
-                long likeCount = communityReactionService.getLikeCount(community.getId());
-                long dislikeCount = communityReactionService.getDislikeCount(community.getId());
-                long commentCount = communityCommentService.getCommentCount(community.getId());
-                com.bitreiver.app_server.domain.community.enums.ReactionType userReaction = userId != null ? 
-                    communityReactionService.getUserReaction(userId, community.getId()) : null;
-                
-                // content에서 썸네일 이미지와 간추린 텍스트 추출
-                String thumbnailImageUrl = extractFirstImagePath(community.getContent());
-                String previewText = extractFirstTextPreview(community.getContent());
-                
-                return CommunityListResponse.builder()
-                    .id(community.getId())
-                    .userId(community.getUserId())
-                    .userNickname(user != null ? user.getNickname() : null)
-                    .userProfileUrl(user != null ? user.getProfileUrl() : null)
-                    .category(community.getCategory() != null ? community.getCategory().getCode() : null)
-                    .title(community.getTitle())
-                    .hashtags(community.getHashtags())
-                    .likeCount(likeCount)
-                    .dislikeCount(dislikeCount)
-                    .commentCount(commentCount)
-                    .userReaction(userReaction != null ? userReaction.getCode() : null)
-                    .thumbnailImageUrl(thumbnailImageUrl)
-                    .previewText(previewText)
-                    .createdAt(community.getCreatedAt())
-                    .build();
-            })
-            .collect(Collectors.toList());
+        Page<CommunitySummary> communities = communitySummaryRepository.findAllByOrderByCreatedAtDesc(pageable);
+        
+        List<CommunityListResponse> content = communityFeedAssembler.assemble(communities.getContent(), userId);
         
         return PageResponse.of(content, page, size, communities.getTotalElements());
     }
     
-    private String extractFirstImagePath(String content) {
-        if (content == null || content.trim().isEmpty()) {
-            return null;
-        }
-        
-        try {
-            com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            java.util.Map<String, Object> contentMap = objectMapper.readValue(content, java.util.Map.class);
-            @SuppressWarnings("unchecked")
-            List<java.util.Map<String, Object>> blocks = (List<java.util.Map<String, Object>>) contentMap.get("blocks");
-            
-            if (blocks != null) {
-                for (java.util.Map<String, Object> block : blocks) {
-                    if ("image".equals(block.get("type"))) {
-                        String path = (String) block.get("path");
-                        if (path != null) {
-                            return path;
-                        }
-                    }
-                }
+    @Override
+    public PageResponse<CommunityListResponse> getHotCommunities(Category category, int page, int size, UUID userId) {
+        int pageSize = CursorUtil.clampSize(size);
+        return communityHotRanking.getPage(category, Math.max(page, 0), pageSize, userId);
+    }
+    
+    @Override
+    public CursorResponse<CommunityListResponse> getCommunitiesByCursor(Category category, String cursor, int size, boolean includeTotal, UUID userId) {
+        CursorUtil.Position position = CursorUtil.decode(cursor);
+        int pageSize = CursorUtil.clampSize(size);
+        
+        List<CommunitySummary> rows;
+        Long total = null;
+        if (category != null) {
+            rows = communitySummaryRepository.findPageByCategoryBefore(category.getCode(), position.getTime(), position.getId(), pageSize + 1);
+            if (includeTotal) {
+                total = communitySummaryRepository.countByCategory(category);
+            }
+        } else {
+            rows = communitySummaryRepository.findPageBefore(position.getTime(), position.getId(), pageSize + 1);
+            if (includeTotal) {
+                total = communitySummaryRepository.count();
             }
-        } catch (Exception e) {
-            log.error("Content에서 첫 번째 이미지 경로 추출 실패", e);
         }
         
-        return null;
+        return CursorResponse.of(
+            rows,
+            pageSize,
+            CommunitySummary::getCreatedAt,
+            CommunitySummary::getId,
+            page -> communityFeedAssembler.assemble(page, userId),
+            total
+        );
     }
     
-    private String extractFirstTextPreview(String content) {
-        if (content == null || content.trim().isEmpty()) {
-            return null;
-        }
-        
-        try {
-            com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            java.util.Map<String, Object> contentMap = objectMapper.readValue(content, java.util.Map.class);
-            @SuppressWarnings("unchecked")
-            List<java.util.Map<String, Object>> blocks = (List<java.util.Map<String, Object>>) contentMap.get("blocks");
-            
-            if (blocks != null) {
-                for (java.util.Map<String, Object> block : blocks) {
-                    if ("text".equals(block.get("type"))) {
-                        String text = (String) block.get("content");
-                        if (text != null && !text.trim().isEmpty()) {
-                            // 줄바꿈을 공백으로 변환
-                            String trimmed = text.trim().replaceAll("\\s+", " ");
-                            // 60자로 제한
-                            if (trimmed.length() > 60) {
-                                return trimmed.substring(0, 60) + "...";
-                            }
-                            return trimmed;
-                        }
-                    }
-                }
-            }
-        } catch (Exception e) {
-            log.error("Content에서 첫 번째 텍스트 블록 추출 실패", e);
+    @Override
+    public CursorResponse<CommunityListResponse> searchCommunitiesByText(String query, Category category, String cursor, int size, UUID userId) {
+        String tsQuery = communitySearchTokenizer.toQuery(query);
+        if (tsQuery.isEmpty()) {
+            throw new CustomException(ErrorCode.BAD_REQUEST, "검색어를 입력해주세요.");
         }
+        CursorUtil.ScorePosition position = CursorUtil.decodeScore(cursor);
+        int pageSize = CursorUtil.clampSize(size);
+        
+        List<Object[]> rows = communitySummaryRepository.searchByText(
+            tsQuery, category != null ? category.getCode() : null, position.getScore(), position.getId(), pageSize + 1
+        );
+        
+        return CursorResponse.of(
+            rows,
+            pageSize,
+            row -> CursorUtil.encodeScore(((Number) row[1]).floatValue(), ((Number) row[0]).longValue()),
+            page -> loadSearchResults(page, userId),
+            null
+        );
+    }
+    
+    /**
+     * [id, rank] 순서대로 목록 항목 조회 (IN 쿼리 1회)
+     */
+    private List<CommunityListResponse> loadSearchResults(List<Object[]> rows, UUID userId) {
+        List<Integer> ids = rows.stream()
+            .map(row -> ((Number) row[0]).intValue())
+            .collect(Collectors.toList());
+        Map<Integer, CommunitySummary> communityMap = communitySummaryRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(CommunitySummary::getId, community -> community));
         
-        return null;
+        List<CommunitySummary> ordered = ids.stream()
+            .map(communityMap::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+        return communityFeedAssembler.assemble(ordered, userId);
+    }
+    
+    private void updateSearchVector(Community community, CommunityContentParser.ContentSummary summary) {
+        communityRepository.updateSearchVector(
+            community.getId(),
+            communitySearchTokenizer.tokenize(community.getTitle()),
+            communitySearchTokenizer.tokenize(summary.getPlainText())
+        );
     }
     
     @Override
     public List<String> extractAllImagePaths(String content) {
-        List<String> imagePaths = new java.util.ArrayList<>();
-        
-        if (content == null || content.trim().isEmpty()) {
-            return imagePaths;
-        }
-        
-        try {
-            com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            java.util.Map<String, Object> contentMap = objectMapper.readValue(content, java.util.Map.class);
-            @SuppressWarnings("unchecked")
-            List<java.util.Map<String, Object>> blocks = (List<java.util.Map<String, Object>>) contentMap.get("blocks");
-            
-            if (blocks != null) {
-                for (java.util.Map<String, Object> block : blocks) {
-                    if ("image".equals(block.get("type"))) {
-                        String path = (String) block.get("path");
-                        if (path != null) {
-                            imagePaths.add(path);
-                        }
-                    }
-                }
-            }
-        } catch (Exception e) {
-            log.error("Content에서 이미지 경로 추출 실패", e);
-        }
-        
-        return imagePaths;
+        return communityContentParser.parse(content).getImagePaths();
     }
 }
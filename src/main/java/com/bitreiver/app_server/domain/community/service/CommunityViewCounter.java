@@ -0,0 +1,120 @@
+package com.bitreiver.app_server.domain.community.service;
+
+import com.bitreiver.app_server.domain.community.repository.CommunityRepository;
+import com.bitreiver.app_server.global.cache.RedisCacheHyperLogLogService.PfAddResult;
+import com.bitreiver.app_server.global.cache.RedisCacheService;
+import com.bitreiver.app_server.global.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 게시글 고유 조회수.
+ * - community:views:{id}     : 조회자 HyperLogLog (로그인 사용자 ID 또는 비로그인 IP+User-Agent 해시, 키당 최대 12KB)
+ * - community:views:dirty    : 마지막 반영 이후 고유 조회자가 늘어난 게시글 id ZSET (score = 마지막 증가 시각)
+ * 조회 시에는 Redis만 사용하고(PFADD+PFCOUNT 1 round trip), communities.view_count는 flush 주기마다 일괄 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommunityViewCounter {
+
+    private static final String VIEW_KEY_PREFIX = "community:views:";
+    private static final String DIRTY_KEY = "community:views:dirty";
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final RedisCacheService redisCacheService;
+    private final CommunityRepository communityRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /** 0 이하이면 만료 없음 (만료 후 다시 세면 이전 조회자와 중복을 구분하지 못함) */
+    @Value("${community.view.ttl-seconds:0}")
+    private long viewTtlSeconds;
+
+    /**
+     * 조회 기록
+     *
+     * @return 기록 후 근사 고유 조회수 (Redis 오류 시 empty)
+     */
+    public Optional<Long> recordView(Integer communityId, String viewerKey) {
+        Optional<PfAddResult> result = redisCacheService.pfAddAndCount(VIEW_KEY_PREFIX + communityId, viewerKey, viewTtlSeconds);
+        result.filter(PfAddResult::isAdded)
+            .ifPresent(added -> redisCacheService.zAdd(DIRTY_KEY, communityId, System.currentTimeMillis()));
+        return result.map(PfAddResult::getCount);
+    }
+
+    /**
+     * 게시글 삭제 시 조회자 HyperLogLog와 반영 대기 표시 제거 (커밋 후)
+     */
+    public void onDeleted(Integer communityId) {
+        TransactionUtil.afterCommit(() -> {
+            redisCacheService.delete(VIEW_KEY_PREFIX + communityId);
+            redisCacheService.zRemove(DIRTY_KEY, communityId);
+        });
+    }
+
+    /**
+     * 조회자 식별 값. 로그인 사용자는 사용자 ID, 비로그인은 IP와 User-Agent의 해시 (원문은 저장하지 않음)
+     */
+    public static String viewerKey(UUID userId, String clientIp, String userAgent) {
+        if (userId != null) {
+            return "u:" + userId;
+        }
+        String source = (clientIp != null ? clientIp : "-") + "|" + (userAgent != null ? userAgent : "-");
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return "a:" + HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 변경된 게시글의 근사 고유 조회수를 view_count에 반영.
+     * 반영 시작 시각 이전에 표시된 게시글만 처리 후 제거하므로, 그 사이 늘어난 조회는 다음 주기에 다시 반영된다.
+     * GREATEST로 갱신하는 멱등 작업이라 여러 노드에서 실행되어도 무방하다.
+     */
+    @Scheduled(fixedDelayString = "${community.view.flush-interval-ms:300000}", initialDelay = 60000)
+    public void flush() {
+        long cutoff = System.currentTimeMillis();
+        List<Integer> ids = redisCacheService.zRangeByScore(DIRTY_KEY, 0, cutoff, Integer.class);
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            for (int from = 0; from < ids.size(); from += FLUSH_BATCH_SIZE) {
+                List<Integer> batch = ids.subList(from, Math.min(ids.size(), from + FLUSH_BATCH_SIZE));
+                Map<String, Long> counts = redisCacheService.pfCountAll(batch.stream().map(id -> VIEW_KEY_PREFIX + id).toList());
+                if (counts.isEmpty()) {
+                    // Redis 오류 - 표시를 남겨 두고 다음 주기에 재시도
+                    return;
+                }
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (Integer id : batch) {
+                        communityRepository.updateViewCount(id, counts.getOrDefault(VIEW_KEY_PREFIX + id, 0L));
+                    }
+                });
+            }
+        } catch (Exception e) {
+            log.error("게시글 조회수 반영 실패 - 대상: {}건, error: {}", ids.size(), e.getMessage(), e);
+            return;
+        }
+        redisCacheService.zRemoveRangeByScore(DIRTY_KEY, 0, cutoff);
+        log.debug("게시글 조회수 반영 - {}건", ids.size());
+    }
+}
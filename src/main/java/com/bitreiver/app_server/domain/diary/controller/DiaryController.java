@@ -251,9 +251,13 @@ public class DiaryController {
         }
     }
     
-    @Operation(summary = "매매 일지 이미지 조회", description = "매매 일지의 이미지를 파일명으로 조회합니다.")
+    @Operation(summary = "매매 일지 이미지 조회", description = "매매 일지의 이미지를 파일명으로 조회합니다. " +
+        "설정에 따라 presigned URL로 리다이렉트(302)하거나 직접 응답하며, 직접 응답 시 ETag/Last-Modified 조건부 요청(304)과 Range 요청(206)을 지원합니다.")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "206", description = "부분 조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "302", description = "presigned URL로 이동"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "일지 또는 이미지를 찾을 수 없습니다.")
     })
@@ -264,25 +268,11 @@ public class DiaryController {
         @Parameter(description = "일지 ID", required = true)
         @PathVariable("id") Integer id,
         @Parameter(description = "이미지 파일명 (예: 1_20250113150000.jpg)", required = true)
-        @PathVariable("filename") String filename
+        @PathVariable("filename") String filename,
+        @RequestHeader HttpHeaders headers
     ) {
         UUID userId = UUID.fromString(authentication.getName());
-        
-        // 일지 조회 및 권한 확인
-        DiaryResponse diary = diaryService.getDiaryById(userId, id);
-        
-        // content에서 해당 파일명이 존재하는지 확인 (보안 검증)
-        String imagePath = String.format("@diaryImage/%d/%s", id, filename);
-        if (!isImagePathInContent(diary.getContent(), imagePath)) {
-            throw new CustomException(ErrorCode.NOT_FOUND);
-        }
-        
-        // MinIO에서 이미지 다운로드
-        Resource resource = diaryImageService.downloadImage(id, imagePath);
-        
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_TYPE, "image/jpeg")
-                .body(resource);
+        return diaryImageService.deliverImage(userId, id, filename, headers);
     }
     
     @Operation(summary = "매매 일지 이미지 삭제", description = "매매 일지의 이미지를 파일명으로 삭제합니다.")
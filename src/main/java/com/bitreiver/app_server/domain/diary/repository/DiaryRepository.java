@@ -24,6 +24,16 @@ public interface DiaryRepository extends JpaRepository<Diary, Integer> {
     
     boolean existsByTradingHistoryId(Integer tradingHistoryId);
     
+    @Query("SELECT COUNT(d) > 0 FROM Diary d JOIN TradingHistory t ON d.tradingHistoryId = t.id WHERE d.id = :id AND t.userId = :userId")
+    boolean existsByIdAndUserId(@Param("id") Integer id, @Param("userId") UUID userId);
+    
+    // 본인 일지 content에 해당 이미지 블록이 있는지 (jsonb 포함 연산으로 확인, 엔티티를 읽지 않음)
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM diaries d JOIN trading_histories t ON d.trading_history_id = t.id " +
+                   "WHERE d.id = :id AND t.user_id = :userId " +
+                   "AND d.content -> 'blocks' @> jsonb_build_array(jsonb_build_object('type', 'image', 'path', CAST(:path AS text))))",
+           nativeQuery = true)
+    boolean existsImageForUser(@Param("id") Integer id, @Param("userId") UUID userId, @Param("path") String path);
+    
     @Query("SELECT t, d FROM TradingHistory t LEFT JOIN Diary d ON d.tradingHistoryId = t.id " +
            "WHERE t.userId = :userId AND t.tradeTime >= :startDate AND t.tradeTime < :endDate " +
            "ORDER BY t.tradeTime DESC")
@@ -1,11 +1,15 @@
 package com.bitreiver.app_server.domain.diary.service;
 
 import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.UUID;
+
 public interface DiaryImageService {
     String uploadImage(Integer diaryId, MultipartFile file);
-    Resource downloadImage(Integer diaryId, String imagePath);
+    ResponseEntity<Resource> deliverImage(UUID userId, Integer diaryId, String filename, HttpHeaders requestHeaders);
     void deleteImage(Integer diaryId, String imagePath);
     void deleteAllImages(Integer diaryId, java.util.List<String> imagePaths);
 }
@@ -1,17 +1,19 @@
 package com.bitreiver.app_server.domain.diary.service;
 
+import com.bitreiver.app_server.domain.diary.repository.DiaryRepository;
 import com.bitreiver.app_server.global.common.exception.CustomException;
 import com.bitreiver.app_server.global.common.exception.ErrorCode;
+import com.bitreiver.app_server.global.storage.MinioObjectDelivery;
 import io.minio.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -22,6 +24,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class DiaryImageServiceImpl implements DiaryImageService {
     private final MinioClient minioClient;
+    private final DiaryRepository diaryRepository;
+    private final MinioObjectDelivery minioObjectDelivery;
     
     @Value("${minio.bucket-name}")
     private String bucketName;
@@ -75,26 +79,22 @@ public class DiaryImageServiceImpl implements DiaryImageService {
         }
     }
     
+    /**
+     * 매매 일지 이미지 응답. 본인 일지의 content에 포함된 이미지만 허용하며 공유 캐시에는 저장하지 않는다.
+     */
     @Override
-    public Resource downloadImage(Integer diaryId, String imagePath) {
-        // imagePath 형식: @diaryImage/{diaryId}/{filename}
-        String filename = extractFilename(imagePath);
-        String objectKey = String.format("diary-images/%d/%s", diaryId, filename);
-        
-        try {
-            InputStream stream = minioClient.getObject(
-                    GetObjectArgs.builder()
-                            .bucket(bucketName)
-                            .object(objectKey)
-                            .build()
-            );
-            
-            return new InputStreamResource(stream);
-            
-        } catch (Exception e) {
-            log.error("이미지 다운로드 실패: diaryId={}, objectKey={}", diaryId, objectKey, e);
-            throw new CustomException(ErrorCode.INTERNAL_ERROR, "이미지 다운로드에 실패했습니다: " + e.getMessage());
+    public ResponseEntity<Resource> deliverImage(UUID userId, Integer diaryId, String filename, HttpHeaders requestHeaders) {
+        // 권한 확인 + content에서 해당 파일명이 존재하는지 확인 (보안 검증)
+        String imagePath = String.format("@diaryImage/%d/%s", diaryId, filename);
+        if (!diaryRepository.existsImageForUser(diaryId, userId, imagePath)) {
+            if (!diaryRepository.existsByIdAndUserId(diaryId, userId)) {
+                throw new CustomException(ErrorCode.DIARY_NOT_FOUND);
+            }
+            throw new CustomException(ErrorCode.NOT_FOUND);
         }
+        
+        String objectKey = String.format("diary-images/%d/%s", diaryId, filename);
+        return minioObjectDelivery.deliver(objectKey, requestHeaders, false);
     }
     
     @Override
@@ -62,7 +62,7 @@ public class EconomicEventController {
     public ApiResponse<List<EconomicEventResponse>> getUpcomingEvents(
         @Parameter(
             name = "limit", 
-            description = "조회할 이벤트 개수 (기본값: 5)", 
+            description = "조회할 이벤트 개수 (기본값: 5, 최대 50)", 
             required = false, 
             in = ParameterIn.QUERY,
             example = "5"
@@ -10,4 +10,11 @@ public interface EconomicEventService {
     List<EconomicEventResponse> getUpcomingEvents(int limit);
 
     int getTodayEventCount();
+
+    /**
+     * 다가오는 이벤트 캐시 무효화
+     *
+     * @return 무효화 성공 여부 (Redis 오류 시 false)
+     */
+    boolean invalidateUpcomingEventCache();
 }
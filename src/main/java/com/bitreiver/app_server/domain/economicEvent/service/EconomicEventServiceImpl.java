@@ -26,8 +26,10 @@ public class EconomicEventServiceImpl implements EconomicEventService {
     private final RedisCacheService redisCacheService;
 
     private static final DateTimeFormatter YEAR_MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM");
-    private static final String REDIS_KEY_PREFIX = "economic-events:upcoming:";
+    private static final String CACHE_NAMESPACE = "economic-events:upcoming";
     private static final long TTL_SECONDS = 86400; // 1일
+    // limit이 캐시 키에 들어가므로 요청 값 범위를 제한
+    private static final int MAX_UPCOMING_LIMIT = 50;
 
     @Override
     @Transactional(readOnly = true)
@@ -49,7 +51,7 @@ public class EconomicEventServiceImpl implements EconomicEventService {
     public int getTodayEventCount() {
         try {
             LocalDate today = LocalDate.now();
-            String redisKey = REDIS_KEY_PREFIX + "today-count:" + today;
+            String redisKey = redisCacheService.namespacedKey(CACHE_NAMESPACE, "today-count:" + today);
             
             Integer cachedCount = redisCacheService.get(redisKey, Integer.class)
                 .orElse(null);
@@ -79,37 +81,29 @@ public class EconomicEventServiceImpl implements EconomicEventService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<EconomicEventResponse> getUpcomingEvents(int limit) {
+    public List<EconomicEventResponse> getUpcomingEvents(int requestedLimit) {
+        int limit = Math.max(1, Math.min(requestedLimit, MAX_UPCOMING_LIMIT));
         try {
-            String redisKey = REDIS_KEY_PREFIX + "top" + limit;
+            String redisKey = redisCacheService.namespacedKey(CACHE_NAMESPACE, "top" + limit);
             TypeReference<List<EconomicEventRedisDto>> typeRef = new TypeReference<List<EconomicEventRedisDto>>() {};
             
-            List<EconomicEventRedisDto> dtoList = redisCacheService.get(redisKey, typeRef)
-                .orElse(Collections.emptyList());
-
-            if (dtoList != null && !dtoList.isEmpty()) {
-                return dtoList.stream()
-                    .map(EconomicEventResponse::from)
+            List<EconomicEventRedisDto> dtoList = redisCacheService.getOrLoad(redisKey, typeRef, TTL_SECONDS, () -> {
+                log.info("Redis 캐시 미스 - DB에서 조회 후 캐싱 - key: {}, limit: {}", redisKey, limit);
+                List<EconomicEvent> events = economicEventRepository.findUpcomingEvents(LocalDate.now(), limit);
+                if (events.isEmpty()) {
+                    log.warn("DB에서도 데이터를 찾을 수 없습니다 - limit: {}", limit);
+                    // 빈 결과는 캐싱하지 않음
+                    return null;
+                }
+                return events.stream()
+                    .map(EconomicEventRedisDto::from)
                     .collect(Collectors.toList());
-            }
-            
-            log.info("Redis 캐시 미스 - DB에서 조회 후 캐싱 - key: {}, limit: {}", redisKey, limit);
-            
-            LocalDate today = LocalDate.now();
-            List<EconomicEvent> events = economicEventRepository.findUpcomingEvents(today, limit);
-            
-            if (events.isEmpty()) {
-                log.warn("DB에서도 데이터를 찾을 수 없습니다 - limit: {}", limit);
+            });
+
+            if (dtoList == null) {
                 return Collections.emptyList();
             }
-            
-            List<EconomicEventRedisDto> redisDtoList = events.stream()
-                .map(EconomicEventRedisDto::from)
-                .collect(Collectors.toList());
-            
-            redisCacheService.set(redisKey, redisDtoList, TTL_SECONDS);
-            
-            return events.stream()
+            return dtoList.stream()
                 .map(EconomicEventResponse::from)
                 .collect(Collectors.toList());
         } catch (Exception e) {
@@ -117,4 +111,9 @@ public class EconomicEventServiceImpl implements EconomicEventService {
             return Collections.emptyList();
         }
     }
+
+    @Override
+    public boolean invalidateUpcomingEventCache() {
+        return redisCacheService.invalidateNamespace(CACHE_NAMESPACE) >= 0;
+    }
 }
@@ -1,5 +1,6 @@
 package com.bitreiver.app_server.domain.economicIndex.controller;
 
+import com.bitreiver.app_server.domain.economicIndex.dto.EconomicIndexColumnarResponse;
 import com.bitreiver.app_server.domain.economicIndex.dto.EconomicIndexResponse;
 import com.bitreiver.app_server.domain.economicIndex.enums.EconomicIndexType;
 import com.bitreiver.app_server.domain.economicIndex.service.EconomicIndexService;
@@ -12,7 +13,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -54,6 +59,48 @@ public class EconomicIndexController {
         return ApiResponse.success(data, "경제 지표 조회 성공");
     }
     
+    @Operation(
+        summary = "경제 지표 조회 (차트용 컬럼형)",
+        description = "특정 지표 타입의 데이터를 필드별 병렬 배열로 조회합니다. 강한 ETag를 제공하며 If-None-Match가 일치하면 304를 반환합니다."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "조회 성공"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304",
+            description = "변경 없음"
+        ),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404",
+            description = "데이터를 찾을 수 없습니다"
+        )
+    })
+    @GetMapping("/{type}/columnar")
+    public ResponseEntity<ApiResponse<EconomicIndexColumnarResponse>> getColumnarByIndexType(
+        @Parameter(
+            name = "type",
+            description = "지표 타입 (KOSPI, KOSDAQ, NASDAQ, S_P_500, DOW_JONES, USD_KRW)",
+            required = true,
+            in = ParameterIn.PATH
+        )
+        @PathVariable("type") EconomicIndexType type,
+        WebRequest webRequest
+    ) {
+        EconomicIndexColumnarResponse data = economicIndexService.getColumnarByIndexType(type);
+        if (webRequest.checkNotModified(data.getVersionTag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(data.getVersionTag())
+                .cacheControl(CacheControl.noCache())
+                .build();
+        }
+        return ResponseEntity.ok()
+            .eTag(data.getVersionTag())
+            .cacheControl(CacheControl.noCache())
+            .body(ApiResponse.success(data, "경제 지표 조회 성공"));
+    }
+    
     @Operation(
         summary = "기간별 경제 지표 조회",
         description = "특정 지표 타입의 기간별 데이터를 5분 간격으로 조회합니다."
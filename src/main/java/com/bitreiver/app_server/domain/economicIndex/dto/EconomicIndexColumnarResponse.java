@@ -0,0 +1,89 @@
+package com.bitreiver.app_server.domain.economicIndex.dto;
+
+import com.bitreiver.app_server.domain.economicIndex.enums.EconomicIndexType;
+import com.bitreiver.app_server.global.util.ETagUtil;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 차트용 컬럼형 경제 지표 응답 (필드별 병렬 배열).
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "컬럼형 경제 지표 응답 (필드별 병렬 배열)")
+public class EconomicIndexColumnarResponse {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    @Schema(description = "지표 타입", example = "KOSPI")
+    private EconomicIndexType indexType;
+
+    @Schema(description = "데이터 개수", example = "2")
+    private int count;
+
+    @Schema(description = "시각 (epoch millis)", example = "[1704067200000, 1704067500000]")
+    private long[] timestamps;
+
+    @Schema(description = "가격", example = "[2500.5, 2501.2]")
+    private double[] prices;
+
+    @Schema(description = "전일 대비 등락 금액", example = "[10.2, 10.9]")
+    private double[] changeAmounts;
+
+    @Schema(description = "전일 대비 등락률(%)", example = "[1.25, 1.27]")
+    private double[] changeRates;
+
+    @JsonIgnore
+    private String versionTag;
+
+    public static EconomicIndexColumnarResponse from(List<EconomicIndexRedisDto> series, EconomicIndexType indexType) {
+        int size = series.size();
+        long[] timestamps = new long[size];
+        double[] prices = new double[size];
+        double[] changeAmounts = new double[size];
+        double[] changeRates = new double[size];
+
+        for (int i = 0; i < size; i++) {
+            EconomicIndexRedisDto dto = series.get(i);
+            timestamps[i] = dto.getDateTime().atZone(KOREA_ZONE).toInstant().toEpochMilli();
+            prices[i] = toDouble(dto.getPrice());
+            changeAmounts[i] = toDouble(dto.getChangeAmount());
+            changeRates[i] = toDouble(dto.getChangeRate());
+        }
+
+        EconomicIndexRedisDto first = size > 0 ? series.get(0) : null;
+        EconomicIndexRedisDto last = size > 0 ? series.get(size - 1) : null;
+        String versionTag = ETagUtil.strong(
+            "economic-index",
+            indexType,
+            size,
+            first != null ? first.getDateTime() : null,
+            last != null ? last.getDateTime() : null,
+            last != null ? last.getPrice() : null
+        );
+
+        return EconomicIndexColumnarResponse.builder()
+            .indexType(indexType)
+            .count(size)
+            .timestamps(timestamps)
+            .prices(prices)
+            .changeAmounts(changeAmounts)
+            .changeRates(changeRates)
+            .versionTag(versionTag)
+            .build();
+    }
+
+    private static double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : 0d;
+    }
+}
@@ -1,5 +1,6 @@
 package com.bitreiver.app_server.domain.economicIndex.service;
 
+import com.bitreiver.app_server.domain.economicIndex.dto.EconomicIndexColumnarResponse;
 import com.bitreiver.app_server.domain.economicIndex.dto.EconomicIndexResponse;
 import com.bitreiver.app_server.domain.economicIndex.enums.EconomicIndexType;
 
@@ -20,4 +21,6 @@ public interface EconomicIndexService {
         EconomicIndexType indexType,
         LocalDate date
     );
+
+    EconomicIndexColumnarResponse getColumnarByIndexType(EconomicIndexType indexType);
 }
\ No newline at end of file
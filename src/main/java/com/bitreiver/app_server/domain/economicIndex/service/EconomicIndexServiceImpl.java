@@ -1,9 +1,11 @@
 package com.bitreiver.app_server.domain.economicIndex.service;
 
+import com.bitreiver.app_server.domain.economicIndex.dto.EconomicIndexColumnarResponse;
 import com.bitreiver.app_server.domain.economicIndex.dto.EconomicIndexRedisDto;
 import com.bitreiver.app_server.domain.economicIndex.dto.EconomicIndexResponse;
 import com.bitreiver.app_server.domain.economicIndex.enums.EconomicIndexType;
 import com.bitreiver.app_server.global.cache.RedisCacheService;
+import com.bitreiver.app_server.global.cache.RedisTimeSeriesCache;
 import com.bitreiver.app_server.global.common.exception.CustomException;
 import com.bitreiver.app_server.global.common.exception.ErrorCode;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -12,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,8 +25,10 @@ import java.util.stream.Collectors;
 public class EconomicIndexServiceImpl implements EconomicIndexService {
     
     private final RedisCacheService redisCacheService;
+    private final RedisTimeSeriesCache redisTimeSeriesCache;
     
     private static final String REDIS_KEY_PREFIX = "economic-index:";
+    private static final TypeReference<List<EconomicIndexRedisDto>> SERIES_TYPE = new TypeReference<List<EconomicIndexRedisDto>>() {};
     
     @Override
     public List<EconomicIndexResponse> getByIndexType(EconomicIndexType indexType) {
@@ -50,14 +55,10 @@ public class EconomicIndexServiceImpl implements EconomicIndexService {
         LocalDate startDate,
         LocalDate endDate
     ) {
-        List<EconomicIndexResponse> allData = getByIndexType(indexType);
-        
-        return allData.stream()
-            .filter(response -> {
-                LocalDate date = response.getDateTime().toLocalDate();
-                return (date.isEqual(startDate) || date.isAfter(startDate)) &&
-                       (date.isEqual(endDate) || date.isBefore(endDate));
-            })
+        return getSeries(indexType)
+            .range(startOfDay(startDate), startOfDay(endDate.plusDays(1)))
+            .stream()
+            .map(dto -> EconomicIndexResponse.from(dto, indexType))
             .collect(Collectors.toList());
     }
     
@@ -66,12 +67,52 @@ public class EconomicIndexServiceImpl implements EconomicIndexService {
         EconomicIndexType indexType,
         LocalDate date
     ) {
-        List<EconomicIndexResponse> allData = getByIndexType(indexType);
-        
-        return allData.stream()
-            .filter(response -> response.getDateTime().toLocalDate().equals(date))
-            .findFirst()
+        return getSeries(indexType)
+            .first(startOfDay(date), startOfDay(date.plusDays(1)))
+            .map(dto -> EconomicIndexResponse.from(dto, indexType))
             .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND,
                 "해당 날짜의 경제 지표 데이터를 찾을 수 없습니다: " + indexType + ", " + date));
     }
+    
+    @Override
+    public EconomicIndexColumnarResponse getColumnarByIndexType(EconomicIndexType indexType) {
+        String redisKey = REDIS_KEY_PREFIX + indexType.name();
+        TypeReference<List<EconomicIndexRedisDto>> typeRef = new TypeReference<List<EconomicIndexRedisDto>>() {};
+        
+        List<EconomicIndexRedisDto> redisData = redisCacheService.get(redisKey, typeRef)
+            .orElse(new ArrayList<>());
+        
+        if (redisData.isEmpty()) {
+            log.warn("경제 지표 데이터가 없습니다 - type: {}, key: {}", indexType, redisKey);
+            throw new CustomException(ErrorCode.NOT_FOUND, 
+                "경제 지표 데이터를 찾을 수 없습니다: " + indexType);
+        }
+        
+        return EconomicIndexColumnarResponse.from(redisData, indexType);
+    }
+    
+    /**
+     * 날짜 인덱싱된 지표 시계열 (Redis 값 버전당 1회 디코딩)
+     */
+    private RedisTimeSeriesCache.TimeSeries<EconomicIndexRedisDto> getSeries(EconomicIndexType indexType) {
+        String redisKey = REDIS_KEY_PREFIX + indexType.name();
+        RedisTimeSeriesCache.TimeSeries<EconomicIndexRedisDto> series = redisTimeSeriesCache
+            .get(redisKey, SERIES_TYPE, EconomicIndexServiceImpl::sortKey)
+            .orElse(null);
+        
+        if (series == null || series.size() == 0) {
+            log.warn("경제 지표 데이터가 없습니다 - type: {}, key: {}", indexType, redisKey);
+            throw new CustomException(ErrorCode.NOT_FOUND, 
+                "경제 지표 데이터를 찾을 수 없습니다: " + indexType);
+        }
+        return series;
+    }
+    
+    private static long sortKey(EconomicIndexRedisDto dto) {
+        return dto.getDateTime() != null ? dto.getDateTime().toEpochSecond(ZoneOffset.UTC) : Long.MIN_VALUE;
+    }
+    
+    private static long startOfDay(LocalDate date) {
+        return date.atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+    }
 }
@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import com.bitreiver.app_server.global.cache.RedisCacheService;
+import com.bitreiver.app_server.global.cache.RedisTimeSeriesCache;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.bitreiver.app_server.domain.feargreed.dto.FearGreedRedisDto;
 
@@ -24,27 +25,24 @@ public class FearGreedServiceImpl implements FearGreedService {
     
     private final FearGreedIndexRepository fearGreedIndexRepository;
     private final RedisCacheService redisCacheService;
+    private final RedisTimeSeriesCache redisTimeSeriesCache;
     
     private static final String REDIS_KEY_HISTORY = "feargreed:history";
     private static final String REDIS_KEY_TODAY = "feargreed:today";
+    private static final TypeReference<List<FearGreedRedisDto>> HISTORY_TYPE = new TypeReference<List<FearGreedRedisDto>>() {};
     
     @Override
     public FearGreedResponse getByDate(LocalDate date) {
-        TypeReference<List<FearGreedRedisDto>> typeRef = new TypeReference<List<FearGreedRedisDto>>() {};
-        Optional<List<FearGreedRedisDto>> historyList = redisCacheService.get(REDIS_KEY_HISTORY, typeRef);
+        Optional<FearGreedRedisDto> found = redisTimeSeriesCache
+            .get(REDIS_KEY_HISTORY, HISTORY_TYPE, FearGreedServiceImpl::sortKey)
+            .flatMap(history -> history.first(date.toEpochDay(), date.toEpochDay() + 1));
         
-        if (historyList.isPresent()) {
-            Optional<FearGreedRedisDto> found = historyList.get().stream()
-                .filter(item -> item.getDate().equals(date))
-                .findFirst();
-            
-            if (found.isPresent()) {
-                FearGreedRedisDto dto = found.get();
-                return FearGreedResponse.builder()
-                    .date(dto.getDate())
-                    .value(dto.getValue())
-                    .build();
-            }
+        if (found.isPresent()) {
+            FearGreedRedisDto dto = found.get();
+            return FearGreedResponse.builder()
+                .date(dto.getDate())
+                .value(dto.getValue())
+                .build();
         }
         
         log.warn("Redis 캐시 미스 - db 조회 시도 합니다. - date: {}", date);
@@ -109,4 +107,8 @@ public class FearGreedServiceImpl implements FearGreedService {
                 .build())
             .collect(Collectors.toList());
     }
+
+    private static long sortKey(FearGreedRedisDto dto) {
+        return dto.getDate() != null ? dto.getDate().toEpochDay() : Long.MIN_VALUE;
+    }
 }
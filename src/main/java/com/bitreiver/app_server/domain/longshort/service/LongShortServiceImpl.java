@@ -3,7 +3,7 @@ package com.bitreiver.app_server.domain.longshort.service;
 import org.springframework.stereotype.Service;
 import com.bitreiver.app_server.domain.longshort.dto.LongShortResponse;
 import com.bitreiver.app_server.domain.longshort.dto.BinanceLongShortRatioResponse;
-import com.bitreiver.app_server.global.cache.RedisCacheService;
+import com.bitreiver.app_server.global.cache.RedisTimeSeriesCache;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,9 +16,11 @@ import com.fasterxml.jackson.core.type.TypeReference;
 @RequiredArgsConstructor
 public class LongShortServiceImpl implements LongShortService {
     
-    private final RedisCacheService redisCacheService;
+    private final RedisTimeSeriesCache redisTimeSeriesCache;
 
     private static final String LONG_SHORT_RATIO_CACHE_KEY_PREFIX = "binance:longShortRatio:";
+    private static final TypeReference<List<BinanceLongShortRatioResponse>> SERIES_TYPE =
+            new TypeReference<List<BinanceLongShortRatioResponse>>() {};
 
     private String getCacheKey(String symbol, String period) {
         return LONG_SHORT_RATIO_CACHE_KEY_PREFIX + symbol + ":" + period;
@@ -28,19 +30,20 @@ public class LongShortServiceImpl implements LongShortService {
     public List<LongShortResponse> getLongShortRatio(String symbol, String period) {
         String cacheKey = getCacheKey(symbol, period);
 
-        TypeReference<List<BinanceLongShortRatioResponse>> typeRef =
-                new TypeReference<List<BinanceLongShortRatioResponse>>() {};
-
-        Optional<List<BinanceLongShortRatioResponse>> cached =
-                redisCacheService.get(cacheKey, typeRef);
+        Optional<RedisTimeSeriesCache.TimeSeries<BinanceLongShortRatioResponse>> cached =
+                redisTimeSeriesCache.get(cacheKey, SERIES_TYPE, LongShortServiceImpl::sortKey);
 
         if (cached.isEmpty()) {
             log.info("롱숏 비율 캐시 미스 - symbol: {}, period: {}, key: {}", symbol, period, cacheKey);
             return List.of();
         }
 
-        return cached.get().stream()
+        return cached.get().items().stream()
                 .map(LongShortResponse::from)
                 .toList();
     }
+
+    private static long sortKey(BinanceLongShortRatioResponse response) {
+        return response.getTimestamp() != null ? response.getTimestamp() : Long.MIN_VALUE;
+    }
 }
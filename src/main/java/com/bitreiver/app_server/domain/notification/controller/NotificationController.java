@@ -4,6 +4,7 @@ import com.bitreiver.app_server.domain.notification.dto.NotificationResponse;
 import com.bitreiver.app_server.domain.notification.dto.NotificationStatsResponse;
 import com.bitreiver.app_server.domain.notification.enums.NotificationType;
 import com.bitreiver.app_server.domain.notification.service.NotificationService;
+import com.bitreiver.app_server.global.common.dto.CursorResponse;
 import com.bitreiver.app_server.global.common.dto.PageResponse;
 import com.bitreiver.app_server.global.common.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -71,6 +72,30 @@ public class NotificationController {
         return ApiResponse.success(notifications);
     }
     
+    @Operation(summary = "알림 목록 커서 조회", description = "사용자의 알림 목록을 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청에 전달합니다.")
+    @SecurityRequirement(name = "JWT")
+    @GetMapping("/cursor")
+    public ApiResponse<CursorResponse<NotificationResponse>> getNotificationsByCursor(
+        Authentication authentication,
+        @Parameter(description = "읽음 상태 필터 (true: 읽음, false: 안읽음, null: 전체)")
+        @RequestParam(value = "read", required = false) Boolean read,
+        @Parameter(description = "알림 타입 필터")
+        @RequestParam(value = "type", required = false) NotificationType type,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+        @RequestParam(value = "size", defaultValue = "20") int size,
+        @Parameter(description = "전체 개수 포함 여부")
+        @RequestParam(value = "includeTotal", defaultValue = "false") boolean includeTotal
+    ) {
+        UUID userId = UUID.fromString(authentication.getName());
+        CursorResponse<NotificationResponse> notifications = notificationService.getNotificationsByCursor(
+            userId, read, type, cursor, size, includeTotal
+        );
+        
+        return ApiResponse.success(notifications);
+    }
+    
     @Operation(summary = "읽지 않은 알림 개수 조회", description = "사용자의 읽지 않은 알림 개수를 조회합니다.")
     @SecurityRequirement(name = "JWT")
     @GetMapping("/unread-count")
@@ -17,7 +17,8 @@ import java.util.UUID;
     indexes = {
         @Index(name = "idx_notification_user_id", columnList = "user_id"),
         @Index(name = "idx_notification_user_read", columnList = "user_id, read"),
-        @Index(name = "idx_notification_created_at", columnList = "created_at")
+        @Index(name = "idx_notification_created_at", columnList = "created_at"),
+        @Index(name = "idx_notification_user_created_at", columnList = "user_id, created_at")
     })
 @Getter
 @Builder
@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
@@ -24,6 +25,28 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     // 사용자별 타입별 알림 조회
     Page<Notification> findByUserIdAndTypeOrderByCreatedAtDesc(UUID userId, NotificationType type, Pageable pageable);
     
+    // 커서 기반 알림 조회 (created_at, id) 역순 - idx_notification_user_created_at 사용, 읽음/타입 필터는 선택
+    @Query(value = "SELECT * FROM notifications n WHERE n.user_id = :userId " +
+                   "AND (CAST(:read AS boolean) IS NULL OR n.read = CAST(:read AS boolean)) " +
+                   "AND (CAST(:type AS varchar) IS NULL OR n.type = CAST(:type AS varchar)) " +
+                   "AND (n.created_at, n.id) < (:createdAt, :id) " +
+                   "ORDER BY n.created_at DESC, n.id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Notification> findPageBefore(
+        @Param("userId") UUID userId,
+        @Param("read") Boolean read,
+        @Param("type") String type,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") long id,
+        @Param("limit") int limit
+    );
+    
+    @Query(value = "SELECT COUNT(*) FROM notifications n WHERE n.user_id = :userId " +
+                   "AND (CAST(:read AS boolean) IS NULL OR n.read = CAST(:read AS boolean)) " +
+                   "AND (CAST(:type AS varchar) IS NULL OR n.type = CAST(:type AS varchar))",
+           nativeQuery = true)
+    long countFiltered(@Param("userId") UUID userId, @Param("read") Boolean read, @Param("type") String type);
+    
     // 읽지 않은 알림 개수
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.userId = :userId AND n.read = false")
     Long countUnreadByUserId(@Param("userId") UUID userId);
@@ -3,6 +3,7 @@ package com.bitreiver.app_server.domain.notification.service;
 import com.bitreiver.app_server.domain.notification.dto.NotificationResponse;
 import com.bitreiver.app_server.domain.notification.dto.NotificationStatsResponse;
 import com.bitreiver.app_server.domain.notification.enums.NotificationType;
+import com.bitreiver.app_server.global.common.dto.CursorResponse;
 import com.bitreiver.app_server.global.common.dto.PageResponse;
 import org.springframework.data.domain.Pageable;
 
@@ -11,6 +12,7 @@ import java.util.UUID;
 public interface NotificationService {
     NotificationResponse createNotification(UUID userId, NotificationType type, String title, String content, String metadata);
     PageResponse<NotificationResponse> getNotifications(UUID userId, Boolean read, NotificationType type, Pageable pageable);
+    CursorResponse<NotificationResponse> getNotificationsByCursor(UUID userId, Boolean read, NotificationType type, String cursor, int size, boolean includeTotal);
     NotificationStatsResponse getUnreadCount(UUID userId);
     void markAsRead(Long notificationId, UUID userId);
     void markAllAsRead(UUID userId);
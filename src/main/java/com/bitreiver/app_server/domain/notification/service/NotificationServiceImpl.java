@@ -5,9 +5,11 @@ import com.bitreiver.app_server.domain.notification.dto.NotificationStatsRespons
 import com.bitreiver.app_server.domain.notification.entity.Notification;
 import com.bitreiver.app_server.domain.notification.enums.NotificationType;
 import com.bitreiver.app_server.domain.notification.repository.NotificationRepository;
+import com.bitreiver.app_server.global.common.dto.CursorResponse;
 import com.bitreiver.app_server.global.common.dto.PageResponse;
 import com.bitreiver.app_server.global.common.exception.CustomException;
 import com.bitreiver.app_server.global.common.exception.ErrorCode;
+import com.bitreiver.app_server.global.util.CursorUtil;
 import com.bitreiver.app_server.global.util.TimeUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +18,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -77,6 +80,29 @@ public class NotificationServiceImpl implements NotificationService {
         );
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<NotificationResponse> getNotificationsByCursor(UUID userId, Boolean read, NotificationType type,
+                                                                         String cursor, int size, boolean includeTotal) {
+        CursorUtil.Position position = CursorUtil.decode(cursor);
+        int pageSize = CursorUtil.clampSize(size);
+        String typeName = type != null ? type.name() : null;
+        
+        List<Notification> rows = notificationRepository.findPageBefore(
+            userId, read, typeName, position.getTime(), position.getId(), pageSize + 1
+        );
+        Long total = includeTotal ? notificationRepository.countFiltered(userId, read, typeName) : null;
+        
+        return CursorResponse.of(
+            rows,
+            pageSize,
+            Notification::getCreatedAt,
+            Notification::getId,
+            page -> page.stream().map(NotificationResponse::from).toList(),
+            total
+        );
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public NotificationStatsResponse getUnreadCount(UUID userId) {
@@ -2,19 +2,32 @@ package com.bitreiver.app_server.domain.price.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import com.bitreiver.app_server.domain.price.dto.CoinIndicatorResponse;
+import com.bitreiver.app_server.domain.price.dto.CoinPriceDayBatchRangeRequest;
+import com.bitreiver.app_server.domain.price.dto.CoinPriceDayColumnarResponse;
 import com.bitreiver.app_server.domain.price.dto.CoinPriceDayResponse;
 import com.bitreiver.app_server.domain.price.dto.CoinPriceDayRangeRequest;
+import com.bitreiver.app_server.domain.price.enums.IndicatorType;
+import com.bitreiver.app_server.domain.price.indicator.IndicatorParams;
+import com.bitreiver.app_server.domain.price.service.CoinIndicatorService;
 import com.bitreiver.app_server.domain.price.service.CoinPriceDayService;
 import com.bitreiver.app_server.global.common.response.ApiResponse;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import jakarta.validation.Valid;
 
@@ -25,6 +38,7 @@ import jakarta.validation.Valid;
 @Tag(name = "Coin Prices Day", description = "코인 가격 일봉 조회 API")
 public class CoinPriceDayController {
     private final CoinPriceDayService coinPriceDayService;
+    private final CoinIndicatorService coinIndicatorService;
     
     @Operation(summary = "(test) id로 코인 가격 일별 조회", description = "코인 가격 일별 조회를 합니다.")
     @ApiResponses(value = {
@@ -64,4 +78,78 @@ public class CoinPriceDayController {
         List<CoinPriceDayResponse> response = coinPriceDayService.getCoinPriceDayRangeById(request);
         return ApiResponse.success(response);
     }
+
+    @Operation(summary = "다중 코인 기간별 일봉 조회", description = "여러 코인의 기간 일봉을 한 번에 조회합니다. (최대 50개) 응답은 코인 ID별 일봉 목록입니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공. 데이터가 없는 코인은 빈 배열"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 (코인 ID 개수 초과, 기간 범위 오류)")
+    })
+    @PostMapping("/range/batch")
+    public ApiResponse<Map<Integer, List<CoinPriceDayResponse>>> getCoinPriceDayRangeByIds(@Valid @RequestBody CoinPriceDayBatchRangeRequest request) {
+        Map<Integer, List<CoinPriceDayResponse>> response = coinPriceDayService.getCoinPriceDayRangeByIds(request);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(
+        summary = "코인 기간별 일봉 조회 (차트용 컬럼형)",
+        description = "기간 일봉을 필드별 병렬 배열(시간 오름차순)로 조회합니다. 강한 ETag를 제공하며 If-None-Match가 일치하면 일봉 데이터를 읽지 않고(버전 집계 쿼리만 수행) 304를 반환합니다."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 기간 범위")
+    })
+    @GetMapping("/{id}/range/columnar")
+    public ResponseEntity<ApiResponse<CoinPriceDayColumnarResponse>> getCoinPriceDayRangeColumnar(
+        @Parameter(name = "id", description = "코인 ID", example = "1", required = true, in = ParameterIn.PATH)
+        @PathVariable("id") Integer id,
+        @Parameter(description = "시작 날짜 및 시간 (ISO 8601 형식)", example = "2025-07-01T00:00:00")
+        @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+        @Parameter(description = "종료 날짜 및 시간 (ISO 8601 형식, 미포함)", example = "2025-08-01T00:00:00")
+        @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+        WebRequest webRequest
+    ) {
+        String eTag = coinPriceDayService.getCoinPriceDayRangeETag(id, startDate, endDate);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .build();
+        }
+        CoinPriceDayColumnarResponse response = coinPriceDayService.getCoinPriceDayRangeColumnar(id, startDate, endDate);
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(CacheControl.noCache())
+            .body(ApiResponse.success(response));
+    }
+
+    @Operation(
+        summary = "코인 일봉 기술적 지표 조회",
+        description = "전체 일봉 이력에 대한 지표(SMA, EMA, RSI, MACD, BOLLINGER)를 서버에서 계산해 시간 오름차순 병렬 배열로 조회합니다. 파라미터를 생략하면 기본값(SMA/EMA/BOLLINGER 20, RSI 14, MACD 12/26/9, multiplier 2.0)을 사용합니다."
+    )
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공. 데이터 없으면 빈 배열"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 지표 파라미터")
+    })
+    @GetMapping("/{id}/indicators/{type}")
+    public ApiResponse<CoinIndicatorResponse> getIndicator(
+        @Parameter(name = "id", description = "코인 ID", example = "1", required = true, in = ParameterIn.PATH)
+        @PathVariable("id") Integer id,
+        @Parameter(name = "type", description = "지표 타입 (SMA, EMA, RSI, MACD, BOLLINGER)", required = true, in = ParameterIn.PATH)
+        @PathVariable("type") IndicatorType type,
+        @Parameter(description = "기간 (SMA, EMA, RSI, BOLLINGER)", example = "20")
+        @RequestParam(value = "period", required = false) Integer period,
+        @Parameter(description = "MACD 단기 기간", example = "12")
+        @RequestParam(value = "fastPeriod", required = false) Integer fastPeriod,
+        @Parameter(description = "MACD 장기 기간", example = "26")
+        @RequestParam(value = "slowPeriod", required = false) Integer slowPeriod,
+        @Parameter(description = "MACD 시그널 기간", example = "9")
+        @RequestParam(value = "signalPeriod", required = false) Integer signalPeriod,
+        @Parameter(description = "볼린저 밴드 표준편차 배수", example = "2.0")
+        @RequestParam(value = "multiplier", required = false) Double multiplier
+    ) {
+        IndicatorParams params = IndicatorParams.of(type, period, fastPeriod, slowPeriod, signalPeriod, multiplier);
+        CoinIndicatorResponse response = coinIndicatorService.getIndicator(id, type, params);
+        return ApiResponse.success(response);
+    }
 }
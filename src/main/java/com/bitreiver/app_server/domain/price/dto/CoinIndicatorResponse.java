@@ -0,0 +1,66 @@
+package com.bitreiver.app_server.domain.price.dto;
+
+import com.bitreiver.app_server.domain.price.enums.IndicatorType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "기술적 지표 응답 (시간 오름차순 병렬 배열, 워밍업 구간은 null)")
+public class CoinIndicatorResponse {
+
+    @Schema(description = "코인 ID", example = "1")
+    private Integer coinId;
+
+    @Schema(description = "지표 타입", example = "RSI")
+    private IndicatorType indicator;
+
+    @Schema(description = "지표 파라미터", example = "{\"period\":14}")
+    private Map<String, Number> params;
+
+    @Schema(description = "데이터 개수", example = "3")
+    private int count;
+
+    @Schema(description = "캔들 시작 시각 (UTC epoch millis)", example = "[1751328000000, 1751414400000, 1751500800000]")
+    private long[] timestamps;
+
+    @Schema(description = "시리즈 이름별 지표 값", example = "{\"rsi\":[null, 55.2, 61.8]}")
+    private Map<String, Double[]> series;
+
+    public static CoinIndicatorResponse of(
+        Integer coinId,
+        IndicatorType indicator,
+        Map<String, Number> params,
+        long[] timestamps,
+        double[][] values
+    ) {
+        Map<String, Double[]> series = new LinkedHashMap<>();
+        for (int s = 0; s < values.length; s++) {
+            series.put(indicator.getSeriesNames().get(s), toNullable(values[s]));
+        }
+        return CoinIndicatorResponse.builder()
+            .coinId(coinId)
+            .indicator(indicator)
+            .params(params)
+            .count(timestamps.length)
+            .timestamps(timestamps)
+            .series(series)
+            .build();
+    }
+
+    private static Double[] toNullable(double[] values) {
+        Double[] result = new Double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = Double.isNaN(values[i]) ? null : values[i];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,30 @@
+package com.bitreiver.app_server.domain.price.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Schema(description = "다중 코인 기간별 일봉 조회 요청", example = "{\"coinIds\":[1,2,3],\"startDate\":\"2025-07-01T00:00:00\",\"endDate\":\"2025-08-01T00:00:00\"}")
+public class CoinPriceDayBatchRangeRequest {
+
+    public static final int MAX_COIN_IDS = 50;
+
+    @Schema(description = "코인 ID 목록 (최대 50개)", example = "[1, 2, 3]", required = true)
+    @NotEmpty(message = "코인 ID 목록은 필수입니다.")
+    @Size(max = MAX_COIN_IDS, message = "코인 ID는 최대 50개까지 조회할 수 있습니다.")
+    private List<@NotNull Integer> coinIds;
+
+    @Schema(description = "시작 날짜 및 시간 (ISO 8601 형식)", example = "2025-07-01T00:00:00", required = true)
+    @NotNull(message = "시작 날짜는 필수입니다.")
+    private LocalDateTime startDate;
+
+    @Schema(description = "종료 날짜 및 시간 (ISO 8601 형식, 미포함)", example = "2025-08-01T00:00:00", required = true)
+    @NotNull(message = "종료 날짜는 필수입니다.")
+    private LocalDateTime endDate;
+}
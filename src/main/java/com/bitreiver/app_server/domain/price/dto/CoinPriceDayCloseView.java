@@ -0,0 +1,12 @@
+package com.bitreiver.app_server.domain.price.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 지표 계산용 일봉 종가 프로젝션 (필요한 컬럼만 조회)
+ */
+public interface CoinPriceDayCloseView {
+    LocalDateTime getCandleDateTimeUtc();
+    BigDecimal getTradePrice();
+}
@@ -0,0 +1,89 @@
+package com.bitreiver.app_server.domain.price.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * 차트용 컬럼형 일봉 응답.
+ * 캔들마다 필드명을 반복하지 않도록 필드별 병렬 배열로 내려주며, 시간 오름차순으로 정렬됩니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "컬럼형 일봉 응답 (필드별 병렬 배열, 시간 오름차순)")
+public class CoinPriceDayColumnarResponse {
+
+    @Schema(description = "코인 ID", example = "1")
+    private Integer coinId;
+
+    @Schema(description = "마켓 코드", example = "KRW-BTC")
+    private String marketCode;
+
+    @Schema(description = "캔들 개수", example = "2")
+    private int count;
+
+    @Schema(description = "캔들 시작 시각 (UTC epoch millis)", example = "[1751328000000, 1751414400000]")
+    private long[] timestamps;
+
+    @Schema(description = "시가", example = "[146000000.0, 147200000.0]")
+    private double[] openingPrices;
+
+    @Schema(description = "고가", example = "[147500000.0, 148000000.0]")
+    private double[] highPrices;
+
+    @Schema(description = "저가", example = "[145800000.0, 146900000.0]")
+    private double[] lowPrices;
+
+    @Schema(description = "종가", example = "[147200000.0, 147900000.0]")
+    private double[] tradePrices;
+
+    @Schema(description = "누적 거래량", example = "[1523.12, 1398.55]")
+    private double[] volumes;
+
+    /**
+     * 최신순(DESC) 일봉 목록을 시간 오름차순 컬럼형 응답으로 변환
+     */
+    public static CoinPriceDayColumnarResponse fromDescending(Integer coinId, List<CoinPriceDayResponse> candlesDesc) {
+        int size = candlesDesc.size();
+        long[] timestamps = new long[size];
+        double[] openingPrices = new double[size];
+        double[] highPrices = new double[size];
+        double[] lowPrices = new double[size];
+        double[] tradePrices = new double[size];
+        double[] volumes = new double[size];
+
+        for (int i = 0; i < size; i++) {
+            CoinPriceDayResponse candle = candlesDesc.get(size - 1 - i);
+            timestamps[i] = candle.getCandleDateTimeUtc().toInstant(ZoneOffset.UTC).toEpochMilli();
+            openingPrices[i] = toDouble(candle.getOpeningPrice());
+            highPrices[i] = toDouble(candle.getHighPrice());
+            lowPrices[i] = toDouble(candle.getLowPrice());
+            tradePrices[i] = toDouble(candle.getTradePrice());
+            volumes[i] = toDouble(candle.getCandleAccTradeVolume());
+        }
+
+        return CoinPriceDayColumnarResponse.builder()
+            .coinId(coinId)
+            .marketCode(size > 0 ? candlesDesc.get(0).getMarketCode() : null)
+            .count(size)
+            .timestamps(timestamps)
+            .openingPrices(openingPrices)
+            .highPrices(highPrices)
+            .lowPrices(lowPrices)
+            .tradePrices(tradePrices)
+            .volumes(volumes)
+            .build();
+    }
+
+    private static double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : 0d;
+    }
+}
@@ -0,0 +1,19 @@
+package com.bitreiver.app_server.domain.price.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public enum IndicatorType {
+    SMA(List.of("sma")),
+    EMA(List.of("ema")),
+    RSI(List.of("rsi")),
+    MACD(List.of("macd", "signal", "histogram")),
+    BOLLINGER(List.of("middle", "upper", "lower"));
+
+    /** 지표 계산 결과 시리즈 이름 (IndicatorCalculator 결과 배열 순서와 동일) */
+    private final List<String> seriesNames;
+}
@@ -0,0 +1,232 @@
+package com.bitreiver.app_server.domain.price.indicator;
+
+import com.bitreiver.app_server.domain.price.enums.IndicatorType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * 종가 배열(시간 오름차순) 기반 기술적 지표 계산기.
+ * 모든 지표는 primitive double[] 위에서 단일 패스(O(n)) 슬라이딩 윈도우로 계산하며,
+ * 워밍업 구간은 NaN으로 채운다.
+ * 전체 계산 시 마지막 상태값(state)을 함께 반환하여 다음 캔들 1개는 상태만으로 이어서 계산할 수 있다.
+ */
+public final class IndicatorCalculator {
+
+    private IndicatorCalculator() {
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        /** IndicatorType.seriesNames 순서의 결과 시리즈 */
+        private final double[][] series;
+        /** 다음 값 계산에 필요한 마지막 상태값 (EMA 값, 평균 상승/하락폭 등) */
+        private final double[] state;
+    }
+
+    public static Result compute(IndicatorType type, IndicatorParams params, double[] closes) {
+        return switch (type) {
+            case SMA -> new Result(new double[][]{sma(closes, params.getPeriod())}, new double[0]);
+            case EMA -> {
+                double[] ema = ema(closes, 0, params.getPeriod());
+                yield new Result(new double[][]{ema}, new double[]{last(ema)});
+            }
+            case RSI -> rsi(closes, params.getPeriod());
+            case MACD -> macd(closes, params.getFastPeriod(), params.getSlowPeriod(), params.getSignalPeriod());
+            case BOLLINGER -> bollinger(closes, params.getPeriod(), params.getMultiplier());
+        };
+    }
+
+    /**
+     * 전체 계산 결과의 상태값과 최근 종가(tailCloses)만으로 다음 캔들의 지표 값을 계산한다.
+     * tailCloses는 최소 params.lookback(type)개의 최근 종가를 담고 있어야 한다.
+     */
+    public static double[] next(IndicatorType type, IndicatorParams params, double[] state, double[] tailCloses, double close) {
+        return switch (type) {
+            case SMA -> new double[]{windowMean(tailCloses, params.getPeriod(), close)};
+            case EMA -> new double[]{emaStep(state[0], close, params.getPeriod())};
+            case RSI -> {
+                int period = params.getPeriod();
+                double diff = close - state[2];
+                double avgGain = (state[0] * (period - 1) + Math.max(diff, 0)) / period;
+                double avgLoss = (state[1] * (period - 1) + Math.max(-diff, 0)) / period;
+                yield new double[]{rsiValue(avgGain, avgLoss)};
+            }
+            case MACD -> {
+                double fast = emaStep(state[0], close, params.getFastPeriod());
+                double slow = emaStep(state[1], close, params.getSlowPeriod());
+                double macd = fast - slow;
+                double signal = emaStep(state[2], macd, params.getSignalPeriod());
+                yield new double[]{macd, signal, macd - signal};
+            }
+            case BOLLINGER -> {
+                int period = params.getPeriod();
+                double mean = windowMean(tailCloses, period, close);
+                double squares = (close - mean) * (close - mean);
+                for (int i = tailCloses.length - (period - 1); i < tailCloses.length; i++) {
+                    squares += (tailCloses[i] - mean) * (tailCloses[i] - mean);
+                }
+                double band = params.getMultiplier() * Math.sqrt(squares / period);
+                yield new double[]{mean, mean + band, mean - band};
+            }
+        };
+    }
+
+    static double[] sma(double[] values, int period) {
+        int n = values.length;
+        double[] out = nanArray(n);
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += values[i];
+            if (i >= period) {
+                sum -= values[i - period];
+            }
+            if (i >= period - 1) {
+                out[i] = sum / period;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * values[from..] 구간의 EMA. 첫 값은 period개 단순평균으로 시드한다.
+     */
+    static double[] ema(double[] values, int from, int period) {
+        int n = values.length;
+        double[] out = nanArray(n);
+        int seedIndex = from + period - 1;
+        if (from < 0 || seedIndex >= n) {
+            return out;
+        }
+        double sum = 0;
+        for (int i = from; i <= seedIndex; i++) {
+            sum += values[i];
+        }
+        double prev = sum / period;
+        out[seedIndex] = prev;
+        for (int i = seedIndex + 1; i < n; i++) {
+            prev = emaStep(prev, values[i], period);
+            out[i] = prev;
+        }
+        return out;
+    }
+
+    /**
+     * Wilder 방식 RSI. state = [평균 상승폭, 평균 하락폭, 마지막 종가]
+     */
+    static Result rsi(double[] closes, int period) {
+        int n = closes.length;
+        double[] out = nanArray(n);
+        double avgGain = Double.NaN;
+        double avgLoss = Double.NaN;
+        if (n > period) {
+            double gain = 0;
+            double loss = 0;
+            for (int i = 1; i <= period; i++) {
+                double diff = closes[i] - closes[i - 1];
+                if (diff > 0) {
+                    gain += diff;
+                } else {
+                    loss -= diff;
+                }
+            }
+            avgGain = gain / period;
+            avgLoss = loss / period;
+            out[period] = rsiValue(avgGain, avgLoss);
+            for (int i = period + 1; i < n; i++) {
+                double diff = closes[i] - closes[i - 1];
+                avgGain = (avgGain * (period - 1) + Math.max(diff, 0)) / period;
+                avgLoss = (avgLoss * (period - 1) + Math.max(-diff, 0)) / period;
+                out[i] = rsiValue(avgGain, avgLoss);
+            }
+        }
+        return new Result(new double[][]{out}, new double[]{avgGain, avgLoss, last(closes)});
+    }
+
+    /**
+     * MACD. state = [fast EMA, slow EMA, signal EMA]
+     */
+    static Result macd(double[] closes, int fastPeriod, int slowPeriod, int signalPeriod) {
+        int n = closes.length;
+        double[] fast = ema(closes, 0, fastPeriod);
+        double[] slow = ema(closes, 0, slowPeriod);
+        double[] macd = nanArray(n);
+        for (int i = slowPeriod - 1; i < n; i++) {
+            macd[i] = fast[i] - slow[i];
+        }
+        double[] signal = ema(macd, slowPeriod - 1, signalPeriod);
+        double[] histogram = nanArray(n);
+        for (int i = slowPeriod + signalPeriod - 2; i < n; i++) {
+            histogram[i] = macd[i] - signal[i];
+        }
+        return new Result(
+            new double[][]{macd, signal, histogram},
+            new double[]{last(fast), last(slow), last(signal)}
+        );
+    }
+
+    /**
+     * 볼린저 밴드 (모표준편차). 누적 오차를 줄이기 위해 첫 종가를 기준으로 이동한 값으로 합/제곱합을 유지한다.
+     */
+    static Result bollinger(double[] closes, int period, double multiplier) {
+        int n = closes.length;
+        double[] middle = nanArray(n);
+        double[] upper = nanArray(n);
+        double[] lower = nanArray(n);
+        double shift = n > 0 ? closes[0] : 0;
+        double sum = 0;
+        double sumSquares = 0;
+        for (int i = 0; i < n; i++) {
+            double x = closes[i] - shift;
+            sum += x;
+            sumSquares += x * x;
+            if (i >= period) {
+                double y = closes[i - period] - shift;
+                sum -= y;
+                sumSquares -= y * y;
+            }
+            if (i >= period - 1) {
+                double mean = sum / period;
+                double variance = Math.max(sumSquares / period - mean * mean, 0);
+                double band = multiplier * Math.sqrt(variance);
+                middle[i] = mean + shift;
+                upper[i] = middle[i] + band;
+                lower[i] = middle[i] - band;
+            }
+        }
+        return new Result(new double[][]{middle, upper, lower}, new double[0]);
+    }
+
+    private static double emaStep(double prev, double value, int period) {
+        double alpha = 2.0 / (period + 1);
+        return alpha * value + (1 - alpha) * prev;
+    }
+
+    private static double rsiValue(double avgGain, double avgLoss) {
+        if (avgLoss == 0) {
+            return avgGain == 0 ? 50.0 : 100.0;
+        }
+        return 100.0 - 100.0 / (1.0 + avgGain / avgLoss);
+    }
+
+    /** tailCloses의 마지막 (period - 1)개와 close의 평균 */
+    private static double windowMean(double[] tailCloses, int period, double close) {
+        double sum = close;
+        for (int i = tailCloses.length - (period - 1); i < tailCloses.length; i++) {
+            sum += tailCloses[i];
+        }
+        return sum / period;
+    }
+
+    private static double last(double[] values) {
+        return values.length > 0 ? values[values.length - 1] : Double.NaN;
+    }
+
+    private static double[] nanArray(int size) {
+        double[] out = new double[size];
+        Arrays.fill(out, Double.NaN);
+        return out;
+    }
+}
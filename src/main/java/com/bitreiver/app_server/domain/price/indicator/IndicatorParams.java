@@ -0,0 +1,109 @@
+package com.bitreiver.app_server.domain.price.indicator;
+
+import com.bitreiver.app_server.domain.price.enums.IndicatorType;
+import com.bitreiver.app_server.global.common.exception.CustomException;
+import com.bitreiver.app_server.global.common.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 지표 파라미터. 지표별 기본값을 채우고 범위를 검증한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IndicatorParams {
+
+    public static final int MAX_PERIOD = 200;
+    private static final double MAX_MULTIPLIER = 5.0;
+
+    private int period;
+    private int fastPeriod;
+    private int slowPeriod;
+    private int signalPeriod;
+    private double multiplier;
+
+    public static IndicatorParams of(
+        IndicatorType type,
+        Integer period,
+        Integer fastPeriod,
+        Integer slowPeriod,
+        Integer signalPeriod,
+        Double multiplier
+    ) {
+        IndicatorParams params = IndicatorParams.builder()
+            .period(period != null ? period : (type == IndicatorType.RSI ? 14 : 20))
+            .fastPeriod(fastPeriod != null ? fastPeriod : 12)
+            .slowPeriod(slowPeriod != null ? slowPeriod : 26)
+            .signalPeriod(signalPeriod != null ? signalPeriod : 9)
+            .multiplier(multiplier != null ? multiplier : 2.0)
+            .build();
+        params.validate(type);
+        return params;
+    }
+
+    /**
+     * 상태값만으로 다음 값을 계산할 수 있으려면 필요한 최소 캔들 수
+     */
+    public int lookback(IndicatorType type) {
+        return switch (type) {
+            case SMA, EMA, BOLLINGER -> period;
+            case RSI -> period + 1;
+            case MACD -> slowPeriod + signalPeriod - 1;
+        };
+    }
+
+    public String cacheKey(IndicatorType type) {
+        return switch (type) {
+            case SMA, EMA, RSI -> type.name() + ":" + period;
+            case MACD -> type.name() + ":" + fastPeriod + ":" + slowPeriod + ":" + signalPeriod;
+            case BOLLINGER -> type.name() + ":" + period + ":" + multiplier;
+        };
+    }
+
+    public Map<String, Number> toMap(IndicatorType type) {
+        Map<String, Number> map = new LinkedHashMap<>();
+        switch (type) {
+            case SMA, EMA, RSI -> map.put("period", period);
+            case MACD -> {
+                map.put("fastPeriod", fastPeriod);
+                map.put("slowPeriod", slowPeriod);
+                map.put("signalPeriod", signalPeriod);
+            }
+            case BOLLINGER -> {
+                map.put("period", period);
+                map.put("multiplier", multiplier);
+            }
+        }
+        return map;
+    }
+
+    private void validate(IndicatorType type) {
+        switch (type) {
+            case SMA, EMA, RSI, BOLLINGER -> requirePeriod("period", period);
+            case MACD -> {
+                requirePeriod("fastPeriod", fastPeriod);
+                requirePeriod("slowPeriod", slowPeriod);
+                requirePeriod("signalPeriod", signalPeriod);
+                if (fastPeriod >= slowPeriod) {
+                    throw new CustomException(ErrorCode.BAD_REQUEST, "fastPeriod는 slowPeriod보다 작아야 합니다.");
+                }
+            }
+        }
+        if (type == IndicatorType.BOLLINGER && (multiplier <= 0 || multiplier > MAX_MULTIPLIER)) {
+            throw new CustomException(ErrorCode.BAD_REQUEST, "multiplier는 0 초과 5 이하여야 합니다.");
+        }
+    }
+
+    private void requirePeriod(String name, int value) {
+        if (value < 2 || value > MAX_PERIOD) {
+            throw new CustomException(ErrorCode.BAD_REQUEST, name + "는 2 이상 " + MAX_PERIOD + " 이하여야 합니다.");
+        }
+    }
+}
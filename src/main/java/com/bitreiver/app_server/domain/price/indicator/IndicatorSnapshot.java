@@ -0,0 +1,36 @@
+package com.bitreiver.app_server.domain.price.indicator;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 확정 봉(어제까지)에 대한 지표 계산 결과 (Redis 저장용).
+ * 당일 봉은 state와 tailCloses로 마지막 1개 값만 이어서 계산한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IndicatorSnapshot {
+
+    public static final String REDIS_KEY_PREFIX = "indicator:day:";
+
+    /** 스냅샷을 계산한 기준일 (UTC). 이 날짜 이전 봉만 포함한다. */
+    private LocalDate builtFor;
+    private LocalDateTime lastCandleDateTimeUtc;
+    private int historySize;
+    private long[] timestamps;
+    private double[][] series;
+    private double[] state;
+    /** 최근 종가 (lookback개, 이력이 부족하면 전체) */
+    private double[] tailCloses;
+
+    public static String redisKey(Integer coinId, String paramsKey) {
+        return REDIS_KEY_PREFIX + coinId + ":" + paramsKey;
+    }
+}
@@ -1,11 +1,13 @@
 package com.bitreiver.app_server.domain.price.repository;
 
+import com.bitreiver.app_server.domain.price.dto.CoinPriceDayCloseView;
 import com.bitreiver.app_server.domain.price.entity.CoinPriceDay;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 import java.time.LocalDateTime;
@@ -23,4 +25,30 @@ public interface CoinPriceDayRepository extends JpaRepository<CoinPriceDay, Inte
         @Param("startDate") LocalDateTime startDate,
         @Param("endDate") LocalDateTime endDate
     );
-}
\ No newline at end of file
+
+    // 기간 일봉의 데이터 버전 [개수, 마지막 봉 시각, 마지막 수정 시각] - (coin_id, candle_date_time_utc) 인덱스 범위 집계
+    @Query("SELECT COUNT(c), MAX(c.candleDateTimeUtc), MAX(COALESCE(c.updatedAt, c.createdAt)) FROM CoinPriceDay c " +
+        "WHERE c.coinId = :coinId AND c.candleDateTimeUtc >= :startDate AND c.candleDateTimeUtc < :endDate")
+    List<Object[]> findVersionByCoinIdAndUtcDateRange(
+        @Param("coinId") Integer coinId,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate
+    );
+
+    @Query("SELECT c FROM CoinPriceDay c WHERE c.coinId IN :coinIds " +
+        "AND c.candleDateTimeUtc >= :startDate AND c.candleDateTimeUtc < :endDate " +
+        "ORDER BY c.coinId ASC, c.candleDateTimeUtc DESC")
+    List<CoinPriceDay> findByCoinIdInAndUtcDateRange(
+        @Param("coinIds") Collection<Integer> coinIds,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate
+    );
+
+    @Query("SELECT c.candleDateTimeUtc AS candleDateTimeUtc, c.tradePrice AS tradePrice FROM CoinPriceDay c " +
+        "WHERE c.coinId = :coinId AND c.candleDateTimeUtc < :before " +
+        "ORDER BY c.candleDateTimeUtc ASC")
+    List<CoinPriceDayCloseView> findClosesByCoinIdBefore(
+        @Param("coinId") Integer coinId,
+        @Param("before") LocalDateTime before
+    );
+}
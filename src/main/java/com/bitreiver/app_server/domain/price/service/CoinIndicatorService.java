@@ -0,0 +1,9 @@
+package com.bitreiver.app_server.domain.price.service;
+
+import com.bitreiver.app_server.domain.price.dto.CoinIndicatorResponse;
+import com.bitreiver.app_server.domain.price.enums.IndicatorType;
+import com.bitreiver.app_server.domain.price.indicator.IndicatorParams;
+
+public interface CoinIndicatorService {
+    CoinIndicatorResponse getIndicator(Integer coinId, IndicatorType type, IndicatorParams params);
+}
@@ -0,0 +1,132 @@
+package com.bitreiver.app_server.domain.price.service;
+
+import com.bitreiver.app_server.domain.price.dto.CoinIndicatorResponse;
+import com.bitreiver.app_server.domain.price.dto.CoinPriceDayCloseView;
+import com.bitreiver.app_server.domain.price.dto.CoinPriceDayTodayDto;
+import com.bitreiver.app_server.domain.price.enums.IndicatorType;
+import com.bitreiver.app_server.domain.price.indicator.IndicatorCalculator;
+import com.bitreiver.app_server.domain.price.indicator.IndicatorParams;
+import com.bitreiver.app_server.domain.price.indicator.IndicatorSnapshot;
+import com.bitreiver.app_server.domain.price.repository.CoinPriceDayRepository;
+import com.bitreiver.app_server.global.cache.RedisCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 일봉 기반 기술적 지표 서비스.
+ * 어제까지의 확정 봉으로 계산한 결과를 (코인, 지표, 파라미터) 단위로 Redis에 캐싱하고,
+ * 요청 시에는 Redis 당일 봉으로 마지막 1개 값만 이어서 계산한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CoinIndicatorServiceImpl implements CoinIndicatorService {
+
+    private final CoinPriceDayRepository coinPriceDayRepository;
+    private final CoinPriceDayService coinPriceDayService;
+    private final RedisCacheService redisCacheService;
+
+    private static final long SNAPSHOT_TTL_SECONDS = 48 * 3600L;
+    /** 어제 봉이 아직 적재되지 않은 경우 짧게 캐싱하여 적재 후 다시 계산되도록 함 */
+    private static final long INCOMPLETE_SNAPSHOT_TTL_SECONDS = 600L;
+
+    @Override
+    public CoinIndicatorResponse getIndicator(Integer coinId, IndicatorType type, IndicatorParams params) {
+        LocalDate todayUtc = LocalDate.now(ZoneOffset.UTC);
+        IndicatorSnapshot snapshot = getOrBuildSnapshot(coinId, type, params, todayUtc);
+
+        Optional<CoinPriceDayTodayDto> today = coinPriceDayService.getTodayCandle(coinId)
+            .filter(dto -> dto.getTradePrice() != null && dto.getCandleDateTimeUtc() != null)
+            .filter(dto -> snapshot.getLastCandleDateTimeUtc() == null
+                || dto.getCandleDateTimeUtc().isAfter(snapshot.getLastCandleDateTimeUtc()));
+
+        if (today.isEmpty()) {
+            return CoinIndicatorResponse.of(coinId, type, params.toMap(type), snapshot.getTimestamps(), snapshot.getSeries());
+        }
+
+        CoinPriceDayTodayDto todayCandle = today.get();
+        double close = todayCandle.getTradePrice().doubleValue();
+        double[] tailValues = computeTail(type, params, snapshot, close);
+
+        int size = snapshot.getTimestamps().length;
+        long[] timestamps = Arrays.copyOf(snapshot.getTimestamps(), size + 1);
+        timestamps[size] = toEpochMilli(todayCandle.getCandleDateTimeUtc());
+        double[][] series = new double[tailValues.length][];
+        for (int s = 0; s < tailValues.length; s++) {
+            series[s] = Arrays.copyOf(snapshot.getSeries()[s], size + 1);
+            series[s][size] = tailValues[s];
+        }
+        return CoinIndicatorResponse.of(coinId, type, params.toMap(type), timestamps, series);
+    }
+
+    private IndicatorSnapshot getOrBuildSnapshot(Integer coinId, IndicatorType type, IndicatorParams params, LocalDate todayUtc) {
+        String redisKey = IndicatorSnapshot.redisKey(coinId, params.cacheKey(type));
+        Optional<IndicatorSnapshot> cached = redisCacheService.get(redisKey, IndicatorSnapshot.class)
+            .filter(snapshot -> todayUtc.equals(snapshot.getBuiltFor()));
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        // 종가가 없는 봉은 지표 계산에서 제외 (NaN이 이후 값 전체로 전파되지 않도록)
+        List<CoinPriceDayCloseView> history = coinPriceDayRepository.findClosesByCoinIdBefore(coinId, todayUtc.atStartOfDay())
+            .stream()
+            .filter(view -> view.getTradePrice() != null && view.getCandleDateTimeUtc() != null)
+            .toList();
+        int size = history.size();
+        long[] timestamps = new long[size];
+        double[] closes = new double[size];
+        for (int i = 0; i < size; i++) {
+            timestamps[i] = toEpochMilli(history.get(i).getCandleDateTimeUtc());
+            closes[i] = history.get(i).getTradePrice().doubleValue();
+        }
+
+        IndicatorCalculator.Result result = IndicatorCalculator.compute(type, params, closes);
+        int tailSize = Math.min(size, params.lookback(type));
+        LocalDateTime lastCandle = size > 0 ? history.get(size - 1).getCandleDateTimeUtc() : null;
+
+        IndicatorSnapshot snapshot = IndicatorSnapshot.builder()
+            .builtFor(todayUtc)
+            .lastCandleDateTimeUtc(lastCandle)
+            .historySize(size)
+            .timestamps(timestamps)
+            .series(result.getSeries())
+            .state(result.getState())
+            .tailCloses(Arrays.copyOfRange(closes, size - tailSize, size))
+            .build();
+
+        boolean complete = lastCandle != null && !lastCandle.toLocalDate().isBefore(todayUtc.minusDays(1));
+        redisCacheService.set(redisKey, snapshot, complete ? SNAPSHOT_TTL_SECONDS : INCOMPLETE_SNAPSHOT_TTL_SECONDS);
+        return snapshot;
+    }
+
+    /**
+     * 당일 봉 1개의 지표 값. 이력이 lookback 이상이면 상태값으로 O(1)~O(period) 계산하고,
+     * 부족하면 (보관 중인 전체 종가 + 당일 종가)로 다시 계산한다.
+     */
+    private double[] computeTail(IndicatorType type, IndicatorParams params, IndicatorSnapshot snapshot, double close) {
+        if (snapshot.getHistorySize() >= params.lookback(type)) {
+            return IndicatorCalculator.next(type, params, snapshot.getState(), snapshot.getTailCloses(), close);
+        }
+        double[] tail = snapshot.getTailCloses();
+        double[] closes = Arrays.copyOf(tail, tail.length + 1);
+        closes[tail.length] = close;
+        double[][] series = IndicatorCalculator.compute(type, params, closes).getSeries();
+        double[] values = new double[series.length];
+        for (int s = 0; s < series.length; s++) {
+            values[s] = series[s][tail.length];
+        }
+        return values;
+    }
+
+    private long toEpochMilli(LocalDateTime dateTimeUtc) {
+        return dateTimeUtc.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -1,12 +1,22 @@
 package com.bitreiver.app_server.domain.price.service;
 
+import com.bitreiver.app_server.domain.price.dto.CoinPriceDayBatchRangeRequest;
+import com.bitreiver.app_server.domain.price.dto.CoinPriceDayColumnarResponse;
 import com.bitreiver.app_server.domain.price.dto.CoinPriceDayResponse;
 import com.bitreiver.app_server.domain.price.dto.CoinPriceDayRangeRequest;
+import com.bitreiver.app_server.domain.price.dto.CoinPriceDayTodayDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface CoinPriceDayService {
     CoinPriceDayResponse getCoinPriceDayById(Integer id);
     List<CoinPriceDayResponse> getCoinPriceDayAllById(Integer id);
     List<CoinPriceDayResponse> getCoinPriceDayRangeById(CoinPriceDayRangeRequest request);
+    Map<Integer, List<CoinPriceDayResponse>> getCoinPriceDayRangeByIds(CoinPriceDayBatchRangeRequest request);
+    CoinPriceDayColumnarResponse getCoinPriceDayRangeColumnar(Integer coinId, LocalDateTime startDate, LocalDateTime endDate);
+    Optional<CoinPriceDayTodayDto> getTodayCandle(Integer coinId);
+    String getCoinPriceDayRangeETag(Integer coinId, LocalDateTime startDate, LocalDateTime endDate);
 }
@@ -1,6 +1,9 @@
 package com.bitreiver.app_server.domain.price.service;
 
+import com.bitreiver.app_server.domain.coin.entity.Coin;
 import com.bitreiver.app_server.domain.coin.repository.CoinRepository;
+import com.bitreiver.app_server.domain.price.dto.CoinPriceDayBatchRangeRequest;
+import com.bitreiver.app_server.domain.price.dto.CoinPriceDayColumnarResponse;
 import com.bitreiver.app_server.domain.price.dto.CoinPriceDayRangeRequest;
 import com.bitreiver.app_server.domain.price.dto.CoinPriceDayResponse;
 import com.bitreiver.app_server.domain.price.dto.CoinPriceDayTodayDto;
@@ -9,15 +12,20 @@ import com.bitreiver.app_server.domain.price.repository.CoinPriceDayRepository;
 import com.bitreiver.app_server.global.cache.RedisCacheService;
 import com.bitreiver.app_server.global.common.exception.CustomException;
 import com.bitreiver.app_server.global.common.exception.ErrorCode;
+import com.bitreiver.app_server.global.util.ETagUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @Slf4j
@@ -28,6 +36,8 @@ public class CoinPriceDayServiceImpl implements CoinPriceDayService {
     private final CoinRepository coinRepository;
     private final RedisCacheService redisCacheService;
 
+    private final Map<Integer, String> todayRedisKeyByCoinId = new ConcurrentHashMap<>();
+
     @Override
     public CoinPriceDayResponse getCoinPriceDayById(Integer coinId) {
         CoinPriceDay coinPriceDay = coinPriceDayRepository.findById(coinId)
@@ -45,24 +55,140 @@ public class CoinPriceDayServiceImpl implements CoinPriceDayService {
 
     @Override
     public List<CoinPriceDayResponse> getCoinPriceDayRangeById(CoinPriceDayRangeRequest request) {
-        List<CoinPriceDay> coinPriceDays = coinPriceDayRepository.findByCoinIdAndUtcDateRange(
-            request.getCoinId(),
+        return findRangeWithToday(request.getCoinId(), request.getStartDate(), request.getEndDate());
+    }
+
+    /**
+     * 다중 코인 기간 일봉 조회. 히스토리는 IN 쿼리 1회, 당일 봉은 MGET 1회로 가져온다.
+     */
+    @Override
+    public Map<Integer, List<CoinPriceDayResponse>> getCoinPriceDayRangeByIds(CoinPriceDayBatchRangeRequest request) {
+        validateRange(request.getStartDate(), request.getEndDate());
+        List<Integer> coinIds = request.getCoinIds().stream().distinct().toList();
+
+        Map<Integer, List<CoinPriceDayResponse>> result = new LinkedHashMap<>();
+        coinIds.forEach(coinId -> result.put(coinId, new ArrayList<>()));
+
+        List<CoinPriceDay> coinPriceDays = coinPriceDayRepository.findByCoinIdInAndUtcDateRange(
+            coinIds,
             request.getStartDate(),
             request.getEndDate()
         );
+        for (CoinPriceDay coinPriceDay : coinPriceDays) {
+            result.get(coinPriceDay.getCoinId()).add(CoinPriceDayResponse.from(coinPriceDay));
+        }
+
+        if (includesToday(request.getEndDate(), LocalDate.now(ZoneOffset.UTC))) {
+            Map<Integer, String> todayKeys = resolveTodayRedisKeys(coinIds);
+            Map<String, CoinPriceDayTodayDto> todayCandles = redisCacheService.multiGet(
+                new ArrayList<>(todayKeys.values()),
+                CoinPriceDayTodayDto.class
+            );
+            todayKeys.forEach((coinId, redisKey) -> {
+                CoinPriceDayTodayDto today = todayCandles.get(redisKey);
+                if (today != null) {
+                    result.get(coinId).add(0, CoinPriceDayResponse.fromTodayDto(today));
+                }
+            });
+        }
+        return result;
+    }
+
+    @Override
+    public CoinPriceDayColumnarResponse getCoinPriceDayRangeColumnar(Integer coinId, LocalDateTime startDate, LocalDateTime endDate) {
+        validateRange(startDate, endDate);
+        return CoinPriceDayColumnarResponse.fromDescending(coinId, findRangeWithToday(coinId, startDate, endDate));
+    }
+
+    /**
+     * 기간 일봉의 ETag. 저장된 봉의 개수/마지막 봉 시각/마지막 수정 시각(집계 쿼리 1회)과 Redis 당일 봉 버전으로 계산한다.
+     * 뒤늦게 들어오거나 보정된 과거 봉도 개수나 수정 시각이 바뀌므로 ETag에 반영된다.
+     */
+    @Override
+    public String getCoinPriceDayRangeETag(Integer coinId, LocalDateTime startDate, LocalDateTime endDate) {
+        validateRange(startDate, endDate);
+        Object[] storedVersion = coinPriceDayRepository.findVersionByCoinIdAndUtcDateRange(coinId, startDate, endDate).get(0);
+
+        String todayVersion = null;
+        if (includesToday(endDate, LocalDate.now(ZoneOffset.UTC))) {
+            todayVersion = getTodayCandle(coinId)
+                .map(this::todayCandleVersion)
+                .orElse(null);
+        }
+        return ETagUtil.strong("coin-price-day", coinId, startDate, endDate,
+            storedVersion[0], storedVersion[1], storedVersion[2], todayVersion);
+    }
+
+    private List<CoinPriceDayResponse> findRangeWithToday(Integer coinId, LocalDateTime startDate, LocalDateTime endDate) {
+        List<CoinPriceDay> coinPriceDays = coinPriceDayRepository.findByCoinIdAndUtcDateRange(coinId, startDate, endDate);
         List<CoinPriceDayResponse> result = new ArrayList<>(coinPriceDays.stream()
             .map(CoinPriceDayResponse::from)
             .toList());
 
-        LocalDate todayUtc = LocalDate.now(ZoneOffset.UTC);
-        if (!request.getEndDate().toLocalDate().isBefore(todayUtc)) {
-            Optional<CoinPriceDayTodayDto> todayOpt = coinRepository.findById(request.getCoinId())
-                .flatMap(coin -> redisCacheService.get(
-                    CoinPriceDayTodayDto.redisKey(coin.getExchange(), coin.getMarketCode()),
-                    CoinPriceDayTodayDto.class
-                ));
-            todayOpt.map(CoinPriceDayResponse::fromTodayDto).ifPresent(dto -> result.add(0, dto));
+        if (includesToday(endDate, LocalDate.now(ZoneOffset.UTC))) {
+            getTodayCandle(coinId)
+                .map(CoinPriceDayResponse::fromTodayDto)
+                .ifPresent(dto -> result.add(0, dto));
         }
         return result;
     }
-}   
+
+    private boolean includesToday(LocalDateTime endDate, LocalDate todayUtc) {
+        return !endDate.toLocalDate().isBefore(todayUtc);
+    }
+
+    @Override
+    public Optional<CoinPriceDayTodayDto> getTodayCandle(Integer coinId) {
+        return resolveTodayRedisKey(coinId)
+            .flatMap(redisKey -> redisCacheService.get(redisKey, CoinPriceDayTodayDto.class));
+    }
+
+    /**
+     * 코인의 거래소/마켓 코드는 변하지 않으므로 당일 봉 Redis 키를 노드 내에 기억해 코인 조회를 생략한다.
+     */
+    private Optional<String> resolveTodayRedisKey(Integer coinId) {
+        String cached = todayRedisKeyByCoinId.get(coinId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<String> redisKey = coinRepository.findById(coinId)
+            .map(coin -> CoinPriceDayTodayDto.redisKey(coin.getExchange(), coin.getMarketCode()));
+        redisKey.ifPresent(key -> todayRedisKeyByCoinId.put(coinId, key));
+        return redisKey;
+    }
+
+    private Map<Integer, String> resolveTodayRedisKeys(List<Integer> coinIds) {
+        Map<Integer, String> redisKeys = new LinkedHashMap<>();
+        List<Integer> unresolved = new ArrayList<>();
+        for (Integer coinId : coinIds) {
+            String cached = todayRedisKeyByCoinId.get(coinId);
+            if (cached != null) {
+                redisKeys.put(coinId, cached);
+            } else {
+                unresolved.add(coinId);
+            }
+        }
+        if (!unresolved.isEmpty()) {
+            for (Coin coin : coinRepository.findAllById(unresolved)) {
+                String redisKey = CoinPriceDayTodayDto.redisKey(coin.getExchange(), coin.getMarketCode());
+                todayRedisKeyByCoinId.put(coin.getId(), redisKey);
+                redisKeys.put(coin.getId(), redisKey);
+            }
+        }
+        return redisKeys;
+    }
+
+    private String todayCandleVersion(CoinPriceDayTodayDto today) {
+        return today.getCandleDateTimeUtc() + ":" + today.getTradePrice() + ":" + today.getHighPrice()
+            + ":" + today.getLowPrice() + ":" + today.getCandleAccTradeVolume();
+    }
+
+    private void validateRange(LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate == null || endDate == null) {
+            throw new CustomException(ErrorCode.BAD_REQUEST, "startDate/endDate 값은 필수입니다.");
+        }
+        if (!startDate.isBefore(endDate)) {
+            throw new CustomException(ErrorCode.INVALID_DATE_RANGE);
+        }
+    }
+}
@@ -5,32 +5,61 @@ import com.bitreiver.app_server.domain.coin.repository.CoinRepository;
 import com.bitreiver.app_server.domain.price.dto.CoinPriceDayTodayDto;
 import com.bitreiver.app_server.domain.price.dto.CoinTickerPriceDto;
 import com.bitreiver.app_server.domain.price.event.TickerPricesUpdatedEvent;
-import com.bitreiver.app_server.global.cache.RedisCacheService;
+import com.bitreiver.app_server.global.cache.ReactiveRedisCacheService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * Redis에 저장된 당일 일봉을 ticker 데이터로 high/low/trade_price 갱신.
  * ticker 수집이 완료될 때마다(TickerPricesUpdatedEvent) 실행된다.
+ * 병합(MGET -> 병합 -> SET)은 단일 큐에서 순서대로 하나씩 실행하여,
+ * 연속된 ticker 갱신의 병합이 겹쳐 이전 병합 결과가 새 결과를 덮어쓰지 않도록 한다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CoinPriceDayTodayMergeService {
 
-    private final RedisCacheService redisCacheService;
+    private final ReactiveRedisCacheService reactiveRedisCacheService;
     private final CoinPriceTickerService coinPriceTickerService;
     private final CoinRepository coinRepository;
 
+    /** 병합 요청 큐 (redis key -> ticker). concatMap으로 이전 병합의 SET이 끝난 뒤 다음 병합의 MGET을 시작 */
+    private final Sinks.Many<Map<String, CoinTickerPriceDto>> mergeRequests = Sinks.many().unicast().onBackpressureBuffer();
+    private Disposable mergeSubscription;
+
+    @PostConstruct
+    void init() {
+        mergeSubscription = mergeRequests.asFlux()
+            .concatMap(this::mergeInRedis)
+            .subscribe(updated -> {
+                if (updated > 0 && log.isTraceEnabled()) {
+                    log.trace("당일 봉 ticker 병합 완료: {}건", updated);
+                }
+            });
+    }
+
+    @PreDestroy
+    void destroy() {
+        if (mergeSubscription != null) {
+            mergeSubscription.dispose();
+        }
+    }
+
     /**
      * Ticker 수집 완료 시에만 당일 일봉 Redis를 ticker와 병합: high=max, low=min, trade_price는 변경 시에만 갱신.
      */
@@ -40,6 +69,10 @@ public class CoinPriceDayTodayMergeService {
         mergeTodayCandlesWithTicker();
     }
 
+    /**
+     * 대상 코인 조회(DB)만 호출 스레드에서 수행하고, Redis 조회/저장은 MGET 1회 + 파이프라인 SET으로 논블로킹 처리한다.
+     * Redis 작업은 병합 큐에 넣어 이전 병합이 끝난 뒤 실행된다.
+     */
     public void mergeTodayCandlesWithTicker() {
         List<Coin> upbitCoins = coinRepository.findByExchangeAndIsActive("UPBIT", true);
         List<Coin> coinoneCoins = coinRepository.findByExchangeAndIsActive("COINONE", true);
@@ -52,34 +85,58 @@ public class CoinPriceDayTodayMergeService {
                 tickerByMarket.put(dto.getMarket(), dto);
             }
         }
-        int updated = 0;
+        // redis key -> ticker (ticker가 있는 코인만 병합 대상)
+        Map<String, CoinTickerPriceDto> tickerByRedisKey = new HashMap<>();
         for (Coin coin : upbitCoins) {
-            if (coin.getMarketCode() == null) continue;
-            if (mergeOne(coin.getExchange(), coin.getMarketCode(), tickerByMarket.get(coin.getMarketCode()))) {
-                updated++;
-            }
+            collectTarget(coin, tickerByMarket, tickerByRedisKey);
         }
         for (Coin coin : coinoneCoins) {
-            if (coin.getMarketCode() == null) continue;
-            if (mergeOne(coin.getExchange(), coin.getMarketCode(), tickerByMarket.get(coin.getMarketCode()))) {
-                updated++;
+            collectTarget(coin, tickerByMarket, tickerByRedisKey);
+        }
+        if (tickerByRedisKey.isEmpty()) {
+            return;
+        }
+
+        // 여러 executor 스레드에서 동시에 emit할 수 없으므로 emit만 직렬화
+        synchronized (mergeRequests) {
+            Sinks.EmitResult result = mergeRequests.tryEmitNext(tickerByRedisKey);
+            if (result.isFailure()) {
+                log.warn("당일 봉 ticker 병합 요청 실패: {}", result);
             }
         }
-        if (updated > 0 && log.isTraceEnabled()) {
-            log.trace("당일 봉 ticker 병합 완료: {}건", updated);
+    }
+
+    private Mono<Long> mergeInRedis(Map<String, CoinTickerPriceDto> tickerByRedisKey) {
+        return reactiveRedisCacheService.multiGet(new ArrayList<>(tickerByRedisKey.keySet()), CoinPriceDayTodayDto.class)
+            .map(todayByKey -> {
+                Map<String, CoinPriceDayTodayDto> updates = new HashMap<>();
+                todayByKey.forEach((redisKey, today) ->
+                    updates.put(redisKey, merge(today, tickerByRedisKey.get(redisKey))));
+                return updates;
+            })
+            .flatMap(updates -> reactiveRedisCacheService.setAll(updates, CoinPriceDayTodayDto.REDIS_TTL_SECONDS))
+            .onErrorResume(error -> {
+                // 큐 구독이 끊기지 않도록 실패한 병합만 건너뜀 (다음 ticker 갱신 시 다시 병합)
+                log.warn("당일 봉 ticker 병합 실패: {}", error.getMessage());
+                return Mono.empty();
+            });
+    }
+
+    private void collectTarget(Coin coin, Map<String, CoinTickerPriceDto> tickerByMarket,
+                               Map<String, CoinTickerPriceDto> tickerByRedisKey) {
+        if (coin.getMarketCode() == null) {
+            return;
+        }
+        CoinTickerPriceDto ticker = tickerByMarket.get(coin.getMarketCode());
+        if (ticker != null) {
+            tickerByRedisKey.put(CoinPriceDayTodayDto.redisKey(coin.getExchange(), coin.getMarketCode()), ticker);
         }
     }
 
     /**
-     * @return Redis에 당일 봉이 있고 ticker로 갱신했으면 true
+     * high=max, low=min, trade_price는 변경 시에만 ticker 값으로 갱신한 당일 봉
      */
-    private boolean mergeOne(String exchange, String marketCode, CoinTickerPriceDto ticker) {
-        String redisKey = CoinPriceDayTodayDto.redisKey(exchange, marketCode);
-        Optional<CoinPriceDayTodayDto> opt = redisCacheService.get(redisKey, CoinPriceDayTodayDto.class);
-        if (opt.isEmpty() || ticker == null) {
-            return false;
-        }
-        CoinPriceDayTodayDto today = opt.get();
+    private CoinPriceDayTodayDto merge(CoinPriceDayTodayDto today, CoinTickerPriceDto ticker) {
         BigDecimal newHigh = today.getHighPrice();
         BigDecimal newLow = today.getLowPrice();
         BigDecimal newTrade = today.getTradePrice();
@@ -96,7 +153,7 @@ public class CoinPriceDayTodayMergeService {
         if (ticker.getTradePrice() != null && !ticker.getTradePrice().equals(today.getTradePrice())) {
             newTrade = ticker.getTradePrice();
         }
-        CoinPriceDayTodayDto updated = CoinPriceDayTodayDto.builder()
+        return CoinPriceDayTodayDto.builder()
             .coinId(today.getCoinId())
             .exchange(today.getExchange())
             .marketCode(today.getMarketCode())
@@ -114,7 +171,5 @@ public class CoinPriceDayTodayMergeService {
             .changeRate(today.getChangeRate())
             .convertedTradePrice(today.getConvertedTradePrice())
             .build();
-        redisCacheService.set(redisKey, updated, CoinPriceDayTodayDto.REDIS_TTL_SECONDS);
-        return true;
     }
 }
@@ -1,6 +1,8 @@
 package com.bitreiver.app_server.domain.sync.controller;
 
+import com.bitreiver.app_server.domain.coin.service.CoinService;
 import com.bitreiver.app_server.domain.diary.service.DiaryService;
+import com.bitreiver.app_server.domain.economicEvent.service.EconomicEventService;
 import com.bitreiver.app_server.domain.notification.enums.NotificationType;
 import com.bitreiver.app_server.domain.notification.service.NotificationService;
 import com.bitreiver.app_server.global.common.response.ApiResponse;
@@ -9,6 +11,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -26,6 +29,8 @@ public class SyncCallbackController {
     
     private final NotificationService notificationService;
     private final DiaryService diaryService;
+    private final CoinService coinService;
+    private final EconomicEventService economicEventService;
     
     @Operation(summary = "동기화 완료 콜백", description = "fetch-server에서 동기화 완료 시 호출하는 콜백 API")
     @PostMapping("/sync-complete")
@@ -58,6 +63,35 @@ public class SyncCallbackController {
         }
     }
     
+    @Operation(summary = "캐시 무효화 콜백", description = "fetch-server에서 코인 목록/경제 지표 이벤트 갱신 후 호출하는 캐시 무효화 콜백 API")
+    @PostMapping("/cache-invalidate")
+    public ResponseEntity<ApiResponse<Object>> onCacheInvalidate(@RequestBody Map<String, Object> callbackData) {
+        String cacheType = (String) callbackData.get("cache_type");
+        
+        boolean invalidated;
+        if ("COIN".equals(cacheType)) {
+            invalidated = coinService.invalidateCoinCache();
+        } else if ("ECONOMIC_EVENT".equals(cacheType)) {
+            invalidated = economicEventService.invalidateUpcomingEventCache();
+        } else {
+            log.warn("알 수 없는 캐시 무효화 요청: cacheType={}", cacheType);
+            return ResponseEntity.ok(ApiResponse.success(
+                Map.of("received", true, "invalidated", false),
+                "알 수 없는 캐시 타입"));
+        }
+        
+        if (!invalidated) {
+            // Redis 오류로 세대를 올리지 못함 - fetch-server가 재시도하도록 503
+            log.warn("캐시 무효화 실패: cacheType={}", cacheType);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ApiResponse.error(
+                "CACHE_INVALIDATE_FAILED",
+                "캐시 무효화에 실패했습니다. 다시 시도해주세요."));
+        }
+        return ResponseEntity.ok(ApiResponse.success(
+            Map.of("received", true, "invalidated", true),
+            "캐시 무효화 완료"));
+    }
+    
     private void handleAssetSyncCallback(UUID userId, Map<String, Object> callbackData, 
                                           Boolean success, String message) {
         try {
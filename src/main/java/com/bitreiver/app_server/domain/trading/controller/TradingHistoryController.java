@@ -3,6 +3,7 @@ package com.bitreiver.app_server.domain.trading.controller;
 import com.bitreiver.app_server.domain.trading.dto.TradingHistoryDateRangeRequest;
 import com.bitreiver.app_server.domain.trading.dto.TradingHistoryResponse;
 import com.bitreiver.app_server.domain.trading.service.TradingHistoryService;
+import com.bitreiver.app_server.global.common.dto.CursorResponse;
 import com.bitreiver.app_server.global.common.dto.PageResponse;
 import com.bitreiver.app_server.global.common.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -48,6 +49,31 @@ public class TradingHistoryController {
         return ApiResponse.success(response);
     }
     
+    @Operation(summary = "매매 내역 커서 조회", description = "현재 로그인한 사용자의 매매 내역을 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청에 전달합니다.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    @SecurityRequirement(name = "JWT")
+    @GetMapping("/cursor")
+    public ApiResponse<CursorResponse<TradingHistoryResponse>> getUserTradingHistoriesByCursor(
+        Authentication authentication,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+        @RequestParam(defaultValue = "20") int size,
+        @Parameter(description = "전체 개수 포함 여부")
+        @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        UUID userId = UUID.fromString(authentication.getName());
+        CursorResponse<TradingHistoryResponse> response = tradingHistoryService.getUserTradingHistoriesByCursor(
+            userId, cursor, size, includeTotal
+        );
+        
+        return ApiResponse.success(response);
+    }
+    
     @Operation(summary = "기간별 매매 내역 조회", description = "현재 로그인한 사용자의 매매 내역을 시작일과 종료일 기준으로 조회합니다.")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
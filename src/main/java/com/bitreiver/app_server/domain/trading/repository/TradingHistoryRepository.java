@@ -17,6 +17,17 @@ import java.util.UUID;
 public interface TradingHistoryRepository extends JpaRepository<TradingHistory, Integer> {
     Page<TradingHistory> findByUserIdOrderByTradeTimeDesc(UUID userId, Pageable pageable);
     
+    // 커서 기반 매매 내역 조회 (trade_time, id) 역순 - idx_user_trade_time 사용, count 없음
+    @Query(value = "SELECT * FROM trading_histories t WHERE t.user_id = :userId " +
+           "AND (t.trade_time, t.id) < (:tradeTime, :id) " +
+           "ORDER BY t.trade_time DESC, t.id DESC LIMIT :limit", nativeQuery = true)
+    List<TradingHistory> findPageBefore(
+        @Param("userId") UUID userId,
+        @Param("tradeTime") LocalDateTime tradeTime,
+        @Param("id") long id,
+        @Param("limit") int limit
+    );
+    
     @Query("SELECT t FROM TradingHistory t WHERE t.userId = :userId " +
            "AND t.tradeTime >= :startDate AND t.tradeTime < :endDate " +
            "ORDER BY t.tradeTime DESC")
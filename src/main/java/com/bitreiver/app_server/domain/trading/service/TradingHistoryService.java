@@ -1,6 +1,7 @@
 package com.bitreiver.app_server.domain.trading.service;
 
 import com.bitreiver.app_server.domain.trading.dto.TradingHistoryResponse;
+import com.bitreiver.app_server.global.common.dto.CursorResponse;
 import com.bitreiver.app_server.global.common.dto.PageResponse;
 
 import java.time.LocalDateTime;
@@ -10,6 +11,8 @@ import java.util.UUID;
 public interface TradingHistoryService {
     PageResponse<TradingHistoryResponse> getUserTradingHistories(UUID userId, int page, int size);
     
+    CursorResponse<TradingHistoryResponse> getUserTradingHistoriesByCursor(UUID userId, String cursor, int size, boolean includeTotal);
+    
     List<TradingHistoryResponse> getUserTradingHistoriesByDateRange(
         UUID userId,
         LocalDateTime startDate,
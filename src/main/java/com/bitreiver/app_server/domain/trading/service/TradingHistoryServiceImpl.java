@@ -4,10 +4,13 @@ import com.bitreiver.app_server.domain.coin.dto.CoinResponse;
 import com.bitreiver.app_server.domain.coin.entity.Coin;
 import com.bitreiver.app_server.domain.coin.repository.CoinRepository;
 import com.bitreiver.app_server.domain.trading.dto.TradingHistoryResponse;
+import com.bitreiver.app_server.domain.trading.entity.TradingHistory;
 import com.bitreiver.app_server.domain.trading.repository.TradingHistoryRepository;
+import com.bitreiver.app_server.global.common.dto.CursorResponse;
 import com.bitreiver.app_server.global.common.dto.PageResponse;
 import com.bitreiver.app_server.global.common.exception.CustomException;
 import com.bitreiver.app_server.global.common.exception.ErrorCode;
+import com.bitreiver.app_server.global.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -43,6 +46,26 @@ public class TradingHistoryServiceImpl implements TradingHistoryService {
         );
     }
     
+    @Override
+    public CursorResponse<TradingHistoryResponse> getUserTradingHistoriesByCursor(UUID userId, String cursor, int size, boolean includeTotal) {
+        CursorUtil.Position position = CursorUtil.decode(cursor);
+        int pageSize = CursorUtil.clampSize(size);
+        
+        List<TradingHistory> rows = tradingHistoryRepository.findPageBefore(
+            userId, position.getTime(), position.getId(), pageSize + 1
+        );
+        Long total = includeTotal ? tradingHistoryRepository.countByUserId(userId) : null;
+        
+        return CursorResponse.of(
+            rows,
+            pageSize,
+            TradingHistory::getTradeTime,
+            TradingHistory::getId,
+            page -> page.stream().map(TradingHistoryResponse::from).toList(),
+            total
+        );
+    }
+    
     @Override
     public List<TradingHistoryResponse> getUserTradingHistoriesByDateRange(
         UUID userId,
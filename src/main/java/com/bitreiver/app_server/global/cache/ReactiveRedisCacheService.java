@@ -0,0 +1,259 @@
+package com.bitreiver.app_server.global.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * RedisCacheService의 Reactive 버전 (Lettuce reactive API).
+ * Reactor 기반 코드(ticker 파이프라인 등)에서 스레드를 점유하지 않고 Redis를 사용하기 위한 서비스로,
+ * 블로킹 버전과 동일하게 RedisValueCodec 인코딩, master/replica 라우팅, 서킷 브레이커, 메트릭을 적용한다.
+ * 오류는 블로킹 버전과 마찬가지로 로그 후 빈 결과로 대체한다.
+ */
+@Slf4j
+@Service
+public class ReactiveRedisCacheService {
+
+    private final ReactiveRedisTemplate<String, byte[]> reactiveRedisTemplate;
+    private final ReactiveRedisTemplate<String, byte[]> reactiveRedisReadTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisValueCodec valueCodec;
+    private final RedisCacheMetrics metrics;
+    private final RedisReadRouter readRouter;
+    private final RedisNearCache nearCache;
+
+    @Value("${cache.string.day.ttl:86400}")
+    private long dayTtl;
+
+    public ReactiveRedisCacheService(
+            @Qualifier("reactiveRedisTemplate") ReactiveRedisTemplate<String, byte[]> reactiveRedisTemplate,
+            @Qualifier("reactiveRedisReadTemplate") ReactiveRedisTemplate<String, byte[]> reactiveRedisReadTemplate,
+            ObjectMapper objectMapper,
+            RedisValueCodec valueCodec,
+            RedisCacheMetrics metrics,
+            RedisReadRouter readRouter,
+            RedisNearCache nearCache) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.reactiveRedisReadTemplate = reactiveRedisReadTemplate;
+        this.objectMapper = objectMapper;
+        this.valueCodec = valueCodec;
+        this.metrics = metrics;
+        this.readRouter = readRouter;
+        this.nearCache = nearCache;
+    }
+
+    // ========== String ==========
+
+    public <T> Mono<T> get(String key, Class<T> clazz) {
+        return read(key, valueCodec.typeOf(clazz));
+    }
+
+    public <T> Mono<T> get(String key, TypeReference<T> typeReference) {
+        return read(key, valueCodec.typeOf(typeReference));
+    }
+
+    /**
+     * 다수 키 일괄 조회 (MGET 1회). 값이 있는 키만 결과에 포함된다.
+     */
+    public <T> Mono<Map<String, T>> multiGet(List<String> keys, Class<T> clazz) {
+        if (keys == null || keys.isEmpty()) {
+            return Mono.just(Collections.emptyMap());
+        }
+        String target = readRouter.targetFor(keys);
+        JavaType type = valueCodec.typeOf(clazz);
+        return metrics.recordReactive("mget", keys.get(0), target,
+                () -> readTemplate(target).opsForValue().multiGet(keys))
+            .map(values -> {
+                Map<String, T> result = new HashMap<>();
+                for (int i = 0; i < keys.size(); i++) {
+                    String key = keys.get(i);
+                    T value = decodeOrNull(key, values.get(i), type);
+                    if (value != null) {
+                        metrics.hit(key, target);
+                        result.put(key, value);
+                    } else {
+                        metrics.miss(key, target);
+                    }
+                }
+                return result;
+            })
+            .onErrorResume(e -> {
+                log.warn("캐시 일괄 조회 중 오류 발생 - keyCount: {}, error: {}", keys.size(), e.getMessage());
+                return Mono.just(Collections.emptyMap());
+            });
+    }
+
+    public Mono<Boolean> set(String key, Object value) {
+        return set(key, value, dayTtl);
+    }
+
+    /**
+     * String 값 저장 (TTL 지정)
+     */
+    public Mono<Boolean> set(String key, Object value, long ttlSeconds) {
+        return Mono.fromCallable(() -> valueCodec.encode(key, value))
+            .flatMap(encoded -> metrics.recordReactive("set", key, RedisCacheMetrics.MASTER,
+                    () -> reactiveRedisTemplate.opsForValue().set(key, encoded, Duration.ofSeconds(ttlSeconds)))
+                .doOnSuccess(ok -> metrics.payload(key, "write", encoded.length)))
+            .flatMap(ok -> afterWrite(key).thenReturn(ok))
+            .onErrorResume(e -> {
+                log.warn("캐시 저장 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
+                return Mono.just(false);
+            });
+    }
+
+    /**
+     * 다수 키 일괄 저장. 명령은 하나의 연결로 동시에 전송되어 Lettuce에서 파이프라이닝된다.
+     *
+     * @return 저장에 성공한 키 개수
+     */
+    public Mono<Long> setAll(Map<String, ?> values, long ttlSeconds) {
+        if (values == null || values.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return Flux.fromIterable(values.entrySet())
+            .flatMap(entry -> set(entry.getKey(), entry.getValue(), ttlSeconds))
+            .filter(Boolean::booleanValue)
+            .count();
+    }
+
+    public Mono<Boolean> delete(String key) {
+        return metrics.recordReactive("delete", key, RedisCacheMetrics.MASTER,
+                () -> reactiveRedisTemplate.delete(key))
+            .flatMap(deleted -> afterWrite(key).thenReturn(deleted > 0))
+            .onErrorResume(e -> {
+                log.warn("redis 키 삭제 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
+                return Mono.just(false);
+            });
+    }
+
+    // ========== ZSET ==========
+
+    public Mono<Boolean> zAdd(String key, Object value, double score) {
+        return Mono.fromCallable(() -> serializeMember(value))
+            .flatMap(member -> metrics.recordReactive("zadd", key, RedisCacheMetrics.MASTER,
+                () -> reactiveRedisTemplate.opsForZSet().add(key, member, score)))
+            .doOnSuccess(added -> readRouter.markWritten(key))
+            .onErrorResume(e -> {
+                log.warn("redis ZSet 멤버 추가 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
+                return Mono.just(false);
+            });
+    }
+
+    public <T> Mono<List<T>> zRangeByScore(String key, double minScore, double maxScore, Class<T> clazz) {
+        String target = readRouter.targetFor(key);
+        return zRead("zrangebyscore", key, target, clazz,
+            () -> readTemplate(target).opsForZSet().rangeByScore(key, Range.closed(minScore, maxScore)).collectList());
+    }
+
+    public <T> Mono<List<T>> zRangeAll(String key, Class<T> clazz) {
+        String target = readRouter.targetFor(key);
+        return zRead("zrange", key, target, clazz,
+            () -> readTemplate(target).opsForZSet().range(key, Range.unbounded()).collectList());
+    }
+
+    // ========== 내부 ==========
+
+    private <T> Mono<T> read(String key, JavaType type) {
+        String target = readRouter.targetFor(key);
+        return metrics.recordReactive("get", key, target, () -> readTemplate(target).opsForValue().get(key))
+            .<T>handle((raw, sink) -> {
+                metrics.payload(key, "read", raw.length);
+                T value = decodeOrNull(key, raw, type);
+                if (value != null) {
+                    sink.next(value);
+                }
+            })
+            .doOnNext(value -> metrics.hit(key, target))
+            .switchIfEmpty(Mono.defer(() -> {
+                metrics.miss(key, target);
+                return Mono.empty();
+            }))
+            .onErrorResume(e -> {
+                log.warn("redis 캐시 조회 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
+                return Mono.empty();
+            });
+    }
+
+    private <T> Mono<List<T>> zRead(String operation, String key, String target, Class<T> clazz,
+                                    Supplier<Mono<List<byte[]>>> call) {
+        return metrics.recordReactive(operation, key, target, call)
+            .map(members -> {
+                if (members.isEmpty()) {
+                    metrics.miss(key, target);
+                    return Collections.<T>emptyList();
+                }
+                metrics.hit(key, target);
+                return members.stream()
+                    .map(member -> deserializeMember(key, member, clazz))
+                    .filter(Objects::nonNull)
+                    .toList();
+            })
+            .onErrorResume(e -> {
+                log.warn("ZSET 조회 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
+                return Mono.just(Collections.emptyList());
+            });
+    }
+
+    private Mono<Void> afterWrite(String key) {
+        readRouter.markWritten(key);
+        if (!nearCache.isEnabledFor(key)) {
+            return Mono.empty();
+        }
+        nearCache.invalidateLocal(key);
+        return reactiveRedisTemplate
+            .convertAndSend(RedisNearCache.INVALIDATION_CHANNEL, key.getBytes(StandardCharsets.UTF_8))
+            .then()
+            .onErrorResume(e -> {
+                log.warn("L1 캐시 무효화 전파 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
+                return Mono.empty();
+            });
+    }
+
+    private ReactiveRedisTemplate<String, byte[]> readTemplate(String target) {
+        return RedisCacheMetrics.MASTER.equals(target) ? reactiveRedisTemplate : reactiveRedisReadTemplate;
+    }
+
+    private <T> T decodeOrNull(String key, byte[] raw, JavaType type) {
+        if (raw == null) {
+            return null;
+        }
+        try {
+            return valueCodec.decode(key, raw, type);
+        } catch (Exception e) {
+            log.warn("redis 역직렬화 오류 발생 - key: {}, error: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /** ZSET 멤버는 블로킹 버전과 동일하게 UTF-8 JSON */
+    private byte[] serializeMember(Object value) throws Exception {
+        return objectMapper.writeValueAsBytes(value);
+    }
+
+    private <T> T deserializeMember(String key, byte[] member, Class<T> clazz) {
+        try {
+            return objectMapper.readValue(member, clazz);
+        } catch (Exception e) {
+            log.warn("redis ZSet 멤버 역직렬화 오류 발생 - key: {}, error: {}", key, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.bitreiver.app_server.global.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * HyperLogLog (근사 고유 개수, 키당 최대 12KB)
+ */
+@Slf4j
+@Service
+public class RedisCacheHyperLogLogService extends RedisCacheBaseService {
+
+    private final RedisCacheMetrics metrics;
+    private final RedisReadRouter readRouter;
+
+    public RedisCacheHyperLogLogService(
+                ObjectMapper objectMapper,
+                StringRedisTemplate stringRedisTemplate,
+                StringRedisTemplate stringRedisReadTemplate,
+                RedisTemplate<String, Object> redisTemplate,
+                RedisTemplate<String, Object> redisReadTemplate,
+                RedisCacheMetrics metrics,
+                RedisReadRouter readRouter) {
+        super(objectMapper, stringRedisTemplate, stringRedisReadTemplate, redisTemplate, redisReadTemplate);
+        this.metrics = metrics;
+        this.readRouter = readRouter;
+    }
+
+    /**
+     * PFADD + EXPIRE + PFCOUNT (파이프라인 1 round trip)
+     *
+     * @param ttlSeconds 0 이하이면 TTL을 설정하지 않음
+     * @return 추가 여부와 추가 후 근사 개수 (오류 시 empty)
+     */
+    public Optional<PfAddResult> pfAddAndCount(String key, String member, long ttlSeconds) {
+        try {
+            byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+            byte[] rawMember = member.getBytes(StandardCharsets.UTF_8);
+            List<Object> results = metrics.record("pfadd", key, RedisCacheMetrics.MASTER, () ->
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    connection.hyperLogLogCommands().pfAdd(rawKey, rawMember);
+                    if (ttlSeconds > 0) {
+                        connection.keyCommands().expire(rawKey, ttlSeconds);
+                    }
+                    connection.hyperLogLogCommands().pfCount(rawKey);
+                    return null;
+                }));
+            readRouter.markWritten(key);
+
+            Object added = results.get(0);
+            Object count = results.get(results.size() - 1);
+            return Optional.of(new PfAddResult(
+                added instanceof Number number && number.longValue() == 1L,
+                count instanceof Number number ? number.longValue() : 0L
+            ));
+        } catch (Exception e) {
+            log.warn("HyperLogLog 추가 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 여러 키의 근사 개수 일괄 조회 (파이프라인 1 round trip). 없는 키는 0
+     */
+    public Map<String, Long> pfCountAll(List<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            List<Object> results = metrics.record("pfcount", keys.get(0), RedisCacheMetrics.MASTER, () ->
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    for (String key : keys) {
+                        connection.hyperLogLogCommands().pfCount(key.getBytes(StandardCharsets.UTF_8));
+                    }
+                    return null;
+                }));
+            Map<String, Long> counts = new LinkedHashMap<>();
+            for (int i = 0; i < keys.size(); i++) {
+                Object count = results.get(i);
+                counts.put(keys.get(i), count instanceof Number number ? number.longValue() : 0L);
+            }
+            return counts;
+        } catch (Exception e) {
+            log.warn("HyperLogLog 일괄 개수 조회 중 오류 발생 - count: {}, error: {}", keys.size(), e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PfAddResult {
+        private final boolean added;
+        private final long count;
+    }
+}
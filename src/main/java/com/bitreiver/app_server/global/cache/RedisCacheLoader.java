@@ -0,0 +1,274 @@
+package com.bitreiver.app_server.global.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 미스 시 단일 로딩(single-flight) 및 확률적 조기 갱신을 담당하는 로더.
+ *
+ * - 노드 내: 같은 키의 동시 미스는 하나의 로딩 결과를 공유한다.
+ * - 노드 간: 짧은 Redis 락(SET NX PX)을 획득한 노드만 DB를 조회하고, 나머지는 잠시 캐시 값을 기다린다.
+ * - 조기 갱신: 남은 TTL과 최근 로딩 소요 시간으로 확률적으로(XFetch) 만료 전에 백그라운드에서 갱신하여
+ *   요청 스레드가 재로딩을 기다리지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class RedisCacheLoader {
+
+    private static final String LOCK_PREFIX = "lock:cache:";
+    /** 값 로딩과 같은 키를 써도 섞이지 않도록 재구성 작업의 노드 내 진행 키에 붙이는 접두사 */
+    private static final String RUN_PREFIX = "run:";
+    private static final long DEFAULT_LOAD_MILLIS = 100L;
+    private static final long LOCK_POLL_INTERVAL_MILLIS = 50L;
+    /** 로딩 소요 시간 기록 상한 (키에 세대/요청 값이 포함되어 계속 바뀌므로 오래된 키는 버림) */
+    private static final int LOAD_MILLIS_MAX_KEYS = 10_000;
+    private static final Duration LOAD_MILLIS_EXPIRY = Duration.ofDays(1);
+    private static final DefaultRedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
+    private final RedisCacheStringService stringCacheService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Executor cacheRefreshExecutor;
+
+    @Value("${cache.loader.lock-ttl-ms:5000}")
+    private long lockTtlMillis;
+
+    @Value("${cache.loader.lock-wait-ms:300}")
+    private long lockWaitMillis;
+
+    @Value("${cache.loader.early-refresh-beta:1.0}")
+    private double earlyRefreshBeta;
+
+    /** 노드 내 진행 중인 로딩 */
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    /** 키별 최근 로딩 소요 시간(ms) - 조기 갱신 확률 계산에 사용 */
+    private final Cache<String, Long> lastLoadMillis = Caffeine.newBuilder()
+        .maximumSize(LOAD_MILLIS_MAX_KEYS)
+        .expireAfterWrite(LOAD_MILLIS_EXPIRY)
+        .build();
+
+    public RedisCacheLoader(
+            RedisCacheStringService stringCacheService,
+            @Qualifier("stringRedisTemplate") StringRedisTemplate stringRedisTemplate,
+            @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor) {
+        this.stringCacheService = stringCacheService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cacheRefreshExecutor = cacheRefreshExecutor;
+    }
+
+    /**
+     * 캐시 조회 후 미스면 loader로 로딩하여 저장한다. loader가 null을 반환하면 캐시하지 않는다.
+     */
+    public <T> T getOrLoad(String key, TypeReference<T> typeReference, long ttlSeconds, Supplier<T> loader) {
+        Optional<RedisCacheStringService.CachedValue<T>> cached = stringCacheService.getWithTtl(key, typeReference);
+        if (cached.isPresent()) {
+            if (shouldRefreshEarly(key, cached.get().getTtlMillis())) {
+                refreshInBackground(key, typeReference, ttlSeconds, loader);
+            }
+            return cached.get().getValue();
+        }
+        return loadSingleFlight(key, typeReference, ttlSeconds, loader, true);
+    }
+
+    /**
+     * 캐시 값 저장 없이 재구성 작업(ZSET 재구성 등)을 노드 내/노드 간 한 번만 실행한다.
+     * 같은 노드의 동시 호출은 진행 중인 실행 결과를 공유하고, 다른 노드가 락을 잡고 있으면 실행하지 않는다.
+     * Redis 오류로 락 여부를 알 수 없으면 노드 내 single-flight만으로 실행한다.
+     *
+     * @return 작업 결과. 다른 노드가 실행 중이면 empty (호출 측에서 원본 조회 등으로 대체)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> runExclusive(String key, Supplier<T> task) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(RUN_PREFIX + key, created);
+        if (existing != null) {
+            try {
+                return Optional.ofNullable((T) existing.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        String lockKey = LOCK_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+        Boolean lockResult = tryLock(lockKey, token);
+        try {
+            if (Boolean.FALSE.equals(lockResult)) {
+                created.complete(null);
+                return Optional.empty();
+            }
+            T value = task.get();
+            created.complete(value);
+            return Optional.ofNullable(value);
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            if (Boolean.TRUE.equals(lockResult)) {
+                releaseLock(lockKey, token);
+            }
+            inFlight.remove(RUN_PREFIX + key, created);
+        }
+    }
+
+    /**
+     * XFetch: -delta * beta * ln(rand) >= 남은 TTL 이면 조기 갱신
+     */
+    private boolean shouldRefreshEarly(String key, long ttlMillis) {
+        if (ttlMillis <= 0) {
+            return false;
+        }
+        Long lastLoad = lastLoadMillis.getIfPresent(key);
+        long delta = lastLoad != null ? lastLoad : DEFAULT_LOAD_MILLIS;
+        double random = ThreadLocalRandom.current().nextDouble();
+        return -delta * earlyRefreshBeta * Math.log(random) >= ttlMillis;
+    }
+
+    private <T> void refreshInBackground(String key, TypeReference<T> typeReference, long ttlSeconds, Supplier<T> loader) {
+        if (inFlight.containsKey(key)) {
+            return;
+        }
+        cacheRefreshExecutor.execute(() -> {
+            try {
+                loadSingleFlight(key, typeReference, ttlSeconds, loader, false);
+                log.debug("캐시 조기 갱신 완료 - key: {}", key);
+            } catch (Exception e) {
+                log.warn("캐시 조기 갱신 실패 - key: {}, error: {}", key, e.getMessage());
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T loadSingleFlight(String key, TypeReference<T> typeReference, long ttlSeconds,
+                                   Supplier<T> loader, boolean foreground) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            if (!foreground) {
+                return null;
+            }
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            T value = loadWithLock(key, typeReference, ttlSeconds, loader, foreground);
+            created.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private <T> T loadWithLock(String key, TypeReference<T> typeReference, long ttlSeconds,
+                               Supplier<T> loader, boolean foreground) {
+        String lockKey = LOCK_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+        Boolean lockResult = tryLock(lockKey, token);
+        boolean locked = Boolean.TRUE.equals(lockResult);
+
+        if (Boolean.FALSE.equals(lockResult)) {
+            if (!foreground) {
+                // 다른 노드가 갱신 중
+                return null;
+            }
+            Optional<T> loadedByOther = waitForValue(key, typeReference);
+            if (loadedByOther.isPresent()) {
+                return loadedByOther.get();
+            }
+            log.debug("캐시 락 대기 시간 초과 - 직접 로딩 - key: {}", key);
+        }
+
+        try {
+            if (locked && foreground) {
+                // 락 획득 직전에 다른 노드가 저장했을 수 있으므로 한 번 더 확인
+                Optional<T> cached = stringCacheService.get(key, typeReference);
+                if (cached.isPresent()) {
+                    return cached.get();
+                }
+            }
+            long start = System.currentTimeMillis();
+            T value = loader.get();
+            lastLoadMillis.put(key, Math.max(System.currentTimeMillis() - start, 1L));
+            if (value != null) {
+                stringCacheService.set(key, value, ttlSeconds);
+            }
+            return value;
+        } finally {
+            if (locked) {
+                releaseLock(lockKey, token);
+            }
+        }
+    }
+
+    private <T> Optional<T> waitForValue(String key, TypeReference<T> typeReference) {
+        long deadline = System.currentTimeMillis() + lockWaitMillis;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LOCK_POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+            Optional<T> value = stringCacheService.get(key, typeReference);
+            if (value.isPresent()) {
+                return value;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return 획득 여부, Redis 오류 시 null (대기 없이 노드 내 single-flight만으로 로딩)
+     */
+    private Boolean tryLock(String lockKey, String token) {
+        try {
+            return Boolean.TRUE.equals(
+                stringRedisTemplate.opsForValue().setIfAbsent(lockKey, token, Duration.ofMillis(lockTtlMillis)));
+        } catch (Exception e) {
+            log.warn("캐시 락 획득 중 오류 발생 - key: {}, error: {}", lockKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void releaseLock(String lockKey, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), token);
+        } catch (Exception e) {
+            log.warn("캐시 락 해제 중 오류 발생 - key: {}, error: {}", lockKey, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.bitreiver.app_server.global.cache;
+
+import com.bitreiver.app_server.global.util.RedisKeyUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Redis 캐시 접근 메트릭 및 서킷 브레이커 적용 지점.
+ * 키 네임스페이스(첫 ':' 앞 prefix)와 대상 템플릿(master / replica) 단위로
+ * hit/miss/error 카운터, round trip 지연 시간, 페이로드 크기를 기록한다.
+ * 모든 호출은 대상별 RedisCircuitBreaker를 거치며, 서킷이 열려 있으면 Redis를 호출하지 않고 즉시 실패한다.
+ * 또한 현재 HTTP 요청에서 발생한 Redis 호출 수를 스레드 단위로 집계한다. (RedisRequestMetricsFilter)
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisCacheMetrics {
+
+    public static final String MASTER = "master";
+    public static final String REPLICA = "replica";
+
+    private static final ThreadLocal<int[]> REQUEST_CALLS = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final RedisCircuitBreaker circuitBreaker;
+
+    /**
+     * Redis 호출 1회(round trip)를 계측한다. 예외는 error 카운터에 기록 후 그대로 전파한다.
+     * 서킷이 열려 있으면 RedisCircuitBreaker.CircuitOpenException으로 즉시 실패한다.
+     */
+    public <T> T record(String operation, String key, String target, Supplier<T> call) {
+        if (!circuitBreaker.allowRequest(target)) {
+            throw new RedisCircuitBreaker.CircuitOpenException(target);
+        }
+        int[] requestCalls = REQUEST_CALLS.get();
+        if (requestCalls != null) {
+            requestCalls[0]++;
+        }
+        String namespace = RedisKeyUtil.namespaceOf(key);
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            circuitBreaker.onSuccess(target);
+            return result;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure(target, e);
+            errorCounter(namespace, target, operation).increment();
+            throw e;
+        } finally {
+            latencyTimer(namespace, target, operation).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * record의 Reactive 버전. 구독 시점부터 완료(또는 오류)까지를 round trip으로 계측한다.
+     */
+    public <T> Mono<T> recordReactive(String operation, String key, String target, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            if (!circuitBreaker.allowRequest(target)) {
+                return Mono.error(new RedisCircuitBreaker.CircuitOpenException(target));
+            }
+            String namespace = RedisKeyUtil.namespaceOf(key);
+            long start = System.nanoTime();
+            return call.get()
+                .doOnSuccess(result -> circuitBreaker.onSuccess(target))
+                .doOnError(e -> {
+                    circuitBreaker.onFailure(target, e);
+                    errorCounter(namespace, target, operation).increment();
+                })
+                .doFinally(signal -> latencyTimer(namespace, target, operation)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    public void hit(String key, String target) {
+        result(key, target, "hit");
+    }
+
+    public void miss(String key, String target) {
+        result(key, target, "miss");
+    }
+
+    /**
+     * @param direction read | write
+     */
+    public void payload(String key, String direction, long bytes) {
+        DistributionSummary.builder("redis.cache.payload.bytes")
+            .description("Redis 값 페이로드 크기")
+            .baseUnit("bytes")
+            .tag("namespace", RedisKeyUtil.namespaceOf(key))
+            .tag("direction", direction)
+            .register(meterRegistry)
+            .record(bytes);
+    }
+
+    private Counter errorCounter(String namespace, String target, String operation) {
+        return Counter.builder("redis.cache.errors")
+            .description("Redis 호출 오류 수")
+            .tag("namespace", namespace)
+            .tag("target", target)
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+
+    private Timer latencyTimer(String namespace, String target, String operation) {
+        return Timer.builder("redis.cache.latency")
+            .description("Redis 호출 round trip 지연 시간")
+            .tag("namespace", namespace)
+            .tag("target", target)
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+
+    private void result(String key, String target, String result) {
+        Counter.builder("redis.cache.requests")
+            .description("Redis 캐시 조회 결과 (hit / miss)")
+            .tag("namespace", RedisKeyUtil.namespaceOf(key))
+            .tag("target", target)
+            .tag("result", result)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    // ========== 요청 단위 Redis 호출 수 ==========
+
+    static void beginRequest() {
+        REQUEST_CALLS.set(new int[1]);
+    }
+
+    /**
+     * @return 현재 요청에서 발생한 Redis 호출 수
+     */
+    static int endRequest() {
+        int[] requestCalls = REQUEST_CALLS.get();
+        REQUEST_CALLS.remove();
+        return requestCalls != null ? requestCalls[0] : 0;
+    }
+}
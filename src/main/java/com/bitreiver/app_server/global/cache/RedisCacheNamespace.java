@@ -0,0 +1,122 @@
+package com.bitreiver.app_server.global.cache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세대(generation) 카운터 기반 캐시 네임스페이스.
+ * 네임스페이스에 속한 키는 "{namespace}:g{generation}:{suffix}" 형태로 현재 세대가 붙으며,
+ * 세대를 1 올리면 SCAN/KEYS 없이 O(1)로 네임스페이스 전체가 무효화된다. (이전 세대 키는 TTL로 만료)
+ *
+ * - 세대 값은 cache:gen:{namespace} 키(만료 없음)에 저장되고, 각 노드는 generation-check-ms 동안 로컬에 보관한다.
+ * - 세대 증가는 pub/sub으로 전파되어 다른 노드도 즉시 로컬 값을 버린다.
+ *   fetch-server 등 외부에서 INCR만 한 경우에는 generation-check-ms 이내에 반영된다.
+ */
+@Slf4j
+@Component
+public class RedisCacheNamespace implements MessageListener {
+
+    public static final String GENERATION_KEY_PREFIX = "cache:gen:";
+    public static final String BUMP_CHANNEL = "cache:namespace:bump";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final RedisCacheMetrics metrics;
+
+    @Value("${cache.namespace.generation-check-ms:5000}")
+    private long generationCheckMillis;
+
+    /** namespace -> 로컬에 보관 중인 세대 */
+    private final Map<String, LocalGeneration> generations = new ConcurrentHashMap<>();
+
+    public RedisCacheNamespace(
+            @Qualifier("stringRedisTemplate") StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            RedisCacheMetrics metrics) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.metrics = metrics;
+    }
+
+    @PostConstruct
+    void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(BUMP_CHANNEL));
+    }
+
+    /**
+     * 현재 세대가 붙은 키. 예) key("coins", "exchange:UPBIT") -> "coins:g3:exchange:UPBIT"
+     */
+    public String key(String namespace, String suffix) {
+        return namespace + ":g" + currentGeneration(namespace) + ":" + suffix;
+    }
+
+    /**
+     * 세대를 올려 네임스페이스 전체를 무효화하고 다른 노드에 전파한다.
+     *
+     * @return 새 세대, Redis 오류 시 -1
+     */
+    public long bump(String namespace) {
+        String generationKey = GENERATION_KEY_PREFIX + namespace;
+        try {
+            Long generation = metrics.record("incr", generationKey, RedisCacheMetrics.MASTER,
+                () -> stringRedisTemplate.opsForValue().increment(generationKey));
+            long next = generation != null ? generation : 0L;
+            generations.put(namespace, new LocalGeneration(next, System.currentTimeMillis()));
+            stringRedisTemplate.convertAndSend(BUMP_CHANNEL, namespace);
+            log.info("캐시 네임스페이스 세대 증가 - namespace: {}, generation: {}", namespace, next);
+            return next;
+        } catch (Exception e) {
+            log.warn("캐시 네임스페이스 세대 증가 중 오류 발생 - namespace: {}, error: {}", namespace, e.getMessage());
+            return -1L;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        generations.remove(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private long currentGeneration(String namespace) {
+        long now = System.currentTimeMillis();
+        LocalGeneration local = generations.get(namespace);
+        if (local != null && now - local.checkedAt < generationCheckMillis) {
+            return local.generation;
+        }
+
+        String generationKey = GENERATION_KEY_PREFIX + namespace;
+        try {
+            // 세대 값은 증가 직후에도 정확해야 하므로 항상 master에서 읽는다
+            String value = metrics.record("get", generationKey, RedisCacheMetrics.MASTER,
+                () -> stringRedisTemplate.opsForValue().get(generationKey));
+            long generation = value != null ? Long.parseLong(value.trim()) : 0L;
+            generations.put(namespace, new LocalGeneration(generation, now));
+            return generation;
+        } catch (Exception e) {
+            // Redis 장애 시 직전 세대를 그대로 사용 (캐시 접근 자체도 실패하므로 일관성 문제 없음)
+            log.warn("캐시 네임스페이스 세대 조회 중 오류 발생 - namespace: {}, error: {}", namespace, e.getMessage());
+            return local != null ? local.generation : 0L;
+        }
+    }
+
+    private static class LocalGeneration {
+        private final long generation;
+        private final long checkedAt;
+
+        private LocalGeneration(long generation, long checkedAt) {
+            this.generation = generation;
+            this.checkedAt = checkedAt;
+        }
+    }
+}
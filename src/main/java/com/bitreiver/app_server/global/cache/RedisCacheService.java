@@ -1,18 +1,22 @@
 package com.bitreiver.app_server.global.cache;
 
+import com.bitreiver.app_server.global.cache.RedisCacheHyperLogLogService.PfAddResult;
 import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Redis 캐시 서비스 통합 래퍼
  * 기존 코드 호환성을 위해 유지
- * 내부적으로 RedisStringCacheService와 RedisZSetCacheService를 사용
+ * 내부적으로 RedisStringCacheService, RedisZSetCacheService, RedisCacheHyperLogLogService를 사용
  */
 @Slf4j
 @Service
@@ -21,6 +25,9 @@ public class RedisCacheService {
     
     private final RedisCacheStringService stringCacheService;
     private final RedisCacheZSetService zSetCacheService;
+    private final RedisCacheHyperLogLogService hyperLogLogCacheService;
+    private final RedisCacheLoader cacheLoader;
+    private final RedisCacheNamespace cacheNamespace;
     
     // ========== String 메서드 (기존 코드 호환) ==========
     
@@ -32,6 +39,24 @@ public class RedisCacheService {
         return stringCacheService.get(key, typeReference);
     }
     
+    public <T> Map<String, T> multiGet(List<String> keys, Class<T> clazz) {
+        return stringCacheService.multiGet(keys, clazz);
+    }
+    
+    /**
+     * 캐시 조회 후 미스면 loader로 로딩하여 저장 (동시 미스 단일화 + 확률적 조기 갱신)
+     */
+    public <T> T getOrLoad(String key, TypeReference<T> typeReference, long ttlSeconds, Supplier<T> loader) {
+        return cacheLoader.getOrLoad(key, typeReference, ttlSeconds, loader);
+    }
+    
+    /**
+     * 재구성 작업을 노드 내/노드 간 한 번만 실행 (다른 노드가 실행 중이면 empty)
+     */
+    public <T> Optional<T> runExclusive(String key, Supplier<T> task) {
+        return cacheLoader.runExclusive(key, task);
+    }
+    
     public void set(String key, Object value) {
         stringCacheService.set(key, value);
     }
@@ -48,12 +73,36 @@ public class RedisCacheService {
         return stringCacheService.exists(key);
     }
     
+    // ========== 네임스페이스 (세대 카운터) ==========
+    
+    /**
+     * 네임스페이스의 현재 세대가 붙은 키 (예: "coins:g3:exchange:UPBIT")
+     */
+    public String namespacedKey(String namespace, String suffix) {
+        return cacheNamespace.key(namespace, suffix);
+    }
+    
+    /**
+     * 네임스페이스에 속한 모든 키를 O(1)로 무효화 (세대 증가 + 전 노드 전파)
+     */
+    public long invalidateNamespace(String namespace) {
+        return cacheNamespace.bump(namespace);
+    }
+    
     // ========== ZSET 메서드 (새로 추가) ==========
     
     public void zAdd(String key, Object value, double score) {
         zSetCacheService.zAdd(key, value, score);
     }
     
+    public void zRemove(String key, Object value) {
+        zSetCacheService.zRemove(key, value);
+    }
+    
+    public void zRemoveRangeByScore(String key, double minScore, double maxScore) {
+        zSetCacheService.zRemoveRangeByScore(key, minScore, maxScore);
+    }
+    
     public <T> void zAddAll(String key, List<T> values, Function<T, Double> scoreExtractor, long ttlSeconds) {
         zSetCacheService.zAddAll(key, values, scoreExtractor, ttlSeconds);
     }
@@ -62,6 +111,35 @@ public class RedisCacheService {
         zSetCacheService.zAddAll(key, values, scoreExtractor);
     }
     
+    public boolean zAddIfExists(String key, Object value, double score, long maxSize) {
+        return zSetCacheService.zAddIfExists(key, value, score, maxSize);
+    }
+    
+    public void zAdd(String key, Object value, double score, long maxSize, long ttlSeconds) {
+        zSetCacheService.zAdd(key, value, score, maxSize, ttlSeconds);
+    }
+    
+    public <T> void zMergeAll(String key, List<T> values, Function<T, Double> scoreExtractor,
+                              List<String> sourceKeys, long maxSize, long ttlSeconds) {
+        zSetCacheService.zMergeAll(key, values, scoreExtractor, sourceKeys, maxSize, ttlSeconds);
+    }
+    
+    public <T> List<T> zRevRange(String key, long start, long end, Class<T> clazz) {
+        return zSetCacheService.zRevRange(key, start, end, clazz);
+    }
+    
+    public void zIncrementAll(String key, Collection<?> values, double delta, long ttlSeconds) {
+        zSetCacheService.zIncrementAll(key, values, delta, ttlSeconds);
+    }
+    
+    public void zUnionStore(String destKey, List<String> keys, List<Double> weights, long ttlSeconds) {
+        zSetCacheService.zUnionStore(destKey, keys, weights, ttlSeconds);
+    }
+    
+    public <T> Map<T, Double> zRevRangeWithScores(String key, long start, long end, Class<T> clazz) {
+        return zSetCacheService.zRevRangeWithScores(key, start, end, clazz);
+    }
+    
     public <T> List<T> zRangeByScore(String key, double minScore, double maxScore, Class<T> clazz) {
         return zSetCacheService.zRangeByScore(key, minScore, maxScore, clazz);
     }
@@ -77,4 +155,14 @@ public class RedisCacheService {
     public boolean zExists(String key) {
         return zSetCacheService.zExists(key);
     }
-}
\ No newline at end of file
+    
+    // ========== HyperLogLog 메서드 ==========
+    
+    public Optional<PfAddResult> pfAddAndCount(String key, String member, long ttlSeconds) {
+        return hyperLogLogCacheService.pfAddAndCount(key, member, ttlSeconds);
+    }
+    
+    public Map<String, Long> pfCountAll(List<String> keys) {
+        return hyperLogLogCacheService.pfCountAll(keys);
+    }
+}
@@ -1,5 +1,7 @@
 package com.bitreiver.app_server.global.cache;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -7,8 +9,17 @@ import org.springframework.data.redis.core.RedisTemplate;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Service;
 import com.fasterxml.jackson.core.type.TypeReference;
-import java.time.Duration;
+import com.fasterxml.jackson.databind.JavaType;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
@@ -18,27 +29,48 @@ public class RedisCacheStringService extends RedisCacheBaseService {
     @Value("${cache.string.day.ttl:86400}")
     private long dayTtl;
 
+    private final RedisNearCache nearCache;
+    private final RedisValueCodec valueCodec;
+    private final RedisCacheMetrics metrics;
+    private final RedisReadRouter readRouter;
+
     public RedisCacheStringService(
                 ObjectMapper objectMapper, 
                 StringRedisTemplate stringRedisTemplate, 
                 StringRedisTemplate stringRedisReadTemplate, 
                 RedisTemplate<String, Object> redisTemplate, 
-                RedisTemplate<String, Object> redisReadTemplate) {
+                RedisTemplate<String, Object> redisReadTemplate,
+                RedisNearCache nearCache,
+                RedisValueCodec valueCodec,
+                RedisCacheMetrics metrics,
+                RedisReadRouter readRouter) {
         super(objectMapper, stringRedisTemplate, stringRedisReadTemplate, redisTemplate, redisReadTemplate);
-
+        this.nearCache = nearCache;
+        this.valueCodec = valueCodec;
+        this.metrics = metrics;
+        this.readRouter = readRouter;
     }
 
      /**
-     * String 값 조회
+     * String 값 조회 (near cache 대상 네임스페이스는 L1 우선 조회)
      */
     public <T> Optional<T> get(String key, Class<T> clazz) {
-        try{
-            String cachedValue = stringRedisReadTemplate.opsForValue().get(key);
-            if(cachedValue != null) {
-                T value = deserialize(cachedValue, clazz);
-                return Optional.ofNullable(value);
-            }
-            return Optional.empty();
+        return read(key, valueCodec.typeOf(clazz), clazz.getName());
+    }
+
+    /**
+     * String 값 조회 (TypeReference)
+     */
+    public <T> Optional<T> get(String key, TypeReference<T> typeReference) {
+        return read(key, valueCodec.typeOf(typeReference), typeReference.getType().getTypeName());
+    }
+
+    /**
+     * 디코딩 전 원본 바이트 조회 (디코딩 결과를 별도로 캐싱하는 RedisTimeSeriesCache 등에서 사용)
+     */
+    public Optional<byte[]> getRaw(String key) {
+        try {
+            return Optional.ofNullable(getRawOrNull(key));
         } catch (Exception e) {
             log.warn("redis 캐시 조회 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
             return Optional.empty();
@@ -46,23 +78,103 @@ public class RedisCacheStringService extends RedisCacheBaseService {
     }
 
     /**
-     * String 값 조회 (TypeReference)
+     * 디코딩 전 원본 바이트 조회. 키가 없으면 null을 반환하고, Redis 오류(서킷 OPEN 포함)는 예외로 전파한다.
+     * 키 없음과 Redis 장애를 구분해야 하는 호출 측에서 사용
      */
-    public <T> Optional<T> get(String key, TypeReference<T> typeReference) {
+    public byte[] getRawOrNull(String key) {
+        String target = readRouter.targetFor(key);
+        byte[] cachedValue = metrics.record("get", key, target, () ->
+            readTemplate(target).execute(
+                (RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawKey(key))));
+        if (cachedValue == null) {
+            metrics.miss(key, target);
+            log.debug("캐시 미스 - key: {}", key);
+            return null;
+        }
+        metrics.hit(key, target);
+        metrics.payload(key, "read", cachedValue.length);
+        return cachedValue;
+    }
+
+    /**
+     * 값과 남은 TTL을 함께 조회 (GET + PTTL 파이프라인 1회).
+     * L1 near cache에서 찾은 경우 남은 TTL은 알 수 없으므로 -1로 반환한다.
+     */
+    public <T> Optional<CachedValue<T>> getWithTtl(String key, TypeReference<T> typeReference) {
+        String typeId = typeReference.getType().getTypeName();
+        boolean useNearCache = nearCache.isEnabledFor(key);
+        if (useNearCache) {
+            @SuppressWarnings("unchecked")
+            T cached = (T) nearCache.get(key, typeId);
+            if (cached != null) {
+                return Optional.of(new CachedValue<>(cached, -1L));
+            }
+        }
         try {
-            String cachedValue = stringRedisReadTemplate.opsForValue().get(key);
-            if (cachedValue != null) {
-                T value = deserialize(cachedValue, typeReference);
-                return Optional.ofNullable(value);
+            byte[] rawKey = rawKey(key);
+            String target = readRouter.targetFor(key);
+            List<Object> results = metrics.record("get_with_ttl", key, target, () ->
+                readTemplate(target).executePipelined((RedisCallback<Object>) connection -> {
+                    connection.stringCommands().get(rawKey);
+                    connection.keyCommands().pTtl(rawKey);
+                    return null;
+                }, RedisSerializer.byteArray()));
+            byte[] raw = (byte[]) results.get(0);
+            T value = decodeOrNull(key, raw, valueCodec.typeOf(typeReference));
+            if (value == null) {
+                metrics.miss(key, target);
+                return Optional.empty();
             }
-            log.debug("캐시 미스 - key: {}", key);
-            return Optional.empty();
+            metrics.hit(key, target);
+            metrics.payload(key, "read", raw.length);
+            if (useNearCache) {
+                nearCache.put(key, typeId, value);
+            }
+            Long ttlMillis = (Long) results.get(1);
+            return Optional.of(new CachedValue<>(value, ttlMillis != null ? ttlMillis : -1L));
         } catch (Exception e) {
-            log.warn("캐시 조회 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
+            log.warn("redis 캐시 조회 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
             return Optional.empty();
         }
     }
 
+    /**
+     * 다수 키 일괄 조회 (MGET 1회). 값이 있는 키만 결과에 포함된다.
+     */
+    public <T> Map<String, T> multiGet(List<String> keys, Class<T> clazz) {
+        if (keys == null || keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            byte[][] rawKeys = keys.stream().map(this::rawKey).toArray(byte[][]::new);
+            String target = readRouter.targetFor(keys);
+            List<byte[]> cachedValues = metrics.record("mget", keys.get(0), target, () ->
+                readTemplate(target).execute(
+                    (RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(rawKeys)));
+            if (cachedValues == null) {
+                return Collections.emptyMap();
+            }
+            JavaType type = valueCodec.typeOf(clazz);
+            Map<String, T> result = new HashMap<>();
+            for (int i = 0; i < keys.size(); i++) {
+                String key = keys.get(i);
+                byte[] raw = cachedValues.get(i);
+                T value = decodeOrNull(key, raw, type);
+                if (value != null) {
+                    metrics.hit(key, target);
+                    metrics.payload(key, "read", raw.length);
+                    result.put(key, value);
+                } else {
+                    metrics.miss(key, target);
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            log.warn("캐시 일괄 조회 중 오류 발생 - keyCount: {}, error: {}", keys.size(), e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
     public void set(String key, Object value) {
         set(key, value, dayTtl);
     }
@@ -72,23 +184,88 @@ public class RedisCacheStringService extends RedisCacheBaseService {
      */
     public void set(String key, Object value, long ttlSeconds) {
         try {
-            String jsonValue = serialize(value);
-            stringRedisTemplate.opsForValue().set(key, jsonValue, Duration.ofSeconds(ttlSeconds));
+            byte[] encoded = valueCodec.encode(key, value);
+            metrics.record("set", key, RedisCacheMetrics.MASTER, () ->
+                stringRedisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+                    .set(rawKey(key), encoded, Expiration.seconds(ttlSeconds), RedisStringCommands.SetOption.upsert())));
+            metrics.payload(key, "write", encoded.length);
+            readRouter.markWritten(key);
+            nearCache.invalidate(key);
         } catch (Exception e) {
             log.warn("캐시 저장 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
         }
     }
 
+    @Override
+    public void delete(String key) {
+        metrics.record("delete", key, RedisCacheMetrics.MASTER, () -> {
+            super.delete(key);
+            return null;
+        });
+        nearCache.invalidate(key);
+    }
+
     /**
      * 키 존재 여부 확인
      */
     public boolean exists(String key) {
         try {
-            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(key));
+            return Boolean.TRUE.equals(
+                metrics.record("exists", key, RedisCacheMetrics.MASTER, () -> stringRedisTemplate.hasKey(key)));
         } catch (Exception e) {
             log.warn("캐시 존재 확인 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
             return false;
         }
     }
 
+    /**
+     * 캐시 값과 조회 시점의 남은 TTL(ms, 알 수 없거나 만료 없음이면 음수)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class CachedValue<T> {
+        private final T value;
+        private final long ttlMillis;
+    }
+
+    private <T> Optional<T> read(String key, JavaType type, String typeId) {
+        boolean useNearCache = nearCache.isEnabledFor(key);
+        if (useNearCache) {
+            @SuppressWarnings("unchecked")
+            T cached = (T) nearCache.get(key, typeId);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+        Optional<byte[]> cachedValue = getRaw(key);
+        if (cachedValue.isEmpty()) {
+            return Optional.empty();
+        }
+        T value = decodeOrNull(key, cachedValue.get(), type);
+        if (useNearCache) {
+            nearCache.put(key, typeId, value);
+        }
+        return Optional.ofNullable(value);
+    }
+
+    private <T> T decodeOrNull(String key, byte[] raw, JavaType type) {
+        if (raw == null) {
+            return null;
+        }
+        try {
+            return valueCodec.decode(key, raw, type);
+        } catch (Exception e) {
+            log.warn("redis 역직렬화 오류 발생 - key: {}, error: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private StringRedisTemplate readTemplate(String target) {
+        return RedisCacheMetrics.MASTER.equals(target) ? stringRedisTemplate : stringRedisReadTemplate;
+    }
+
+    private byte[] rawKey(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
 }
@@ -4,30 +4,66 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Slf4j
 @Service
 public class RedisCacheZSetService extends RedisCacheBaseService {
     
+    /** 교체용 임시 키 접미사 */
+    private static final String TEMP_KEY_SUFFIX = ":tmp:";
+    /** RENAME 전에 실패해도 임시 키가 남지 않도록 첫 ZADD 직후 거는 안전 TTL */
+    private static final long TEMP_KEY_TTL_SECONDS = 60L;
+    /** 단일 ZADD 명령에 담는 최대 멤버 수 (대형 ZSET에서 명령 하나가 과도하게 커지는 것을 방지) */
+    private static final int ZADD_CHUNK_SIZE = 1000;
+    /** 키가 있을 때만 ZADD 후 상위 maxSize개만 남김 (ARGV: member, score, maxSize) */
+    private static final DefaultRedisScript<Long> ADD_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('exists', KEYS[1]) == 0 then return 0 end " +
+        "redis.call('zadd', KEYS[1], ARGV[2], ARGV[1]) " +
+        "local max = tonumber(ARGV[3]) " +
+        "if max > 0 then redis.call('zremrangebyrank', KEYS[1], 0, -(max + 1)) end " +
+        "return 1",
+        Long.class
+    );
+
     @Value("${cache.zset.day.ttl:86400}")
     private long dayTtl;
 
+    private final RedisCacheMetrics metrics;
+    private final RedisReadRouter readRouter;
+
     public RedisCacheZSetService(
                 ObjectMapper objectMapper, 
                 StringRedisTemplate stringRedisTemplate, 
                 StringRedisTemplate stringRedisReadTemplate, 
                 RedisTemplate<String, Object> redisTemplate, 
-                RedisTemplate<String, Object> redisReadTemplate){
+                RedisTemplate<String, Object> redisReadTemplate,
+                RedisCacheMetrics metrics,
+                RedisReadRouter readRouter){
         super(objectMapper, stringRedisTemplate, stringRedisReadTemplate, redisTemplate, redisReadTemplate);
+        this.metrics = metrics;
+        this.readRouter = readRouter;
     }
 
     /**
@@ -36,14 +72,71 @@ public class RedisCacheZSetService extends RedisCacheBaseService {
     public void zAdd(String key, Object value, double score) {
         try{
             String jsonValue = serialize(value);
-            redisTemplate.opsForZSet().add(key, jsonValue, score);
+            metrics.record("zadd", key, RedisCacheMetrics.MASTER, () ->
+                redisTemplate.opsForZSet().add(key, jsonValue, score));
+            metrics.payload(key, "write", jsonValue.length());
+            readRouter.markWritten(key);
         } catch (Exception e) {
             log.warn("redis ZSet 멤버 추가 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
         }
     }
 
     /**
-     * ZSet 에 다수 멤버 추가
+     * 멤버 추가 후 점수 상위 maxSize개만 남기고 TTL 갱신 (ZADD + ZREMRANGEBYRANK + EXPIRE, 파이프라인 1 round trip)
+     */
+    public void zAdd(String key, Object value, double score, long maxSize, long ttlSeconds) {
+        try {
+            byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+            byte[] member = serialize(value).getBytes(StandardCharsets.UTF_8);
+            metrics.record("zadd", key, RedisCacheMetrics.MASTER, () ->
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    connection.zSetCommands().zAdd(rawKey, score, member);
+                    if (maxSize > 0) {
+                        connection.zSetCommands().zRemRange(rawKey, 0, -(maxSize + 1));
+                    }
+                    if (ttlSeconds > 0) {
+                        connection.keyCommands().expire(rawKey, ttlSeconds);
+                    }
+                    return null;
+                }));
+            readRouter.markWritten(key);
+        } catch (Exception e) {
+            log.warn("redis ZSet 멤버 추가 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * ZSet 단일 멤버 삭제
+    */
+    public void zRemove(String key, Object value) {
+        try {
+            String jsonValue = serialize(value);
+            metrics.record("zrem", key, RedisCacheMetrics.MASTER, () ->
+                redisTemplate.opsForZSet().remove(key, jsonValue));
+            readRouter.markWritten(key);
+        } catch (Exception e) {
+            log.warn("redis ZSet 멤버 삭제 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 점수 구간 멤버 일괄 삭제 (ZREMRANGEBYSCORE)
+    */
+    public void zRemoveRangeByScore(String key, double minScore, double maxScore) {
+        try {
+            metrics.record("zremrangebyscore", key, RedisCacheMetrics.MASTER, () ->
+                redisTemplate.opsForZSet().removeRangeByScore(key, minScore, maxScore));
+            readRouter.markWritten(key);
+        } catch (Exception e) {
+            log.warn("redis ZSet 점수 구간 삭제 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * ZSet 전체 교체.
+     * 임시 키에 전체 멤버를 ZADD 한 뒤 TTL을 설정하고 RENAME으로 교체하며, 모든 명령을 하나의 파이프라인(1 round trip)으로 전송한다.
+     * 임시 키에는 첫 ZADD 직후 짧은 안전 TTL을 걸고 실패 시 삭제하므로, RENAME 전에 중단되어도 남지 않는다.
+     * 교체 중에도 조회 측은 이전 ZSET 전체 또는 새 ZSET 전체만 보게 된다.
     */
     public <T> void zAddAll(String key, List<T> values, Function<T, Double> scoreExtractor, long ttlSeconds) {
         if (values == null || values.isEmpty()) {
@@ -52,32 +145,122 @@ public class RedisCacheZSetService extends RedisCacheBaseService {
         }
         
         try {
-            // 기존 데이터 삭제
-            redisTemplate.delete(key);
-            
-            int count = 0;
+            Set<Tuple> tuples = new LinkedHashSet<>(values.size());
             for (T value : values) {
                 try {
-                    String jsonValue = serialize(value);
-                    double score = scoreExtractor.apply(value);
-                    redisTemplate.opsForZSet().add(key, jsonValue, score);
-                    count++;
+                    byte[] member = serialize(value).getBytes(StandardCharsets.UTF_8);
+                    tuples.add(new DefaultTuple(member, scoreExtractor.apply(value)));
                 } catch (Exception e) {
-                    log.warn("ZSET 항목 추가 중 오류 - key: {}, error: {}", key, e.getMessage());
+                    log.warn("ZSET 항목 직렬화 중 오류 - key: {}, error: {}", key, e.getMessage());
                 }
             }
-            
-            // TTL 설정
-            if (ttlSeconds > 0) {
-                setTtl(key, ttlSeconds);
+            if (tuples.isEmpty()) {
+                return;
             }
+
+            byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+            byte[] tempKey = (key + TEMP_KEY_SUFFIX + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+            List<Set<Tuple>> chunks = chunk(tuples, ZADD_CHUNK_SIZE);
+
+            try {
+                metrics.record("zadd_all", key, RedisCacheMetrics.MASTER, () ->
+                    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                        for (int i = 0; i < chunks.size(); i++) {
+                            connection.zSetCommands().zAdd(tempKey, chunks.get(i));
+                            if (i == 0) {
+                                connection.keyCommands().expire(tempKey, TEMP_KEY_TTL_SECONDS);
+                            }
+                        }
+                        // RENAME은 TTL을 그대로 옮기므로 최종 TTL(또는 만료 없음)로 바꾼 뒤 교체
+                        if (ttlSeconds > 0) {
+                            connection.keyCommands().expire(tempKey, ttlSeconds);
+                        } else {
+                            connection.keyCommands().persist(tempKey);
+                        }
+                        connection.keyCommands().rename(tempKey, rawKey);
+                        return null;
+                    }));
+            } catch (Exception e) {
+                deleteQuietly(tempKey);
+                throw e;
+            }
+            metrics.payload(key, "write", tuples.stream().mapToLong(tuple -> tuple.getValue().length).sum());
+            readRouter.markWritten(key);
             
-            log.debug("ZSET 일괄 추가 완료 - key: {}, count: {}", key, count);
+            log.debug("ZSET 일괄 교체 완료 - key: {}, count: {}", key, tuples.size());
         } catch (Exception e) {
             log.error("ZSET 일괄 추가 실패 - key: {}, error: {}", key, e.getMessage(), e);
         }
     }
 
+    /**
+     * 재구성 결과를 기존 ZSET에 합침.
+     * values를 임시 키에 ZADD 한 뒤 대상 키 + 임시 키 + sourceKeys를 ZUNIONSTORE(AGGREGATE MAX)로 대상 키에 저장하고
+     * 점수 상위 maxSize개만 남긴다. RENAME으로 교체하면 재구성 중 대상 키나 sourceKeys에 추가된 멤버가 사라지므로,
+     * DB 조회 이후 커밋된 멤버를 보존해야 할 때 사용한다. 임시 키는 zAddAll과 같이 안전 TTL을 걸고 실패 시 삭제한다.
+     */
+    public <T> void zMergeAll(String key, List<T> values, Function<T, Double> scoreExtractor,
+                              List<String> sourceKeys, long maxSize, long ttlSeconds) {
+        try {
+            Set<Tuple> tuples = new LinkedHashSet<>(values.size());
+            for (T value : values) {
+                try {
+                    byte[] member = serialize(value).getBytes(StandardCharsets.UTF_8);
+                    tuples.add(new DefaultTuple(member, scoreExtractor.apply(value)));
+                } catch (Exception e) {
+                    log.warn("ZSET 항목 직렬화 중 오류 - key: {}, error: {}", key, e.getMessage());
+                }
+            }
+
+            byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+            byte[] tempKey = (key + TEMP_KEY_SUFFIX + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+            List<byte[]> sets = new ArrayList<>();
+            sets.add(rawKey);
+            sets.add(tempKey);
+            sourceKeys.forEach(sourceKey -> sets.add(sourceKey.getBytes(StandardCharsets.UTF_8)));
+            byte[][] rawSets = sets.toArray(byte[][]::new);
+            List<Set<Tuple>> chunks = chunk(tuples, ZADD_CHUNK_SIZE);
+
+            try {
+                metrics.record("zmerge_all", key, RedisCacheMetrics.MASTER, () ->
+                    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                        for (int i = 0; i < chunks.size(); i++) {
+                            connection.zSetCommands().zAdd(tempKey, chunks.get(i));
+                            if (i == 0) {
+                                connection.keyCommands().expire(tempKey, TEMP_KEY_TTL_SECONDS);
+                            }
+                        }
+                        connection.zSetCommands().zUnionStore(rawKey, Aggregate.MAX, Weights.fromSetCount(rawSets.length), rawSets);
+                        connection.keyCommands().del(tempKey);
+                        if (maxSize > 0) {
+                            connection.zSetCommands().zRemRange(rawKey, 0, -(maxSize + 1));
+                        }
+                        if (ttlSeconds > 0) {
+                            connection.keyCommands().expire(rawKey, ttlSeconds);
+                        }
+                        return null;
+                    }));
+            } catch (Exception e) {
+                deleteQuietly(tempKey);
+                throw e;
+            }
+            metrics.payload(key, "write", tuples.stream().mapToLong(tuple -> tuple.getValue().length).sum());
+            readRouter.markWritten(key);
+
+            log.debug("ZSET 병합 완료 - key: {}, count: {}", key, tuples.size());
+        } catch (Exception e) {
+            log.error("ZSET 병합 실패 - key: {}, error: {}", key, e.getMessage(), e);
+        }
+    }
+
+    private void deleteQuietly(byte[] rawKey) {
+        try {
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.keyCommands().del(rawKey));
+        } catch (Exception e) {
+            log.warn("ZSET 임시 키 삭제 실패 - key: {}, error: {}", new String(rawKey, StandardCharsets.UTF_8), e.getMessage());
+        }
+    }
+
     /**
      * ZSET 일괄 추가 (기본 TTL 사용)
      */
@@ -85,19 +268,149 @@ public class RedisCacheZSetService extends RedisCacheBaseService {
         zAddAll(key, values, scoreExtractor, dayTtl);
     }
 
+    /**
+     * 이미 존재하는 ZSET에만 멤버 추가 후 점수 상위 maxSize개로 자른다 (Lua 1회, 원자적).
+     * 키가 없으면 추가하지 않으므로, 전체 재구성 전의 빈 키에 일부 멤버만 들어가 완전한 목록처럼 보이는 일이 없다.
+     *
+     * @return 추가 여부 (키가 없거나 오류면 false)
+     */
+    public boolean zAddIfExists(String key, Object value, double score, long maxSize) {
+        try {
+            String jsonValue = serialize(value);
+            Long added = metrics.record("zadd_if_exists", key, RedisCacheMetrics.MASTER, () ->
+                stringRedisTemplate.execute(ADD_IF_EXISTS_SCRIPT, List.of(key),
+                    jsonValue, Double.toString(score), Long.toString(maxSize)));
+            readRouter.markWritten(key);
+            return added != null && added == 1L;
+        } catch (Exception e) {
+            log.warn("redis ZSet 조건부 멤버 추가 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 여러 멤버 점수를 같은 값만큼 증감 (ZINCRBY 여러 번 + EXPIRE, 파이프라인 1 round trip)
+     */
+    public void zIncrementAll(String key, Collection<?> values, double delta, long ttlSeconds) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        try {
+            byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+            List<byte[]> members = values.stream()
+                .map(value -> serialize(value).getBytes(StandardCharsets.UTF_8))
+                .toList();
+            metrics.record("zincrby", key, RedisCacheMetrics.MASTER, () ->
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    for (byte[] member : members) {
+                        connection.zSetCommands().zIncrBy(rawKey, delta, member);
+                    }
+                    if (ttlSeconds > 0) {
+                        connection.keyCommands().expire(rawKey, ttlSeconds);
+                    }
+                    return null;
+                }));
+            readRouter.markWritten(key);
+        } catch (Exception e) {
+            log.warn("redis ZSet 점수 증감 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 여러 ZSET을 가중치 합산하여 destKey에 저장 (ZUNIONSTORE WEIGHTS + EXPIRE, 파이프라인 1 round trip).
+     * 없는 원본 키는 빈 ZSET으로 취급된다.
+     */
+    public void zUnionStore(String destKey, List<String> keys, List<Double> weights, long ttlSeconds) {
+        if (keys == null || keys.isEmpty()) {
+            return;
+        }
+        try {
+            byte[] rawDestKey = destKey.getBytes(StandardCharsets.UTF_8);
+            byte[][] rawKeys = keys.stream().map(key -> key.getBytes(StandardCharsets.UTF_8)).toArray(byte[][]::new);
+            Weights zWeights = Weights.of(weights.stream().mapToDouble(Double::doubleValue).toArray());
+            metrics.record("zunionstore", destKey, RedisCacheMetrics.MASTER, () ->
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    connection.zSetCommands().zUnionStore(rawDestKey, Aggregate.SUM, zWeights, rawKeys);
+                    if (ttlSeconds > 0) {
+                        connection.keyCommands().expire(rawDestKey, ttlSeconds);
+                    }
+                    return null;
+                }));
+            readRouter.markWritten(destKey);
+        } catch (Exception e) {
+            log.warn("ZSET 합산 저장 중 오류 발생 - key: {}, error: {}", destKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 점수 내림차순 순위 범위를 점수와 함께 조회 (ZREVRANGE WITHSCORES). 순서가 유지된 맵을 반환한다.
+     */
+    public <T> Map<T, Double> zRevRangeWithScores(String key, long start, long end, Class<T> clazz) {
+        try {
+            String target = readRouter.targetFor(key);
+            Set<ZSetOperations.TypedTuple<Object>> tuples = metrics.record("zrevrange", key, target, () ->
+                readTemplate(target).opsForZSet().reverseRangeWithScores(key, start, end));
+            
+            if (tuples == null || tuples.isEmpty()) {
+                metrics.miss(key, target);
+                return Collections.emptyMap();
+            }
+            
+            metrics.hit(key, target);
+            Map<T, Double> result = new LinkedHashMap<>();
+            for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+                T value = deserialize((String) tuple.getValue(), clazz);
+                if (value != null) {
+                    result.put(value, tuple.getScore());
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            log.warn("ZSET 점수 포함 조회 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * 점수 내림차순 순위 범위 조회 (ZREVRANGE, start/end 포함)
+     */
+    public <T> List<T> zRevRange(String key, long start, long end, Class<T> clazz) {
+        try {
+            String target = readRouter.targetFor(key);
+            Set<Object> values = metrics.record("zrevrange", key, target, () ->
+                readTemplate(target).opsForZSet().reverseRange(key, start, end));
+            
+            if (values == null || values.isEmpty()) {
+                metrics.miss(key, target);
+                return Collections.emptyList();
+            }
+            
+            metrics.hit(key, target);
+            metrics.payload(key, "read", payloadBytes(values));
+            return convertZSetMembersToObjects(values, clazz);
+        } catch (Exception e) {
+            log.warn("ZSET 역순 범위 조회 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
     /**
      * ZSet 에 범위 조회
     */
     public <T> List<T> zRangeByScore(String key, double minScore, double maxScore, Class<T> clazz) {
         try {
-            Set<Object> values = redisReadTemplate.opsForZSet()
-                .rangeByScore(key, minScore, maxScore);
+            String target = readRouter.targetFor(key);
+            Set<Object> values = metrics.record("zrangebyscore", key, target, () ->
+                readTemplate(target).opsForZSet().rangeByScore(key, minScore, maxScore));
             
             if (values == null || values.isEmpty()) {
+                metrics.miss(key, target);
                 log.debug("ZSET 범위 조회 결과 없음 - key: {}, min: {}, max: {}", key, minScore, maxScore);
                 return Collections.emptyList();
             }
             
+            metrics.hit(key, target);
+            metrics.payload(key, "read", payloadBytes(values));
             List<T> result = convertZSetMembersToObjects(values, clazz);
             return result;
         } catch (Exception e) {
@@ -107,17 +420,22 @@ public class RedisCacheZSetService extends RedisCacheBaseService {
     }
 
     /**
-     * ZSET 전체 조회
+     * ZSET 전체 조회 (1 round trip). 결과가 비어 있으면 캐시 미스로 간주하면 되므로 zExists와 함께 호출할 필요가 없다.
      */
     public <T> List<T> zRangeAll(String key, Class<T> clazz) {
         try {
-            Set<Object> values = redisReadTemplate.opsForZSet().range(key, 0, -1);
+            String target = readRouter.targetFor(key);
+            Set<Object> values = metrics.record("zrange", key, target, () ->
+                readTemplate(target).opsForZSet().range(key, 0, -1));
             
             if (values == null || values.isEmpty()) {
+                metrics.miss(key, target);
                 log.debug("ZSET 전체 조회 결과 없음 - key: {}", key);
                 return Collections.emptyList();
             }
             
+            metrics.hit(key, target);
+            metrics.payload(key, "read", payloadBytes(values));
             List<T> result = convertZSetMembersToObjects(values, clazz);
             log.debug("ZSET 전체 조회 완료 - key: {}, count: {}", key, result.size());
             return result;
@@ -132,7 +450,9 @@ public class RedisCacheZSetService extends RedisCacheBaseService {
      */
     public Long zCard(String key) {
         try {
-            Long count = redisReadTemplate.opsForZSet().zCard(key);
+            String target = readRouter.targetFor(key);
+            Long count = metrics.record("zcard", key, target, () ->
+                readTemplate(target).opsForZSet().zCard(key));
             return count != null ? count : 0L;
         } catch (Exception e) {
             log.warn("ZSET 개수 조회 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
@@ -145,7 +465,9 @@ public class RedisCacheZSetService extends RedisCacheBaseService {
      */
     public boolean zExists(String key) {
         try {
-            Long count = redisReadTemplate.opsForZSet().zCard(key);
+            String target = readRouter.targetFor(key);
+            Long count = metrics.record("zcard", key, target, () ->
+                readTemplate(target).opsForZSet().zCard(key));
             return count != null && count > 0;
         } catch (Exception e) {
             log.warn("ZSET 존재 확인 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
@@ -153,6 +475,31 @@ public class RedisCacheZSetService extends RedisCacheBaseService {
         }
     }
     
+    private RedisTemplate<String, Object> readTemplate(String target) {
+        return RedisCacheMetrics.MASTER.equals(target) ? redisTemplate : redisReadTemplate;
+    }
+
+    /** 멤버 문자열 길이 합 (근사 바이트 수) */
+    private static long payloadBytes(Set<Object> members) {
+        return members.stream().mapToLong(member -> member.toString().length()).sum();
+    }
+
+    private static <E> List<Set<E>> chunk(Set<E> source, int chunkSize) {
+        List<Set<E>> chunks = new ArrayList<>();
+        Set<E> current = new LinkedHashSet<>();
+        for (E element : source) {
+            current.add(element);
+            if (current.size() == chunkSize) {
+                chunks.add(current);
+                current = new LinkedHashSet<>();
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
     /**
      * ZSET에서 특정 score의 항목 조회
      */
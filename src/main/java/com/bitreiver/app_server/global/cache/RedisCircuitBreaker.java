@@ -0,0 +1,157 @@
+package com.bitreiver.app_server.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * master / replica 별 Redis 서킷 브레이커.
+ * 연결 실패·타임아웃이 연속으로 failure-threshold회 발생하면 OPEN 상태가 되어 open-ms 동안 호출을 즉시 실패시키고,
+ * 이후 HALF_OPEN 상태에서 시험 호출 1건의 결과로 CLOSED 복귀 또는 재차 OPEN을 결정한다.
+ * 시험 호출이 연결과 무관한 오류로 끝나면 연결은 정상이므로 CLOSED로 복귀하고,
+ * 결과가 보고되지 않은 채(취소된 reactive 호출 등) open-ms가 지나면 새 시험 호출을 허용한다.
+ * 상태는 redis.circuit.state 게이지(0=CLOSED, 1=HALF_OPEN, 2=OPEN)와 redis.circuit.transitions 카운터로 노출한다.
+ */
+@Slf4j
+@Component
+public class RedisCircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    @Value("${cache.circuit.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${cache.circuit.open-ms:10000}")
+    private long openMillis;
+
+    public RedisCircuitBreaker(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        circuit(RedisCacheMetrics.MASTER);
+        circuit(RedisCacheMetrics.REPLICA);
+    }
+
+    /**
+     * 호출 허용 여부. OPEN 상태에서 open-ms가 지나면 HALF_OPEN으로 전환하고 시험 호출 1건만 허용한다.
+     * HALF_OPEN 상태에서 시험 호출 결과 없이 open-ms가 지나면 시험 호출 1건을 다시 허용한다.
+     */
+    public boolean allowRequest(String target) {
+        Circuit circuit = circuit(target);
+        State state = circuit.state.get();
+        if (state == State.CLOSED) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        if (state == State.OPEN) {
+            if (now - circuit.openedAt.get() < openMillis) {
+                return false;
+            }
+            circuit.trialStartedAt.set(now);
+            return transition(target, circuit, State.OPEN, State.HALF_OPEN);
+        }
+        long trialStartedAt = circuit.trialStartedAt.get();
+        return now - trialStartedAt >= openMillis && circuit.trialStartedAt.compareAndSet(trialStartedAt, now);
+    }
+
+    public boolean isOpen(String target) {
+        return circuit(target).state.get() != State.CLOSED;
+    }
+
+    public void onSuccess(String target) {
+        Circuit circuit = circuit(target);
+        circuit.consecutiveFailures.set(0);
+        if (circuit.state.get() == State.HALF_OPEN) {
+            transition(target, circuit, State.HALF_OPEN, State.CLOSED);
+        }
+    }
+
+    public void onFailure(String target, Throwable error) {
+        Circuit circuit = circuit(target);
+        if (!isConnectionFailure(error)) {
+            // 응답을 받았으므로 연결은 정상 - 시험 호출이었다면 CLOSED로 복귀
+            onSuccess(target);
+            return;
+        }
+        if (circuit.state.get() == State.HALF_OPEN) {
+            circuit.openedAt.set(System.currentTimeMillis());
+            transition(target, circuit, State.HALF_OPEN, State.OPEN);
+            return;
+        }
+        if (circuit.consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            circuit.openedAt.set(System.currentTimeMillis());
+            transition(target, circuit, State.CLOSED, State.OPEN);
+        }
+    }
+
+    private boolean transition(String target, Circuit circuit, State from, State to) {
+        if (!circuit.state.compareAndSet(from, to)) {
+            return false;
+        }
+        if (to == State.CLOSED) {
+            circuit.consecutiveFailures.set(0);
+        }
+        Counter.builder("redis.circuit.transitions")
+            .description("Redis 서킷 브레이커 상태 전환 수")
+            .tag("target", target)
+            .tag("to", to.name())
+            .register(meterRegistry)
+            .increment();
+        log.warn("Redis 서킷 브레이커 상태 변경 - target: {}, {} -> {}", target, from, to);
+        return true;
+    }
+
+    /**
+     * 연결 실패·타임아웃만 장애로 간주 (역직렬화 오류 등은 제외)
+     */
+    private static boolean isConnectionFailure(Throwable error) {
+        return error instanceof DataAccessResourceFailureException
+            || error instanceof QueryTimeoutException;
+    }
+
+    private Circuit circuit(String target) {
+        return circuits.computeIfAbsent(target, t -> {
+            Circuit circuit = new Circuit();
+            Gauge.builder("redis.circuit.state", circuit, c -> c.state.get().ordinal())
+                .description("Redis 서킷 브레이커 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+                .tag("target", t)
+                .register(meterRegistry);
+            return circuit;
+        });
+    }
+
+    /**
+     * 서킷이 열려 있어 Redis 호출 없이 즉시 실패한 경우
+     */
+    public static class CircuitOpenException extends DataAccessResourceFailureException {
+        public CircuitOpenException(String target) {
+            super("Redis 서킷 브레이커 OPEN - target: " + target);
+        }
+    }
+
+    private static class Circuit {
+        private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final AtomicLong openedAt = new AtomicLong();
+        private final AtomicLong trialStartedAt = new AtomicLong();
+    }
+}
@@ -0,0 +1,143 @@
+package com.bitreiver.app_server.global.cache;
+
+import com.bitreiver.app_server.global.util.RedisKeyUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 앞단의 프로세스 내 L1 캐시 (선택 기능, cache.near.enabled).
+ * 설정된 키 네임스페이스(첫 ':' 앞 prefix)에 대해서만 역직렬화된 객체를 크기/TTL 제한으로 보관한다.
+ * set/delete 시 Redis pub/sub으로 모든 노드에 무효화를 전파하며,
+ * fetch-server 등 외부에서 직접 갱신하는 키는 TTL로만 최신성이 보장된다.
+ * 캐시된 객체는 요청 간 공유되므로 호출 측에서 수정하면 안 된다.
+ */
+@Slf4j
+@Component
+public class RedisNearCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:near:invalidate";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cache.near.enabled:false}")
+    private boolean enabled;
+
+    @Value("${cache.near.namespaces:coins,feargreed,economic-index,economic-events}")
+    private String[] namespaces;
+
+    @Value("${cache.near.max-size:500}")
+    private long maxSize;
+
+    @Value("${cache.near.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    /** namespace -> (redis key -> (타입 식별자 -> 역직렬화된 값)) */
+    private final Map<String, Cache<String, Map<String, Object>>> caches = new ConcurrentHashMap<>();
+    private Set<String> enabledNamespaces = Set.of();
+
+    public RedisNearCache(
+            @Qualifier("stringRedisTemplate") StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+        enabledNamespaces = Arrays.stream(namespaces)
+            .map(String::trim)
+            .filter(namespace -> !namespace.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+        for (String namespace : enabledNamespaces) {
+            Cache<String, Map<String, Object>> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "redis.near", Tags.of("namespace", namespace));
+            caches.put(namespace, cache);
+        }
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    public boolean isEnabledFor(String key) {
+        return enabled && key != null && enabledNamespaces.contains(RedisKeyUtil.namespaceOf(key));
+    }
+
+    /**
+     * @return 캐시된 값, 없으면 null
+     */
+    public Object get(String key, String typeId) {
+        Cache<String, Map<String, Object>> cache = caches.get(RedisKeyUtil.namespaceOf(key));
+        if (cache == null) {
+            return null;
+        }
+        Map<String, Object> values = cache.getIfPresent(key);
+        return values != null ? values.get(typeId) : null;
+    }
+
+    public void put(String key, String typeId, Object value) {
+        Cache<String, Map<String, Object>> cache = caches.get(RedisKeyUtil.namespaceOf(key));
+        if (cache == null || value == null) {
+            return;
+        }
+        cache.asMap()
+            .computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+            .put(typeId, value);
+    }
+
+    /**
+     * 로컬 L1을 비우고 다른 노드에도 무효화를 전파한다.
+     */
+    public void invalidate(String key) {
+        if (!isEnabledFor(key)) {
+            return;
+        }
+        invalidateLocal(key);
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, key);
+        } catch (Exception e) {
+            log.warn("L1 캐시 무효화 전파 중 오류 발생 - key: {}, error: {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        invalidateLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    void invalidateLocal(String key) {
+        Cache<String, Map<String, Object>> cache = caches.get(RedisKeyUtil.namespaceOf(key));
+        if (cache != null) {
+            cache.invalidate(key);
+        }
+    }
+}
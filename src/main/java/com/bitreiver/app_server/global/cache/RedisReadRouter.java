@@ -0,0 +1,157 @@
+package com.bitreiver.app_server.global.cache;
+
+import com.bitreiver.app_server.global.util.RedisKeyUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 읽기 라우팅 (master / replica).
+ * 다음 경우에는 replica 대신 master에서 읽는다.
+ * - master 고정 네임스페이스 (cache.routing.master-namespaces, 예: 직후 읽기가 필요한 oauth2 code)
+ * - 이 노드에서 최근 read-your-writes-ms 이내에 쓴 키
+ * - replica 복제 지연이 max-lag-seconds를 넘거나 복제 링크가 끊긴 경우, replica 서킷이 열린 경우
+ */
+@Slf4j
+@Component
+public class RedisReadRouter {
+
+    private final StringRedisTemplate stringRedisReadTemplate;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cache.routing.master-namespaces:oauth2,lock}")
+    private String[] masterNamespaces;
+
+    @Value("${cache.routing.read-your-writes-ms:2000}")
+    private long readYourWritesMillis;
+
+    @Value("${cache.routing.max-lag-seconds:5}")
+    private long maxLagSeconds;
+
+    private Set<String> pinnedNamespaces = Set.of();
+    private Cache<String, Boolean> recentWrites;
+    private volatile boolean replicaHealthy = true;
+
+    public RedisReadRouter(
+            @Qualifier("stringRedisReadTemplate") StringRedisTemplate stringRedisReadTemplate,
+            RedisCircuitBreaker circuitBreaker,
+            MeterRegistry meterRegistry) {
+        this.stringRedisReadTemplate = stringRedisReadTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        pinnedNamespaces = Arrays.stream(masterNamespaces)
+            .map(String::trim)
+            .filter(namespace -> !namespace.isEmpty())
+            .collect(Collectors.toUnmodifiableSet());
+        recentWrites = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMillis(readYourWritesMillis))
+            .build();
+        Gauge.builder("redis.replica.healthy", this, router -> router.replicaHealthy ? 1 : 0)
+            .description("replica 읽기 가능 여부 (1=정상, 0=master로 우회)")
+            .register(meterRegistry);
+    }
+
+    /**
+     * @return RedisCacheMetrics.MASTER 또는 RedisCacheMetrics.REPLICA
+     */
+    public String targetFor(String key) {
+        if (!isReplicaUsable()) {
+            return RedisCacheMetrics.MASTER;
+        }
+        if (pinnedNamespaces.contains(RedisKeyUtil.namespaceOf(key)) || recentWrites.getIfPresent(key) != null) {
+            return RedisCacheMetrics.MASTER;
+        }
+        return RedisCacheMetrics.REPLICA;
+    }
+
+    /**
+     * 여러 키 일괄 조회 시 하나라도 master 대상이면 master에서 읽는다.
+     */
+    public String targetFor(Collection<String> keys) {
+        for (String key : keys) {
+            if (RedisCacheMetrics.MASTER.equals(targetFor(key))) {
+                return RedisCacheMetrics.MASTER;
+            }
+        }
+        return RedisCacheMetrics.REPLICA;
+    }
+
+    /**
+     * 쓰기 직후 일정 시간 동안 해당 키를 master에서 읽도록 기록
+     */
+    public void markWritten(String key) {
+        recentWrites.put(key, Boolean.TRUE);
+    }
+
+    private boolean isReplicaUsable() {
+        return replicaHealthy && !circuitBreaker.isOpen(RedisCacheMetrics.REPLICA);
+    }
+
+    /**
+     * replica의 INFO replication으로 복제 링크 상태와 지연을 주기적으로 확인
+     */
+    @Scheduled(fixedDelayString = "${cache.routing.health-check-ms:5000}", initialDelay = 5000)
+    public void checkReplicaHealth() {
+        boolean healthy;
+        if (!circuitBreaker.allowRequest(RedisCacheMetrics.REPLICA)) {
+            // 서킷 OPEN 유지 중 - 이 확인이 HALF_OPEN 시험 호출 역할을 한다
+            healthy = false;
+        } else {
+            try {
+                Properties info = stringRedisReadTemplate.execute(
+                    (RedisCallback<Properties>) connection -> connection.serverCommands().info("replication"));
+                circuitBreaker.onSuccess(RedisCacheMetrics.REPLICA);
+                healthy = isReplicationHealthy(info);
+            } catch (Exception e) {
+                circuitBreaker.onFailure(RedisCacheMetrics.REPLICA, e);
+                log.warn("Redis replica 상태 확인 실패 - error: {}", e.getMessage());
+                healthy = false;
+            }
+        }
+        if (healthy != replicaHealthy) {
+            log.warn("Redis replica 읽기 라우팅 변경 - {}", healthy ? "replica 복귀" : "master로 우회");
+        }
+        replicaHealthy = healthy;
+    }
+
+    private boolean isReplicationHealthy(Properties info) {
+        if (info == null) {
+            return false;
+        }
+        // 단일 노드 구성(replica 주소가 master와 동일)인 경우
+        if ("master".equals(info.getProperty("role"))) {
+            return true;
+        }
+        if (!"up".equals(info.getProperty("master_link_status"))) {
+            return false;
+        }
+        String lastIo = info.getProperty("master_last_io_seconds_ago");
+        try {
+            return lastIo == null || Long.parseLong(lastIo.trim()) <= maxLagSeconds;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.bitreiver.app_server.global.cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청 1건당 Redis 캐시 호출 수를 집계하여 http.server.requests.redis.calls 메트릭으로 기록한다.
+ * 호출 수가 임계치를 넘는 요청은 로그로 남겨 Redis를 과도하게 호출하는 엔드포인트를 찾을 수 있도록 한다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RedisRequestMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cache.metrics.chatty-request-threshold:20}")
+    private int chattyRequestThreshold;
+
+    public RedisRequestMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        RedisCacheMetrics.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int calls = RedisCacheMetrics.endRequest();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+            DistributionSummary.builder("http.server.requests.redis.calls")
+                .description("HTTP 요청 1건당 Redis 캐시 호출 수")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(calls);
+
+            if (calls >= chattyRequestThreshold) {
+                log.warn("Redis 호출이 많은 요청 - {} {}, calls: {}", request.getMethod(), uri, calls);
+            }
+        }
+    }
+}
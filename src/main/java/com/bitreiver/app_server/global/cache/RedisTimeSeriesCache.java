@@ -0,0 +1,205 @@
+package com.bitreiver.app_server.global.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+import java.util.zip.CRC32;
+
+/**
+ * Redis에 JSON 리스트로 저장된 시계열(공포/탐욕 히스토리, 경제 지표, 롱숏 비율 등)을
+ * 버전(원본 바이트 지문)당 한 번만 디코딩하여 정렬된 primitive 키 배열로 인덱싱해 두는 프로세스 내 캐시.
+ *
+ * - 단건 조회는 이진 탐색(O(log n)), 구간 조회는 정렬 리스트의 subList 뷰로 반환한다.
+ * - Redis 원본은 recheck-ms 간격으로만 다시 읽으며, 지문(길이 + CRC32)이 같으면 디코딩을 생략한다.
+ * - 키가 삭제/만료되면 디코딩 결과를 버리고 empty를 반환한다.
+ * - Redis 오류 시에는 마지막으로 확인된 버전을 stale-grace-ms 동안만 계속 사용한다.
+ * - 키는 요청 값으로 만들어질 수 있으므로(예: 롱숏 symbol/period) 항목 수를 제한하고, 오래 조회되지 않은 항목은 버린다.
+ * - 반환되는 리스트와 원소는 공유 객체이므로 호출 측에서 수정하면 안 된다.
+ */
+@Slf4j
+@Component
+public class RedisTimeSeriesCache {
+
+    private static final int MAX_ENTRIES = 1_000;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofHours(1);
+
+    private final RedisCacheStringService stringCacheService;
+    private final RedisValueCodec valueCodec;
+
+    @Value("${cache.timeseries.recheck-ms:5000}")
+    private long recheckMillis;
+
+    @Value("${cache.timeseries.stale-grace-ms:60000}")
+    private long staleGraceMillis;
+
+    private final Cache<String, Entry> entries = Caffeine.newBuilder()
+        .maximumSize(MAX_ENTRIES)
+        .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+        .build();
+
+    public RedisTimeSeriesCache(RedisCacheStringService stringCacheService, RedisValueCodec valueCodec) {
+        this.stringCacheService = stringCacheService;
+        this.valueCodec = valueCodec;
+    }
+
+    /**
+     * 키의 시계열을 조회한다. 한 키에는 항상 같은 타입/정렬 키를 사용해야 한다.
+     *
+     * @param sortKey 원소의 정렬 키 (예: LocalDate.toEpochDay, epoch millis)
+     * @return Redis에 값이 없거나(삭제/만료 포함), 디코딩에 실패했거나, Redis 오류가 stale-grace-ms 이상 이어지면 empty
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<TimeSeries<T>> get(String key, TypeReference<List<T>> typeReference, ToLongFunction<T> sortKey) {
+        Entry entry = entries.get(key, k -> new Entry());
+        long now = System.currentTimeMillis();
+        if (now - entry.checkedAt < recheckMillis) {
+            return Optional.ofNullable((TimeSeries<T>) entry.series);
+        }
+
+        synchronized (entry) {
+            if (now - entry.checkedAt < recheckMillis) {
+                return Optional.ofNullable((TimeSeries<T>) entry.series);
+            }
+            byte[] raw;
+            try {
+                raw = stringCacheService.getRawOrNull(key);
+            } catch (Exception e) {
+                log.warn("시계열 조회 중 redis 오류 발생 - key: {}, error: {}", key, e.getMessage());
+                entry.checkedAt = now;
+                return Optional.ofNullable((TimeSeries<T>) staleOrClear(entry, now));
+            }
+            entry.checkedAt = now;
+            if (raw == null) {
+                // 키 삭제/만료: 이전 버전을 계속 제공하지 않음 (recheck-ms 동안은 다시 조회하지 않음)
+                entry.series = null;
+                return Optional.empty();
+            }
+
+            String version = fingerprint(raw);
+            if (entry.series == null || !version.equals(entry.series.version())) {
+                try {
+                    List<T> items = valueCodec.decode(key, raw, valueCodec.typeOf(typeReference));
+                    entry.series = TimeSeries.of(items != null ? items : List.of(), sortKey, version);
+                    log.debug("시계열 캐시 갱신 - key: {}, size: {}, version: {}", key, entry.series.size(), version);
+                } catch (Exception e) {
+                    log.warn("시계열 디코딩 오류 발생 - key: {}, error: {}", key, e.getMessage());
+                    return Optional.ofNullable((TimeSeries<T>) staleOrClear(entry, now));
+                }
+            }
+            entry.loadedAt = now;
+            return Optional.of((TimeSeries<T>) entry.series);
+        }
+    }
+
+    /**
+     * 마지막으로 Redis에서 확인한 시점부터 stale-grace-ms 이내면 직전 버전, 지났으면 버린 뒤 null
+     */
+    private TimeSeries<?> staleOrClear(Entry entry, long now) {
+        if (entry.series != null && now - entry.loadedAt > staleGraceMillis) {
+            entry.series = null;
+        }
+        return entry.series;
+    }
+
+    private static String fingerprint(byte[] raw) {
+        CRC32 crc = new CRC32();
+        crc.update(raw);
+        return raw.length + "-" + Long.toHexString(crc.getValue());
+    }
+
+    private static class Entry {
+        private volatile TimeSeries<?> series;
+        private volatile long checkedAt;
+        /** 현재 series가 Redis 원본과 일치함을 마지막으로 확인한 시각 */
+        private volatile long loadedAt;
+    }
+
+    /**
+     * 정렬 키 오름차순으로 정렬된 불변 시계열
+     */
+    public static class TimeSeries<T> {
+        private final long[] keys;
+        private final List<T> items;
+        private final String version;
+
+        private TimeSeries(long[] keys, List<T> items, String version) {
+            this.keys = keys;
+            this.items = items;
+            this.version = version;
+        }
+
+        static <T> TimeSeries<T> of(List<T> source, ToLongFunction<T> sortKey, String version) {
+            List<T> sorted = new ArrayList<>(source.size());
+            for (T item : source) {
+                if (item != null) {
+                    sorted.add(item);
+                }
+            }
+            sorted.sort(Comparator.comparingLong(sortKey));
+            long[] keys = new long[sorted.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = sortKey.applyAsLong(sorted.get(i));
+            }
+            return new TimeSeries<>(keys, Collections.unmodifiableList(sorted), version);
+        }
+
+        /** 정렬 키 오름차순 전체 */
+        public List<T> items() {
+            return items;
+        }
+
+        public int size() {
+            return items.size();
+        }
+
+        /** 원본 바이트 지문 (ETag 등 버전 비교용) */
+        public String version() {
+            return version;
+        }
+
+        /**
+         * [fromInclusive, toExclusive) 구간의 원소 (subList 뷰)
+         */
+        public List<T> range(long fromInclusive, long toExclusive) {
+            int from = lowerBound(fromInclusive);
+            int to = lowerBound(toExclusive);
+            return from < to ? items.subList(from, to) : List.of();
+        }
+
+        /**
+         * [fromInclusive, toExclusive) 구간의 첫 원소
+         */
+        public Optional<T> first(long fromInclusive, long toExclusive) {
+            int index = lowerBound(fromInclusive);
+            return index < keys.length && keys[index] < toExclusive
+                ? Optional.of(items.get(index))
+                : Optional.empty();
+        }
+
+        /** key 이상인 첫 위치 */
+        private int lowerBound(long key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.bitreiver.app_server.global.cache;
+
+import com.bitreiver.app_server.global.util.RedisKeyUtil;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Redis String 값 인코딩/디코딩 코덱.
+ *
+ * 저장 포맷:
+ * - 헤더 없음: 기존 UTF-8 JSON (fetch-server가 쓰는 값 및 마이그레이션 이전 값)
+ * - 0x01: Smile 바이너리
+ * - 0x02: Smile + Deflate
+ * - 0x03: JSON + Deflate
+ * JSON 텍스트는 0x01~0x03 바이트로 시작할 수 없으므로 첫 바이트만으로 포맷을 구분한다.
+ * 쓰기 포맷은 cache.codec.write(json | smile)로 선택하며, 읽기는 항상 모든 포맷을 지원한다.
+ * 압축은 cache.codec.compress-threshold-bytes를 양수로 지정한 경우에만 사용한다. (기본 비활성화)
+ * 기본 설정에서는 헤더 없는 JSON만 쓰므로 fetch-server, redis-cli 등 외부에서 같은 키를 그대로 읽을 수 있다.
+ */
+@Component
+public class RedisValueCodec {
+
+    static final byte HEADER_SMILE = 0x01;
+    static final byte HEADER_SMILE_DEFLATE = 0x02;
+    static final byte HEADER_JSON_DEFLATE = 0x03;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper smileMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cache.codec.write:json}")
+    private String writeFormat;
+
+    /** 이 크기 이상인 값을 Deflate 압축 (0 이하이면 압축하지 않음) */
+    @Value("${cache.codec.compress-threshold-bytes:0}")
+    private int compressThresholdBytes;
+
+    public RedisValueCodec(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.meterRegistry = meterRegistry;
+    }
+
+    public byte[] encode(String key, Object value) throws IOException {
+        long start = System.nanoTime();
+        boolean smile = "smile".equalsIgnoreCase(writeFormat);
+        byte[] body = smile ? smileMapper.writeValueAsBytes(value) : objectMapper.writeValueAsBytes(value);
+
+        String codec = smile ? "smile" : "json";
+        byte[] encoded;
+        if (compressThresholdBytes > 0 && body.length >= compressThresholdBytes) {
+            codec += "+deflate";
+            encoded = withHeader(smile ? HEADER_SMILE_DEFLATE : HEADER_JSON_DEFLATE, deflate(body));
+        } else {
+            encoded = smile ? withHeader(HEADER_SMILE, body) : body;
+        }
+
+        record(key, codec, "encode", start);
+        DistributionSummary.builder("redis.codec.encoded.bytes")
+            .description("인코딩된 Redis 값 크기")
+            .baseUnit("bytes")
+            .tag("namespace", RedisKeyUtil.namespaceOf(key))
+            .tag("codec", codec)
+            .register(meterRegistry)
+            .record(encoded.length);
+        return encoded;
+    }
+
+    public <T> T decode(String key, byte[] raw, JavaType type) throws IOException {
+        if (raw == null || raw.length == 0) {
+            return null;
+        }
+        long start = System.nanoTime();
+        String codec;
+        T value;
+        switch (raw[0]) {
+            case HEADER_SMILE -> {
+                codec = "smile";
+                value = smileMapper.readValue(raw, 1, raw.length - 1, type);
+            }
+            case HEADER_SMILE_DEFLATE -> {
+                codec = "smile+deflate";
+                value = smileMapper.readValue(inflate(raw), type);
+            }
+            case HEADER_JSON_DEFLATE -> {
+                codec = "json+deflate";
+                value = objectMapper.readValue(inflate(raw), type);
+            }
+            default -> {
+                codec = "json";
+                value = objectMapper.readValue(raw, type);
+            }
+        }
+        record(key, codec, "decode", start);
+        return value;
+    }
+
+    public JavaType typeOf(Class<?> clazz) {
+        return objectMapper.getTypeFactory().constructType(clazz);
+    }
+
+    public JavaType typeOf(TypeReference<?> typeReference) {
+        return objectMapper.getTypeFactory().constructType(typeReference);
+    }
+
+    private void record(String key, String codec, String operation, long startNanos) {
+        Timer.builder("redis.codec.time")
+            .description("Redis 값 인코딩/디코딩 소요 시간")
+            .tag("namespace", RedisKeyUtil.namespaceOf(key))
+            .tag("codec", codec)
+            .tag("operation", operation)
+            .register(meterRegistry)
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static byte[] withHeader(byte header, byte[] body) {
+        byte[] out = new byte[body.length + 1];
+        out[0] = header;
+        System.arraycopy(body, 0, out, 1, body.length);
+        return out;
+    }
+
+    private static byte[] deflate(byte[] body) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2 + 16);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /** 헤더 바이트를 제외한 나머지를 압축 해제 */
+    private static byte[] inflate(byte[] raw) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(raw, 1, raw.length - 1);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length * 3);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("압축된 redis 값이 손상되었습니다.");
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IOException("redis 값 압축 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.bitreiver.app_server.global.common.dto;
+
+import com.bitreiver.app_server.global.util.CursorUtil;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 기반 페이지 응답.
+ * nextCursor를 다음 요청의 cursor로 그대로 전달하면 이어지는 페이지를 조회한다.
+ * totalElements는 요청 시(includeTotal=true)에만 채워진다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorResponse<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private boolean hasNext;
+    private Long totalElements;
+
+    /**
+     * size + 1건으로 조회한 결과로 응답을 만든다. 초과분이 있으면 다음 페이지가 있는 것으로 보고,
+     * 마지막 행의 (정렬 시각, id)로 다음 커서를 만든다.
+     */
+    public static <E, T> CursorResponse<T> of(
+        List<E> rows,
+        int size,
+        Function<E, LocalDateTime> timeOf,
+        Function<E, ? extends Number> idOf,
+        Function<List<E>, List<T>> mapper,
+        Long totalElements
+    ) {
+        return of(rows, size, row -> CursorUtil.encode(timeOf.apply(row), idOf.apply(row).longValue()), mapper, totalElements);
+    }
+
+    /**
+     * size + 1건으로 조회한 결과로 응답을 만든다. 다음 커서는 마지막 행으로 cursorOf가 만든다.
+     */
+    public static <E, T> CursorResponse<T> of(
+        List<E> rows,
+        int size,
+        Function<E, String> cursorOf,
+        Function<List<E>, List<T>> mapper,
+        Long totalElements
+    ) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+
+        return CursorResponse.<T>builder()
+            .content(mapper.apply(page))
+            .size(size)
+            .nextCursor(nextCursor)
+            .hasNext(hasNext)
+            .totalElements(totalElements)
+            .build();
+    }
+}
@@ -4,11 +4,16 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -94,6 +99,36 @@ public class RedisConfig {
         return new StringRedisTemplate(redisReplicaConnectionFactory);
     }
 
+    // Master ReactiveRedisTemplate (쓰기용, 값은 RedisValueCodec으로 인코딩된 바이트)
+    @Bean
+    public ReactiveRedisTemplate<String, byte[]> reactiveRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        return createReactiveTemplate(redisConnectionFactory);
+    }
+
+    // Replica ReactiveRedisTemplate (읽기용)
+    @Bean
+    public ReactiveRedisTemplate<String, byte[]> reactiveRedisReadTemplate(RedisConnectionFactory redisReplicaConnectionFactory) {
+        return createReactiveTemplate(redisReplicaConnectionFactory);
+    }
+
+    private ReactiveRedisTemplate<String, byte[]> createReactiveTemplate(RedisConnectionFactory connectionFactory) {
+        RedisSerializationContext<String, byte[]> context = RedisSerializationContext
+            .<String, byte[]>newSerializationContext(new StringRedisSerializer())
+            .value(RedisSerializer.byteArray())
+            .hashKey(new StringRedisSerializer())
+            .hashValue(RedisSerializer.byteArray())
+            .build();
+        return new ReactiveRedisTemplate<>((ReactiveRedisConnectionFactory) connectionFactory, context);
+    }
+
+    // Pub/Sub 리스너 컨테이너 (near cache 무효화 채널 구독, Master)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper mapper = new ObjectMapper();
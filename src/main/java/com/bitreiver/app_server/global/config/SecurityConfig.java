@@ -78,7 +78,7 @@ public class SecurityConfig {
                     "/api/callback/**",  // fetch-server 콜백 API (내부용)
                     "/api/sse/**",  // SSE 엔드포인트 (인증 필요)
                     "/api/notifications/**",  // 알림 API (인증 필요)
-                    "/ws/**",       // WebSocket 인증 없이 공개 (주가 데이터)
+                    "/ws/**",       // WebSocket 인증 없이 공개 (주가, 게시글 실시간 이벤트)
                     "/health",
                     "/actuator/**",
                     "/",
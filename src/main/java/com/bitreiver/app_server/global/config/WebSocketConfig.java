@@ -36,5 +36,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws/coins")
             .setAllowedOriginPatterns("*")  // CORS 설정 (프로덕션에서는 특정 도메인으로 제한)
             .withSockJS();  // SockJS 폴백 지원 (브라우저 호환성)
+        
+        // 게시글 실시간 이벤트 (/topic/communities/{id} 구독)
+        registry.addEndpoint("/ws/communities")
+            .setAllowedOriginPatterns("*")
+            .withSockJS();
     }
 }
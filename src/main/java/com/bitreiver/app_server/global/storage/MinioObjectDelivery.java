@@ -0,0 +1,274 @@
+package com.bitreiver.app_server.global.storage;
+
+import com.bitreiver.app_server.global.common.exception.CustomException;
+import com.bitreiver.app_server.global.common.exception.ErrorCode;
+import io.minio.GetObjectArgs;
+import io.minio.GetPresignedObjectUrlArgs;
+import io.minio.MinioClient;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
+import io.minio.http.Method;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MinIO 객체(이미지) HTTP 응답.
+ * - redirect 모드: 권한 확인 후 짧은 만료의 presigned URL로 302 응답 (앱 서버가 본문을 중계하지 않음)
+ * - proxy 모드(기본): 객체 메타데이터로 Content-Type, ETag, Last-Modified, Cache-Control을 설정하고
+ *   조건부 요청(If-None-Match/If-Modified-Since)은 304, Range 요청은 해당 구간만 MinIO에서 읽어 206으로 응답한다.
+ * 업로드 파일명에 시각과 난수가 포함되어 같은 경로의 내용이 바뀌지 않으므로 max-age 동안 재검증 없이 캐시해도 된다.
+ */
+@Slf4j
+@Component
+public class MinioObjectDelivery {
+
+    private static final String REDIRECT_MODE = "redirect";
+
+    private final MinioClient minioClient;
+    /** presigned URL 서명용 (클라이언트가 접근하는 공개 주소가 따로 있으면 그 주소 기준) */
+    private final MinioClient presignClient;
+
+    @Value("${minio.bucket-name}")
+    private String bucketName;
+
+    @Value("${minio.delivery.mode:proxy}")
+    private String mode;
+
+    @Value("${minio.delivery.presigned-expiry-seconds:300}")
+    private int presignedExpirySeconds;
+
+    @Value("${minio.delivery.max-age-seconds:86400}")
+    private long maxAgeSeconds;
+
+    public MinioObjectDelivery(
+            MinioClient minioClient,
+            @Value("${minio.public-endpoint:}") String publicEndpoint,
+            @Value("${minio.access-key}") String accessKey,
+            @Value("${minio.secret-key}") String secretKey,
+            @Value("${minio.region:us-east-1}") String region) {
+        this.minioClient = minioClient;
+        // region을 지정해 서명 시 공개 주소로 region 조회 요청을 보내지 않도록 함
+        this.presignClient = publicEndpoint == null || publicEndpoint.isBlank()
+            ? minioClient
+            : MinioClient.builder()
+                .endpoint(publicEndpoint)
+                .credentials(accessKey, secretKey)
+                .region(region)
+                .build();
+    }
+
+    /**
+     * 객체 응답 (권한 확인은 호출 측에서 먼저 수행)
+     *
+     * @param requestHeaders 요청 헤더 (If-None-Match, If-Modified-Since, Range, If-Range)
+     * @param publicCache    공유 캐시(CDN/프록시) 저장 허용 여부. 사용자 전용 객체는 false
+     */
+    public ResponseEntity<Resource> deliver(String objectKey, HttpHeaders requestHeaders, boolean publicCache) {
+        if (REDIRECT_MODE.equalsIgnoreCase(mode)) {
+            return redirect(objectKey);
+        }
+
+        StatObjectResponse stat = stat(objectKey);
+        String eTag = "\"" + stat.etag() + "\"";
+        long lastModified = stat.lastModified().toInstant().toEpochMilli();
+        long size = stat.size();
+        CacheControl cacheControl = publicCache
+            ? CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePublic()
+            : CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePrivate();
+
+        if (isNotModified(requestHeaders, eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .lastModified(lastModified)
+                .cacheControl(cacheControl)
+                .build();
+        }
+
+        ResponseEntity.BodyBuilder builder;
+        long offset = 0;
+        long length = size;
+        long[] range = requestedRange(requestHeaders, eTag, lastModified, size);
+        if (range == null) {
+            builder = ResponseEntity.ok();
+        } else if (range.length == 0) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                .build();
+        } else {
+            offset = range[0];
+            length = range[1] - range[0] + 1;
+            builder = ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes " + range[0] + "-" + range[1] + "/" + size);
+        }
+
+        return builder
+            .contentType(contentTypeOf(stat, objectKey))
+            .contentLength(length)
+            .eTag(eTag)
+            .lastModified(lastModified)
+            .cacheControl(cacheControl)
+            .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+            .body(new InputStreamResource(open(objectKey, offset, length, size)));
+    }
+
+    private ResponseEntity<Resource> redirect(String objectKey) {
+        try {
+            String url = presignClient.getPresignedObjectUrl(
+                GetPresignedObjectUrlArgs.builder()
+                    .method(Method.GET)
+                    .bucket(bucketName)
+                    .object(objectKey)
+                    .expiry(presignedExpirySeconds)
+                    .build()
+            );
+            // URL 만료 전에 브라우저 캐시가 먼저 만료되도록 만료 시간의 절반만 캐시
+            return ResponseEntity.status(HttpStatus.FOUND)
+                .location(URI.create(url))
+                .cacheControl(CacheControl.maxAge(presignedExpirySeconds / 2, TimeUnit.SECONDS).cachePrivate())
+                .build();
+        } catch (Exception e) {
+            log.error("presigned URL 생성 실패: objectKey={}", objectKey, e);
+            throw new CustomException(ErrorCode.INTERNAL_ERROR, "이미지 주소 생성에 실패했습니다.");
+        }
+    }
+
+    private StatObjectResponse stat(String objectKey) {
+        try {
+            return minioClient.statObject(
+                StatObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(objectKey)
+                    .build()
+            );
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                throw new CustomException(ErrorCode.NOT_FOUND);
+            }
+            log.error("이미지 정보 조회 실패: objectKey={}", objectKey, e);
+            throw new CustomException(ErrorCode.INTERNAL_ERROR, "이미지 다운로드에 실패했습니다: " + e.getMessage());
+        } catch (Exception e) {
+            log.error("이미지 정보 조회 실패: objectKey={}", objectKey, e);
+            throw new CustomException(ErrorCode.INTERNAL_ERROR, "이미지 다운로드에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    private InputStream open(String objectKey, long offset, long length, long size) {
+        try {
+            GetObjectArgs.Builder args = GetObjectArgs.builder()
+                .bucket(bucketName)
+                .object(objectKey);
+            if (length < size) {
+                args.offset(offset).length(length);
+            }
+            return minioClient.getObject(args.build());
+        } catch (Exception e) {
+            log.error("이미지 다운로드 실패: objectKey={}", objectKey, e);
+            throw new CustomException(ErrorCode.INTERNAL_ERROR, "이미지 다운로드에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * If-None-Match가 있으면 ETag로만 비교하고, 없으면 If-Modified-Since(초 단위)로 비교
+     */
+    private static boolean isNotModified(HttpHeaders requestHeaders, String eTag, long lastModified) {
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            for (String candidate : ifNoneMatch) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if ("*".equals(tag) || eTag.equals(tag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        try {
+            long ifModifiedSince = requestHeaders.getIfModifiedSince();
+            return ifModifiedSince >= 0 && lastModified / 1000 <= ifModifiedSince / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Range 헤더 해석
+     *
+     * @return null이면 전체 응답, 빈 배열이면 416, 아니면 [시작, 끝] (여러 구간은 하나로 합침)
+     */
+    private static long[] requestedRange(HttpHeaders requestHeaders, String eTag, long lastModified, long size) {
+        String rangeHeader = requestHeaders.getFirst(HttpHeaders.RANGE);
+        if (rangeHeader == null || !ifRangeMatches(requestHeaders, eTag, lastModified)) {
+            return null;
+        }
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            // 해석할 수 없는 Range는 무시하고 전체 응답
+            return null;
+        }
+        if (ranges.isEmpty()) {
+            return null;
+        }
+
+        long start = Long.MAX_VALUE;
+        long end = -1;
+        for (HttpRange range : ranges) {
+            long rangeStart = range.getRangeStart(size);
+            if (size == 0 || rangeStart >= size) {
+                continue;
+            }
+            start = Math.min(start, rangeStart);
+            end = Math.max(end, range.getRangeEnd(size));
+        }
+        return end < 0 ? new long[0] : new long[]{start, end};
+    }
+
+    /**
+     * If-Range가 없거나 현재 ETag/Last-Modified와 같을 때만 Range를 적용
+     */
+    private static boolean ifRangeMatches(HttpHeaders requestHeaders, String eTag, long lastModified) {
+        String ifRange = requestHeaders.getFirst(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.trim().startsWith("\"")) {
+            return eTag.equals(ifRange.trim());
+        }
+        try {
+            return requestHeaders.getFirstDate(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static MediaType contentTypeOf(StatObjectResponse stat, String objectKey) {
+        String contentType = stat.contentType();
+        if (contentType != null && !contentType.isBlank() && !MediaType.APPLICATION_OCTET_STREAM_VALUE.equals(contentType)) {
+            try {
+                return MediaType.parseMediaType(contentType);
+            } catch (Exception e) {
+                log.debug("잘못된 Content-Type 메타데이터: objectKey={}, contentType={}", objectKey, contentType);
+            }
+        }
+        return MediaTypeFactory.getMediaType(objectKey).orElse(MediaType.APPLICATION_OCTET_STREAM);
+    }
+}
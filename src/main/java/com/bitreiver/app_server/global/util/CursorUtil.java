@@ -0,0 +1,120 @@
+package com.bitreiver.app_server.global.util;
+
+import com.bitreiver.app_server.global.common.exception.CustomException;
+import com.bitreiver.app_server.global.common.exception.ErrorCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이지네이션용 불투명 커서 인코딩 유틸리티.
+ * (정렬 시각, id) 또는 (점수, id) 쌍을 Base64URL 문자열로 감싸 클라이언트가 내부 값을 알 필요 없게 한다.
+ */
+public final class CursorUtil {
+
+    public static final int MAX_SIZE = 100;
+
+    // 첫 페이지: 모든 행보다 뒤에 있는 위치 (timestamp 컬럼과 비교 가능한 범위 내 최대값)
+    private static final Position FIRST = new Position(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+    // 오름차순 첫 페이지: 모든 행보다 앞에 있는 위치
+    private static final Position FIRST_ASCENDING = new Position(LocalDateTime.of(1, 1, 1, 0, 0), Long.MIN_VALUE);
+    private static final ScorePosition FIRST_SCORE = new ScorePosition(Float.MAX_VALUE, Long.MAX_VALUE);
+    private static final String SEPARATOR = "|";
+
+    private CursorUtil() {
+    }
+
+    public static String encode(LocalDateTime time, long id) {
+        String raw = time + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 해석합니다. 비어 있으면 첫 페이지 위치를 반환합니다.
+     */
+    public static Position decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String[] parts = split(cursor);
+            return new Position(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw invalidCursor();
+        }
+    }
+
+    /**
+     * 오름차순 정렬용으로 커서를 해석합니다. 비어 있으면 오름차순 첫 페이지 위치를 반환합니다.
+     */
+    public static Position decodeAscending(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST_ASCENDING;
+        }
+        return decode(cursor);
+    }
+
+    /**
+     * 점수(관련도 등) 내림차순 정렬용 커서
+     */
+    public static String encodeScore(float score, long id) {
+        String raw = Float.toString(score) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 점수 커서를 해석합니다. 비어 있으면 첫 페이지 위치를 반환합니다.
+     */
+    public static ScorePosition decodeScore(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST_SCORE;
+        }
+        try {
+            String[] parts = split(cursor);
+            return new ScorePosition(Float.parseFloat(parts[0]), Long.parseLong(parts[1]));
+        } catch (RuntimeException e) {
+            throw invalidCursor();
+        }
+    }
+
+    /**
+     * 페이지 크기를 1 ~ MAX_SIZE 범위로 제한합니다.
+     */
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    private static String[] split(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = raw.lastIndexOf(SEPARATOR);
+        return new String[] {raw.substring(0, separator), raw.substring(separator + 1)};
+    }
+
+    private static CustomException invalidCursor() {
+        return new CustomException(ErrorCode.BAD_REQUEST, "유효하지 않은 커서입니다.");
+    }
+
+    @Getter
+    public static class Position {
+        private final LocalDateTime time;
+        private final long id;
+
+        private Position(LocalDateTime time, long id) {
+            this.time = time;
+            this.id = id;
+        }
+    }
+
+    @Getter
+    public static class ScorePosition {
+        private final float score;
+        private final long id;
+
+        private ScorePosition(float score, long id) {
+            this.score = score;
+            this.id = id;
+        }
+    }
+}
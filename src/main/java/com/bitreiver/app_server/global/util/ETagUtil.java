@@ -0,0 +1,35 @@
+package com.bitreiver.app_server.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * HTTP 조건부 요청(If-None-Match)용 ETag 생성 유틸리티.
+ * 버전을 구성하는 값들을 해시하여 강한(strong) ETag 문자열을 만듭니다.
+ */
+public final class ETagUtil {
+
+    private static final int ETAG_BYTES = 16;
+
+    private ETagUtil() {
+    }
+
+    /**
+     * 구성 값들로부터 따옴표로 감싼 강한 ETag를 생성합니다. (null은 "-"로 취급)
+     */
+    public static String strong(Object... parts) {
+        StringBuilder source = new StringBuilder();
+        for (Object part : parts) {
+            source.append(part != null ? part : "-").append('|');
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(hash, 0, ETAG_BYTES) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.bitreiver.app_server.global.util;
+
+/**
+ * Redis 키 관련 유틸리티.
+ */
+public final class RedisKeyUtil {
+
+    private RedisKeyUtil() {
+    }
+
+    /**
+     * 키의 네임스페이스(첫 ':' 앞 prefix)를 반환합니다. ':'가 없으면 키 전체를 반환합니다.
+     * 예) "coins:exchange:UPBIT" -> "coins", "feargreed" -> "feargreed"
+     */
+    public static String namespaceOf(String key) {
+        if (key == null) {
+            return "unknown";
+        }
+        int separator = key.indexOf(':');
+        return separator >= 0 ? key.substring(0, separator) : key;
+    }
+}
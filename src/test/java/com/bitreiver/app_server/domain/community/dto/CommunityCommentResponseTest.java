@@ -0,0 +1,48 @@
+package com.bitreiver.app_server.domain.community.dto;
+
+import com.bitreiver.app_server.domain.community.entity.CommunityComment;
+import com.bitreiver.app_server.global.util.CursorUtil;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommunityCommentResponseTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_456_000);
+
+    @Test
+    void repliesNextCursorPointsAfterLastPreviewReply() {
+        List<CommunityCommentResponse> replies = List.of(reply(2L, BASE), reply(3L, BASE.plusSeconds(1)));
+
+        CommunityCommentResponse response = response(replies, 5);
+
+        assertTrue(response.getHasMoreReplies());
+        CursorUtil.Position position = CursorUtil.decodeAscending(response.getRepliesNextCursor());
+        assertEquals(BASE.plusSeconds(1), position.getTime());
+        assertEquals(3L, position.getId());
+    }
+
+    @Test
+    void noCursorWhenAllRepliesIncluded() {
+        CommunityCommentResponse response = response(List.of(reply(2L, BASE)), 1);
+
+        assertFalse(response.getHasMoreReplies());
+        assertNull(response.getRepliesNextCursor());
+    }
+
+    private static CommunityCommentResponse response(List<CommunityCommentResponse> replies, long replyCount) {
+        CommunityComment parent = CommunityComment.builder().id(1L).communityId(1).content("부모").createdAt(BASE).build();
+        return CommunityCommentResponse.from(parent, "user", null, 0L, 0L, null, replies, replyCount);
+    }
+
+    private static CommunityCommentResponse reply(long id, LocalDateTime createdAt) {
+        CommunityComment comment = CommunityComment.builder().id(id).communityId(1).parentId(1L).content("답글").createdAt(createdAt).build();
+        return CommunityCommentResponse.from(comment, "user", null, 0L, 0L, null, List.of());
+    }
+}
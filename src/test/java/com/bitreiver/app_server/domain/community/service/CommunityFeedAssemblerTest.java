@@ -0,0 +1,171 @@
+package com.bitreiver.app_server.domain.community.service;
+
+import com.bitreiver.app_server.domain.community.dto.CommunityListResponse;
+import com.bitreiver.app_server.domain.community.entity.CommunityReaction;
+import com.bitreiver.app_server.domain.community.entity.CommunitySummary;
+import com.bitreiver.app_server.domain.community.enums.ReactionType;
+import com.bitreiver.app_server.domain.community.repository.CommunityReactionRepository;
+import com.bitreiver.app_server.domain.user.entity.User;
+import com.bitreiver.app_server.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 목록 조립 시 게시글 수와 관계없이 쿼리 수가 일정한지 Hibernate Statistics로 확인한다.
+ */
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:feed;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+    "spring.jpa.hibernate.ddl-auto=none",
+    "spring.sql.init.schema-locations=classpath:db/community-feed-schema.sql",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CommunityFeedAssemblerTest {
+
+    private static final int AUTHOR_COUNT = 7;
+
+    @Autowired
+    private CommunityFeedAssembler communityFeedAssembler;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<User> authors = new ArrayList<>();
+    private UUID viewerId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < AUTHOR_COUNT; i++) {
+            User author = User.builder()
+                .id(UUID.randomUUID())
+                .email("author" + i + "@bitriever.com")
+                .nickname("author" + i)
+                .signupType((short) 0)
+                .build();
+            entityManager.persist(author);
+            authors.add(author);
+        }
+        viewerId = authors.get(0).getId();
+
+        for (int id = 1; id <= 50; id++) {
+            entityManager.createNativeQuery(
+                    "INSERT INTO communities (id, user_id, category, title, preview_extracted, created_at) "
+                        + "VALUES (?, ?, 'FREE', ?, true, ?)")
+                .setParameter(1, id)
+                .setParameter(2, authors.get(id % AUTHOR_COUNT).getId())
+                .setParameter(3, "title " + id)
+                .setParameter(4, LocalDateTime.now().minusMinutes(id))
+                .executeUpdate();
+            if (id % 2 == 0) {
+                entityManager.persist(CommunityReaction.builder()
+                    .userId(viewerId)
+                    .communityId(id)
+                    .reactionType(id % 4 == 0 ? ReactionType.LIKE : ReactionType.DISLIKE)
+                    .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void queryCountDoesNotGrowWithPageSize() {
+        assertEquals(2, statementsFor(loadPage(5), viewerId));
+        assertEquals(2, statementsFor(loadPage(50), viewerId));
+    }
+
+    @Test
+    void anonymousViewerSkipsReactionQuery() {
+        assertEquals(1, statementsFor(loadPage(50), null));
+    }
+
+    @Test
+    void cachedItemsNeedOnlyReactionQuery() {
+        List<CommunityListResponse> items = communityFeedAssembler.assemble(loadPage(50), null);
+        entityManager.clear();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        List<CommunityListResponse> withReactions = communityFeedAssembler.withViewerReactions(items, viewerId);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        for (CommunityListResponse item : withReactions) {
+            String expected = item.getId() % 2 != 0 ? null
+                : (item.getId() % 4 == 0 ? ReactionType.LIKE : ReactionType.DISLIKE).getCode();
+            assertEquals(expected, item.getUserReaction());
+        }
+    }
+
+    @Test
+    void assemblesAuthorAndViewerReaction() {
+        List<CommunityListResponse> items = communityFeedAssembler.assemble(loadPage(4), viewerId);
+
+        CommunityListResponse first = items.get(0);
+        assertEquals(1, first.getId());
+        assertEquals(authors.get(1).getNickname(), first.getUserNickname());
+        assertNull(first.getUserReaction());
+        assertEquals(ReactionType.LIKE.getCode(), items.get(3).getUserReaction());
+    }
+
+    private long statementsFor(List<CommunitySummary> page, UUID viewer) {
+        entityManager.clear();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        List<CommunityListResponse> items = communityFeedAssembler.assemble(page, viewer);
+
+        assertEquals(page.size(), items.size());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<CommunitySummary> loadPage(int size) {
+        return entityManager
+            .createQuery("SELECT c FROM CommunitySummary c ORDER BY c.id", CommunitySummary.class)
+            .setMaxResults(size)
+            .getResultList();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * 애플리케이션 클래스의 @ComponentScan이 슬라이스 필터를 무시하므로, 필요한 엔티티/리포지토리만 직접 구성
+     */
+    @Configuration
+    @EntityScan(basePackageClasses = {CommunitySummary.class, User.class})
+    @EnableJpaRepositories(
+        basePackageClasses = {CommunityReactionRepository.class, UserRepository.class},
+        includeFilters = @ComponentScan.Filter(
+            type = FilterType.ASSIGNABLE_TYPE,
+            classes = {CommunityReactionRepository.class, UserRepository.class}
+        )
+    )
+    @Import(CommunityFeedAssembler.class)
+    static class Config {
+    }
+}
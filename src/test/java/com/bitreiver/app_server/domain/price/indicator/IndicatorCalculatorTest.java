@@ -0,0 +1,141 @@
+package com.bitreiver.app_server.domain.price.indicator;
+
+import com.bitreiver.app_server.domain.price.enums.IndicatorType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndicatorCalculatorTest {
+
+    private static final double EPSILON = 1e-9;
+    private static final double NaN = Double.NaN;
+
+    private static final double[] CLOSES = {
+        44.34, 44.09, 44.15, 43.61, 44.33, 44.83, 45.10, 45.42, 45.84, 46.08,
+        45.89, 46.03, 45.61, 46.28, 46.28, 46.00, 46.03, 46.41, 46.22, 45.64
+    };
+
+    @Test
+    void sma() {
+        IndicatorCalculator.Result result = IndicatorCalculator.compute(IndicatorType.SMA, params(3), new double[]{1, 2, 3, 4, 5});
+
+        assertArrayEquals(new double[]{NaN, NaN, 2, 3, 4}, result.getSeries()[0], EPSILON);
+    }
+
+    @Test
+    void emaIsSeededWithSimpleAverage() {
+        // alpha = 2 / (3 + 1) = 0.5, 시드 = (1 + 2 + 3) / 3
+        IndicatorCalculator.Result result = IndicatorCalculator.compute(IndicatorType.EMA, params(3), new double[]{1, 2, 3, 4, 5});
+
+        assertArrayEquals(new double[]{NaN, NaN, 2, 3, 4}, result.getSeries()[0], EPSILON);
+        assertArrayEquals(new double[]{4}, result.getState(), EPSILON);
+    }
+
+    @Test
+    void rsiUsesWilderSmoothing() {
+        // 변화량 +1, -1, +1, +1 -> 평균 상승/하락 (0.5, 0.5) -> (0.75, 0.25) -> (0.875, 0.125)
+        IndicatorCalculator.Result result = IndicatorCalculator.compute(IndicatorType.RSI, params(2), new double[]{1, 2, 1, 2, 3});
+
+        assertArrayEquals(new double[]{NaN, NaN, 50, 75, 87.5}, result.getSeries()[0], EPSILON);
+        assertArrayEquals(new double[]{0.875, 0.125, 3}, result.getState(), EPSILON);
+    }
+
+    @Test
+    void rsiIsHundredWithoutLosses() {
+        IndicatorCalculator.Result result = IndicatorCalculator.compute(IndicatorType.RSI, params(2), new double[]{1, 2, 3, 4});
+
+        assertArrayEquals(new double[]{NaN, NaN, 100, 100}, result.getSeries()[0], EPSILON);
+    }
+
+    @Test
+    void macdOnLinearSeries() {
+        // fast EMA(2)와 slow EMA(3)는 선형 증가 구간에서 일정한 차이(0.5)를 유지
+        IndicatorParams params = IndicatorParams.builder().fastPeriod(2).slowPeriod(3).signalPeriod(2).build();
+        IndicatorCalculator.Result result = IndicatorCalculator.compute(IndicatorType.MACD, params, new double[]{1, 2, 3, 4, 5, 6});
+
+        double[][] series = result.getSeries();
+        assertArrayEquals(new double[]{NaN, NaN, 0.5, 0.5, 0.5, 0.5}, series[0], EPSILON);
+        assertArrayEquals(new double[]{NaN, NaN, NaN, 0.5, 0.5, 0.5}, series[1], EPSILON);
+        assertArrayEquals(new double[]{NaN, NaN, NaN, 0, 0, 0}, series[2], EPSILON);
+        assertArrayEquals(new double[]{5.5, 5, 0.5}, result.getState(), EPSILON);
+    }
+
+    @Test
+    void bollingerUsesPopulationStandardDeviation() {
+        IndicatorParams params = IndicatorParams.builder().period(3).multiplier(2.0).build();
+        IndicatorCalculator.Result result = IndicatorCalculator.compute(IndicatorType.BOLLINGER, params, new double[]{1, 2, 3, 5});
+
+        double band2 = 2 * Math.sqrt(2.0 / 3);
+        double band3 = 2 * Math.sqrt(14.0 / 9);
+        double[][] series = result.getSeries();
+        assertArrayEquals(new double[]{NaN, NaN, 2, 10.0 / 3}, series[0], EPSILON);
+        assertArrayEquals(new double[]{NaN, NaN, 2 + band2, 10.0 / 3 + band3}, series[1], EPSILON);
+        assertArrayEquals(new double[]{NaN, NaN, 2 - band2, 10.0 / 3 - band3}, series[2], EPSILON);
+    }
+
+    @Test
+    void inputShorterThanLookbackIsAllNaN() {
+        double[] closes = {1, 2, 3};
+        IndicatorParams params = IndicatorParams.builder()
+            .period(3).fastPeriod(2).slowPeriod(3).signalPeriod(2).multiplier(2.0)
+            .build();
+
+        // RSI는 period + 1개, MACD는 slowPeriod + signalPeriod - 1개가 필요
+        assertAllNaN(IndicatorCalculator.compute(IndicatorType.SMA, params(4), closes));
+        assertAllNaN(IndicatorCalculator.compute(IndicatorType.EMA, params(4), closes));
+        assertAllNaN(IndicatorCalculator.compute(IndicatorType.RSI, params, closes));
+        assertAllNaN(IndicatorCalculator.compute(IndicatorType.BOLLINGER, params(4), closes));
+        double[][] macd = IndicatorCalculator.compute(IndicatorType.MACD, params, closes).getSeries();
+        assertTrue(Double.isNaN(macd[1][2]));
+        assertTrue(Double.isNaN(macd[2][2]));
+    }
+
+    @Test
+    void emptyInput() {
+        for (IndicatorType type : IndicatorType.values()) {
+            IndicatorParams params = IndicatorParams.of(type, null, null, null, null, null);
+            double[][] series = IndicatorCalculator.compute(type, params, new double[0]).getSeries();
+
+            assertEquals(type.getSeriesNames().size(), series.length);
+            for (double[] values : series) {
+                assertEquals(0, values.length);
+            }
+        }
+    }
+
+    @Test
+    void nextMatchesFullComputation() {
+        for (IndicatorType type : IndicatorType.values()) {
+            IndicatorParams params = IndicatorParams.builder()
+                .period(5).fastPeriod(3).slowPeriod(6).signalPeriod(4).multiplier(2.0)
+                .build();
+            double[] history = Arrays.copyOf(CLOSES, CLOSES.length - 1);
+            double close = CLOSES[CLOSES.length - 1];
+
+            IndicatorCalculator.Result result = IndicatorCalculator.compute(type, params, history);
+            double[] tail = Arrays.copyOfRange(history, history.length - params.lookback(type), history.length);
+            double[] next = IndicatorCalculator.next(type, params, result.getState(), tail, close);
+
+            double[][] full = IndicatorCalculator.compute(type, params, CLOSES).getSeries();
+            for (int s = 0; s < full.length; s++) {
+                assertEquals(full[s][CLOSES.length - 1], next[s], 1e-6, type + " series " + s);
+            }
+        }
+    }
+
+    private static IndicatorParams params(int period) {
+        return IndicatorParams.builder().period(period).build();
+    }
+
+    private static void assertAllNaN(IndicatorCalculator.Result result) {
+        for (double[] values : result.getSeries()) {
+            for (double value : values) {
+                assertTrue(Double.isNaN(value));
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.bitreiver.app_server.global.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RedisCacheLoaderTest {
+
+    private static final String KEY = "community:feed:all";
+
+    private ValueOperations<String, String> valueOperations;
+    private RedisCacheLoader loader;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        loader = new RedisCacheLoader(mock(RedisCacheStringService.class), stringRedisTemplate, Runnable::run);
+        ReflectionTestUtils.setField(loader, "lockTtlMillis", 5000L);
+    }
+
+    @Test
+    void runExclusiveRunsTaskWhenLockAcquired() {
+        lockResult(true);
+
+        assertEquals(Optional.of("rebuilt"), loader.runExclusive(KEY, () -> "rebuilt"));
+    }
+
+    @Test
+    void runExclusiveSkipsWhenOtherNodeHoldsLock() {
+        lockResult(false);
+        AtomicInteger runs = new AtomicInteger();
+
+        assertTrue(loader.runExclusive(KEY, runs::incrementAndGet).isEmpty());
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void runExclusiveRunsLocallyWhenRedisFails() {
+        when(valueOperations.setIfAbsent(eq("lock:cache:" + KEY), anyString(), any(Duration.class)))
+            .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertEquals(Optional.of("rebuilt"), loader.runExclusive(KEY, () -> "rebuilt"));
+    }
+
+    @Test
+    void concurrentCallsOnSameNodeShareOneRun() throws Exception {
+        lockResult(true);
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<Integer>> first = executor.submit(() -> loader.runExclusive(KEY, () -> {
+                started.countDown();
+                await(release);
+                return runs.incrementAndGet();
+            }));
+            assertTrue(started.await(1, TimeUnit.SECONDS));
+            Future<Optional<Integer>> second = executor.submit(() -> loader.runExclusive(KEY, runs::incrementAndGet));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertEquals(Optional.of(1), first.get(1, TimeUnit.SECONDS));
+            assertEquals(Optional.of(1), second.get(1, TimeUnit.SECONDS));
+            assertEquals(1, runs.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void lockResult(boolean acquired) {
+        when(valueOperations.setIfAbsent(eq("lock:cache:" + KEY), anyString(), any(Duration.class))).thenReturn(acquired);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.bitreiver.app_server.global.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RedisCircuitBreakerTest {
+
+    private static final String TARGET = RedisCacheMetrics.MASTER;
+    private static final long OPEN_MILLIS = 100;
+
+    private RedisCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new RedisCircuitBreaker(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(circuitBreaker, "failureThreshold", 3);
+        ReflectionTestUtils.setField(circuitBreaker, "openMillis", OPEN_MILLIS);
+        circuitBreaker.init();
+    }
+
+    @Test
+    void opensAfterConsecutiveConnectionFailures() {
+        failConnection(2);
+        assertTrue(circuitBreaker.allowRequest(TARGET));
+        assertFalse(circuitBreaker.isOpen(TARGET));
+
+        failConnection(1);
+        assertTrue(circuitBreaker.isOpen(TARGET));
+        assertFalse(circuitBreaker.allowRequest(TARGET));
+    }
+
+    @Test
+    void successResetsConsecutiveFailures() {
+        failConnection(2);
+        circuitBreaker.onSuccess(TARGET);
+        failConnection(2);
+
+        assertFalse(circuitBreaker.isOpen(TARGET));
+    }
+
+    @Test
+    void nonConnectionFailuresDoNotOpen() {
+        for (int i = 0; i < 10; i++) {
+            circuitBreaker.onFailure(TARGET, new SerializationException("bad value"));
+        }
+
+        assertFalse(circuitBreaker.isOpen(TARGET));
+    }
+
+    @Test
+    void halfOpenAllowsSingleTrialAndClosesOnSuccess() throws InterruptedException {
+        openAndWait();
+
+        assertTrue(circuitBreaker.allowRequest(TARGET));
+        assertFalse(circuitBreaker.allowRequest(TARGET));
+
+        circuitBreaker.onSuccess(TARGET);
+        assertFalse(circuitBreaker.isOpen(TARGET));
+        assertTrue(circuitBreaker.allowRequest(TARGET));
+    }
+
+    @Test
+    void halfOpenReopensOnConnectionFailure() throws InterruptedException {
+        openAndWait();
+        assertTrue(circuitBreaker.allowRequest(TARGET));
+
+        failConnection(1);
+
+        assertTrue(circuitBreaker.isOpen(TARGET));
+        assertFalse(circuitBreaker.allowRequest(TARGET));
+        Thread.sleep(OPEN_MILLIS + 50);
+        assertTrue(circuitBreaker.allowRequest(TARGET));
+    }
+
+    @Test
+    void halfOpenClosesOnNonConnectionFailure() throws InterruptedException {
+        openAndWait();
+        assertTrue(circuitBreaker.allowRequest(TARGET));
+
+        // Redis가 응답했으므로 연결은 정상
+        circuitBreaker.onFailure(TARGET, new SerializationException("bad value"));
+
+        assertFalse(circuitBreaker.isOpen(TARGET));
+        assertTrue(circuitBreaker.allowRequest(TARGET));
+    }
+
+    @Test
+    void halfOpenAllowsNewTrialWhenResultIsNeverReported() throws InterruptedException {
+        openAndWait();
+        assertTrue(circuitBreaker.allowRequest(TARGET));
+        assertFalse(circuitBreaker.allowRequest(TARGET));
+
+        // 시험 호출이 취소되어 onSuccess/onFailure 모두 호출되지 않은 경우
+        Thread.sleep(OPEN_MILLIS + 50);
+
+        assertTrue(circuitBreaker.allowRequest(TARGET));
+        assertFalse(circuitBreaker.allowRequest(TARGET));
+        circuitBreaker.onSuccess(TARGET);
+        assertFalse(circuitBreaker.isOpen(TARGET));
+    }
+
+    private void openAndWait() throws InterruptedException {
+        failConnection(3);
+        assertFalse(circuitBreaker.allowRequest(TARGET));
+        Thread.sleep(OPEN_MILLIS + 50);
+    }
+
+    private void failConnection(int times) {
+        for (int i = 0; i < times; i++) {
+            circuitBreaker.onFailure(TARGET, new RedisConnectionFailureException("connection refused"));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.bitreiver.app_server.global.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisTimeSeriesCacheTest {
+
+    private static final String KEY = "economic:index:history";
+    private static final TypeReference<List<Long>> TYPE = new TypeReference<>() {};
+
+    private RedisCacheStringService stringCacheService;
+    private RedisTimeSeriesCache cache;
+
+    @BeforeEach
+    void setUp() {
+        stringCacheService = mock(RedisCacheStringService.class);
+        cache = new RedisTimeSeriesCache(stringCacheService, new RedisValueCodec(new ObjectMapper(), new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(cache, "recheckMillis", 0L);
+        ReflectionTestUtils.setField(cache, "staleGraceMillis", 60_000L);
+    }
+
+    @Test
+    void decodesAndSortsOncePerVersion() {
+        when(stringCacheService.getRawOrNull(KEY)).thenReturn(bytes("[3,1,2]"));
+
+        RedisTimeSeriesCache.TimeSeries<Long> first = get().orElseThrow();
+        RedisTimeSeriesCache.TimeSeries<Long> second = get().orElseThrow();
+
+        assertEquals(List.of(1L, 2L, 3L), first.items());
+        assertSame(first, second);
+        assertEquals(List.of(2L, 3L), first.range(2, 10));
+    }
+
+    @Test
+    void deletedKeyIsNotServedFromPreviousVersion() {
+        when(stringCacheService.getRawOrNull(KEY)).thenReturn(bytes("[1,2]"), (byte[]) null);
+
+        assertTrue(get().isPresent());
+        assertTrue(get().isEmpty());
+    }
+
+    @Test
+    void absentKeyIsNotRereadWithinRecheckInterval() {
+        ReflectionTestUtils.setField(cache, "recheckMillis", 60_000L);
+        when(stringCacheService.getRawOrNull(KEY)).thenReturn(null);
+
+        assertTrue(get().isEmpty());
+        assertTrue(get().isEmpty());
+        verify(stringCacheService, times(1)).getRawOrNull(KEY);
+    }
+
+    @Test
+    void redisErrorServesPreviousVersionWithinGrace() {
+        when(stringCacheService.getRawOrNull(KEY))
+            .thenReturn(bytes("[1,2]"))
+            .thenThrow(new RedisConnectionFailureException("down"));
+
+        RedisTimeSeriesCache.TimeSeries<Long> loaded = get().orElseThrow();
+
+        assertSame(loaded, get().orElseThrow());
+    }
+
+    @Test
+    void redisErrorAfterGraceReturnsEmpty() {
+        ReflectionTestUtils.setField(cache, "staleGraceMillis", -1L);
+        when(stringCacheService.getRawOrNull(KEY))
+            .thenReturn(bytes("[1,2]"))
+            .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertTrue(get().isPresent());
+        assertTrue(get().isEmpty());
+    }
+
+    @Test
+    void redisErrorIsNotRetriedWithinRecheckInterval() {
+        ReflectionTestUtils.setField(cache, "recheckMillis", 60_000L);
+        when(stringCacheService.getRawOrNull(KEY)).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertTrue(get().isEmpty());
+        assertTrue(get().isEmpty());
+        verify(stringCacheService, times(1)).getRawOrNull(KEY);
+    }
+
+    @Test
+    void entriesAreBoundedForArbitraryKeys() {
+        when(stringCacheService.getRawOrNull(anyString())).thenReturn(null);
+
+        for (int i = 0; i < 5_000; i++) {
+            assertTrue(cache.get("binance:longShortRatio:SYM" + i + ":5m", TYPE, Long::longValue).isEmpty());
+        }
+
+        Cache<?, ?> entries = (Cache<?, ?>) ReflectionTestUtils.getField(cache, "entries");
+        entries.cleanUp();
+        assertTrue(entries.estimatedSize() <= 1_000);
+    }
+
+    private Optional<RedisTimeSeriesCache.TimeSeries<Long>> get() {
+        return cache.get(KEY, TYPE, Long::longValue);
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,106 @@
+package com.bitreiver.app_server.global.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RedisValueCodecTest {
+
+    private static final String KEY = "coins:all";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private RedisValueCodec codec;
+    private Map<String, Object> value;
+    private JavaType type;
+
+    @BeforeEach
+    void setUp() {
+        codec = new RedisValueCodec(objectMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(codec, "writeFormat", "json");
+        ReflectionTestUtils.setField(codec, "compressThresholdBytes", 0);
+
+        value = new LinkedHashMap<>();
+        value.put("name", "비트코인");
+        value.put("prices", List.of(1, 2, 3));
+        value.put("description", "x".repeat(10_000));
+        type = codec.typeOf(new TypeReference<Map<String, Object>>() {});
+    }
+
+    @Test
+    void jsonWithoutThresholdIsPlainJson() throws Exception {
+        byte[] encoded = codec.encode(KEY, value);
+
+        // 외부 리더(fetch-server, redis-cli)가 그대로 읽을 수 있는 헤더 없는 JSON
+        assertEquals('{', encoded[0]);
+        assertEquals(value, objectMapper.readValue(new String(encoded, StandardCharsets.UTF_8), type));
+        assertEquals(value, codec.decode(KEY, encoded, type));
+    }
+
+    @Test
+    void jsonAboveThresholdIsDeflated() throws Exception {
+        ReflectionTestUtils.setField(codec, "compressThresholdBytes", 4096);
+
+        byte[] encoded = codec.encode(KEY, value);
+
+        assertEquals(RedisValueCodec.HEADER_JSON_DEFLATE, encoded[0]);
+        assertTrue(encoded.length < 10_000);
+        assertEquals(value, codec.decode(KEY, encoded, type));
+    }
+
+    @Test
+    void jsonBelowThresholdIsNotDeflated() throws Exception {
+        ReflectionTestUtils.setField(codec, "compressThresholdBytes", 1 << 20);
+
+        byte[] encoded = codec.encode(KEY, value);
+
+        assertEquals('{', encoded[0]);
+        assertEquals(value, codec.decode(KEY, encoded, type));
+    }
+
+    @Test
+    void smileRoundTrip() throws Exception {
+        ReflectionTestUtils.setField(codec, "writeFormat", "smile");
+
+        byte[] encoded = codec.encode(KEY, value);
+
+        assertEquals(RedisValueCodec.HEADER_SMILE, encoded[0]);
+        assertEquals(value, codec.decode(KEY, encoded, type));
+    }
+
+    @Test
+    void smileAboveThresholdIsDeflated() throws Exception {
+        ReflectionTestUtils.setField(codec, "writeFormat", "smile");
+        ReflectionTestUtils.setField(codec, "compressThresholdBytes", 4096);
+
+        byte[] encoded = codec.encode(KEY, value);
+
+        assertEquals(RedisValueCodec.HEADER_SMILE_DEFLATE, encoded[0]);
+        assertEquals(value, codec.decode(KEY, encoded, type));
+    }
+
+    @Test
+    void readsValuesWrittenInAnyFormat() throws Exception {
+        byte[] legacy = objectMapper.writeValueAsBytes(value);
+        ReflectionTestUtils.setField(codec, "writeFormat", "smile");
+        ReflectionTestUtils.setField(codec, "compressThresholdBytes", 4096);
+        byte[] compressed = codec.encode(KEY, value);
+
+        // 쓰기 설정과 무관하게 기존 JSON 값과 압축 값을 모두 읽음
+        ReflectionTestUtils.setField(codec, "writeFormat", "json");
+        ReflectionTestUtils.setField(codec, "compressThresholdBytes", 0);
+        assertEquals(value, codec.decode(KEY, legacy, type));
+        assertEquals(value, codec.decode(KEY, compressed, type));
+    }
+}
@@ -0,0 +1,177 @@
+package com.bitreiver.app_server.global.storage;
+
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.MinioClient;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MinioObjectDeliveryTest {
+
+    private static final String OBJECT_KEY = "community/1/image.png";
+    private static final String ETAG = "\"abc123\"";
+    private static final long SIZE = 1000;
+    private static final ZonedDateTime LAST_MODIFIED = ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private MinioClient minioClient;
+    private MinioObjectDelivery delivery;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        minioClient = mock(MinioClient.class);
+        StatObjectResponse stat = mock(StatObjectResponse.class);
+        when(stat.etag()).thenReturn("abc123");
+        when(stat.size()).thenReturn(SIZE);
+        when(stat.lastModified()).thenReturn(LAST_MODIFIED);
+        when(stat.contentType()).thenReturn("image/png");
+        when(minioClient.statObject(any(StatObjectArgs.class))).thenReturn(stat);
+        when(minioClient.getObject(any(GetObjectArgs.class))).thenReturn(mock(GetObjectResponse.class));
+
+        delivery = new MinioObjectDelivery(minioClient, "", "access", "secret", "us-east-1");
+        ReflectionTestUtils.setField(delivery, "bucketName", "bitriever");
+        ReflectionTestUtils.setField(delivery, "mode", "proxy");
+        ReflectionTestUtils.setField(delivery, "maxAgeSeconds", 86400L);
+    }
+
+    @Test
+    void fullResponseWithoutRange() throws Exception {
+        ResponseEntity<Resource> response = deliver(new HttpHeaders());
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(SIZE, response.getHeaders().getContentLength());
+        assertEquals(ETAG, response.getHeaders().getETag());
+        GetObjectArgs args = requestedObject();
+        assertNull(args.offset());
+        assertNull(args.length());
+    }
+
+    @Test
+    void suffixRangeReadsLastBytes() throws Exception {
+        ResponseEntity<Resource> response = deliver(headers(HttpHeaders.RANGE, "bytes=-100"));
+
+        assertPartial(response, 900, 999);
+    }
+
+    @Test
+    void openEndedRangeReadsToEnd() throws Exception {
+        ResponseEntity<Resource> response = deliver(headers(HttpHeaders.RANGE, "bytes=990-"));
+
+        assertPartial(response, 990, 999);
+    }
+
+    @Test
+    void rangePastEndIsNotSatisfiable() throws Exception {
+        ResponseEntity<Resource> response = deliver(headers(HttpHeaders.RANGE, "bytes=1000-1100"));
+
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, response.getStatusCode());
+        assertEquals("bytes */" + SIZE, response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        verify(minioClient, never()).getObject(any(GetObjectArgs.class));
+    }
+
+    @Test
+    void multipleRangesAreMerged() throws Exception {
+        ResponseEntity<Resource> response = deliver(headers(HttpHeaders.RANGE, "bytes=500-599,0-99,2000-"));
+
+        // 만족할 수 없는 구간(2000-)은 제외하고 나머지를 감싸는 하나의 구간으로 응답
+        assertPartial(response, 0, 599);
+    }
+
+    @Test
+    void weakIfNoneMatchIsNotModified() throws Exception {
+        ResponseEntity<Resource> response = deliver(headers(HttpHeaders.IF_NONE_MATCH, "W/" + ETAG));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(ETAG, response.getHeaders().getETag());
+        verify(minioClient, never()).getObject(any(GetObjectArgs.class));
+    }
+
+    @Test
+    void differentIfNoneMatchReturnsBody() throws Exception {
+        HttpHeaders headers = headers(HttpHeaders.IF_NONE_MATCH, "\"other\"");
+        // If-None-Match가 있으면 If-Modified-Since는 무시
+        headers.setIfModifiedSince(LAST_MODIFIED.toInstant().toEpochMilli());
+
+        assertEquals(HttpStatus.OK, deliver(headers).getStatusCode());
+    }
+
+    @Test
+    void ifModifiedSinceIsNotModified() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfModifiedSince(LAST_MODIFIED.toInstant().toEpochMilli());
+
+        assertEquals(HttpStatus.NOT_MODIFIED, deliver(headers).getStatusCode());
+    }
+
+    @Test
+    void ifRangeMatchAppliesRange() throws Exception {
+        HttpHeaders headers = headers(HttpHeaders.RANGE, "bytes=0-99");
+        headers.set(HttpHeaders.IF_RANGE, ETAG);
+
+        assertPartial(deliver(headers), 0, 99);
+    }
+
+    @Test
+    void ifRangeMismatchReturnsFullBody() throws Exception {
+        HttpHeaders headers = headers(HttpHeaders.RANGE, "bytes=0-99");
+        headers.set(HttpHeaders.IF_RANGE, "\"stale\"");
+
+        ResponseEntity<Resource> response = deliver(headers);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(SIZE, response.getHeaders().getContentLength());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        assertNull(requestedObject().offset());
+    }
+
+    @Test
+    void ifRangeWithOlderDateReturnsFullBody() throws Exception {
+        HttpHeaders headers = headers(HttpHeaders.RANGE, "bytes=0-99");
+        headers.setDate(HttpHeaders.IF_RANGE, LAST_MODIFIED.minusDays(1).toInstant().toEpochMilli());
+
+        assertEquals(HttpStatus.OK, deliver(headers).getStatusCode());
+    }
+
+    private ResponseEntity<Resource> deliver(HttpHeaders headers) {
+        return delivery.deliver(OBJECT_KEY, headers, true);
+    }
+
+    private void assertPartial(ResponseEntity<Resource> response, long start, long end) throws Exception {
+        assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatusCode());
+        assertEquals("bytes " + start + "-" + end + "/" + SIZE, response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        assertEquals(end - start + 1, response.getHeaders().getContentLength());
+        GetObjectArgs args = requestedObject();
+        assertEquals(start, args.offset());
+        assertEquals(end - start + 1, args.length());
+    }
+
+    private GetObjectArgs requestedObject() throws Exception {
+        ArgumentCaptor<GetObjectArgs> captor = ArgumentCaptor.forClass(GetObjectArgs.class);
+        verify(minioClient).getObject(captor.capture());
+        return captor.getValue();
+    }
+
+    private static HttpHeaders headers(String name, String value) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(name, value);
+        return headers;
+    }
+}
@@ -0,0 +1,46 @@
+CREATE TABLE users (
+    id UUID NOT NULL PRIMARY KEY,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    nickname VARCHAR(20) UNIQUE,
+    password_hash TEXT,
+    signup_type SMALLINT NOT NULL,
+    sns_provider SMALLINT,
+    sns_id VARCHAR(255),
+    profile_url VARCHAR(50),
+    is_active BOOLEAN,
+    is_connect_exchange BOOLEAN,
+    connected_exchanges VARCHAR,
+    upbit_last_trading_history_update_at TIMESTAMP(6),
+    bithumb_last_trading_history_update_at TIMESTAMP(6),
+    coinone_last_trading_history_update_at TIMESTAMP(6),
+    last_login_at TIMESTAMP(6),
+    created_at TIMESTAMP(6)
+);
+
+CREATE TABLE communities (
+    id INTEGER NOT NULL PRIMARY KEY,
+    user_id UUID NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    title VARCHAR(500) NOT NULL,
+    content VARCHAR,
+    hashtags VARCHAR ARRAY,
+    preview_text VARCHAR(100),
+    thumbnail_path VARCHAR(500),
+    preview_extracted BOOLEAN DEFAULT FALSE NOT NULL,
+    view_count BIGINT DEFAULT 0 NOT NULL,
+    like_count BIGINT DEFAULT 0 NOT NULL,
+    dislike_count BIGINT DEFAULT 0 NOT NULL,
+    comment_count BIGINT DEFAULT 0 NOT NULL,
+    search_vector VARCHAR,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE community_reactions (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    community_id INTEGER NOT NULL,
+    user_id UUID NOT NULL,
+    reaction_type VARCHAR(10) NOT NULL,
+    created_at TIMESTAMP(6),
+    CONSTRAINT uk_community_reactions_user_community UNIQUE (user_id, community_id)
+);